@@ -0,0 +1,87 @@
+package com.project.chamjimayo.service.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jayway.jsonpath.JsonPath;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 티맵 응답(src/test/resources/tmap/pois.json) 파싱 비교.
+ * jsonPath: 필드마다 JsonPath.read 로 문서를 다시 읽던 기존 방식 (11번)
+ * streaming: TmapPoiParser 로 한 번만 읽는 방식
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TmapPoiParserBenchmark {
+
+  private static final String POI = "$.searchPoiInfo.pois.poi[*].";
+
+  private byte[] responseBytes;
+  private String responseBody;
+  private TmapPoiParser tmapPoiParser;
+
+  @Setup
+  public void setup() throws IOException {
+    try (InputStream inputStream = getClass().getResourceAsStream("/tmap/pois.json")) {
+      responseBytes = inputStream.readAllBytes();
+    }
+    responseBody = new String(responseBytes, StandardCharsets.UTF_8);
+    tmapPoiParser = new TmapPoiParser(new ObjectMapper());
+  }
+
+  @Benchmark
+  public List<String> jsonPath() {
+    List<String> fullAddressRoadList = JsonPath.read(responseBody,
+        POI + "newAddressList.newAddress[*].fullAddressRoad");
+    List<String> upperAddrNameList = JsonPath.read(responseBody, POI + "upperAddrName");
+    List<String> middleAddrNameList = JsonPath.read(responseBody, POI + "middleAddrName");
+    List<String> lowerAddrNameList = JsonPath.read(responseBody, POI + "lowerAddrName");
+    List<String> firstNoList = JsonPath.read(responseBody, POI + "firstNo");
+    List<String> secondNoList = JsonPath.read(responseBody, POI + "secondNo");
+    List<String> nameList = JsonPath.read(responseBody, POI + "name");
+    List<String> frontLatList = JsonPath.read(responseBody, POI + "frontLat");
+    List<String> noorLatList = JsonPath.read(responseBody, POI + "noorLat");
+    List<String> frontLonList = JsonPath.read(responseBody, POI + "frontLon");
+    List<String> noorLonList = JsonPath.read(responseBody, POI + "noorLon");
+
+    List<String> result = new ArrayList<>();
+    for (int i = 0; i < fullAddressRoadList.size(); i++) {
+      double latitude = (Double.parseDouble(frontLatList.get(i))
+          + Double.parseDouble(noorLatList.get(i))) / 2.0;
+      double longitude = (Double.parseDouble(frontLonList.get(i))
+          + Double.parseDouble(noorLonList.get(i))) / 2.0;
+      result.add(fullAddressRoadList.get(i) + upperAddrNameList.get(i)
+          + middleAddrNameList.get(i) + lowerAddrNameList.get(i) + firstNoList.get(i)
+          + secondNoList.get(i) + nameList.get(i) + latitude + longitude);
+    }
+    return result;
+  }
+
+  @Benchmark
+  public List<String> streaming() throws IOException {
+    List<String> result = new ArrayList<>();
+    for (TmapPoi poi : tmapPoiParser.parse(responseBytes)) {
+      result.add(poi.getFullAddressRoad() + poi.getLotNumberAddress() + poi.getName()
+          + poi.getLatitude() + poi.getLongitude());
+    }
+    return result;
+  }
+}
@@ -0,0 +1,86 @@
+package com.project.chamjimayo.service.nearby;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 서울 범위의 임의 좌표 50,000개에서 반경 안의 화장실 찾기 비교.
+ * haversine: 후보마다 조회 지점의 삼각함수까지 다시 계산하던 기존 방식
+ * distanceQuery: DistanceQuery 로 근사 판정 후 경계 근처만 Haversine 으로 계산하는 방식
+ * (정확도는 DistanceQueryTest 에서 확인한다)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DistanceBenchmark {
+
+  private static final int SIZE = 50_000;
+
+  // 서울시청
+  private static final double LATITUDE = 37.5663;
+  private static final double LONGITUDE = 126.9779;
+
+  @Param({"500", "3000", "20000"})
+  private double radiusMeters;
+
+  private double[] latitudes;
+  private double[] longitudes;
+  private double[] latitudesRad;
+  private double[] longitudesRad;
+  private double[] cosLatitudes;
+  private int[] outIndexes;
+  private double[] outDistances;
+
+  @Setup
+  public void setup() {
+    Random random = new Random(42);
+    latitudes = new double[SIZE];
+    longitudes = new double[SIZE];
+    latitudesRad = new double[SIZE];
+    longitudesRad = new double[SIZE];
+    cosLatitudes = new double[SIZE];
+    for (int i = 0; i < SIZE; i++) {
+      latitudes[i] = 37.41 + random.nextDouble() * 0.31;
+      longitudes[i] = 126.76 + random.nextDouble() * 0.47;
+      latitudesRad[i] = Math.toRadians(latitudes[i]);
+      longitudesRad[i] = Math.toRadians(longitudes[i]);
+      cosLatitudes[i] = Math.cos(latitudesRad[i]);
+    }
+    outIndexes = new int[SIZE];
+    outDistances = new double[SIZE];
+  }
+
+  @Benchmark
+  public int haversine() {
+    int found = 0;
+    for (int i = 0; i < SIZE; i++) {
+      double distance = GeoDistance.haversine(LATITUDE, LONGITUDE, latitudes[i], longitudes[i]);
+      if (distance <= radiusMeters) {
+        outIndexes[found] = i;
+        outDistances[found] = distance;
+        found++;
+      }
+    }
+    return found;
+  }
+
+  @Benchmark
+  public int distanceQuery() {
+    return new DistanceQuery(LATITUDE, LONGITUDE, radiusMeters)
+        .scan(latitudesRad, longitudesRad, cosLatitudes, SIZE, outIndexes, outDistances);
+  }
+}
@@ -4,7 +4,7 @@ import com.project.chamjimayo.controller.dto.request.GoogleInAppPurchaseRequest;
 import com.project.chamjimayo.controller.dto.response.ApiStandardResponse;
 import com.project.chamjimayo.controller.dto.response.ErrorResponse;
 import com.project.chamjimayo.controller.dto.response.PointResponse;
-import com.project.chamjimayo.controller.dto.response.RefundResponse;
+import com.project.chamjimayo.controller.dto.response.RefundResultResponse;
 import com.project.chamjimayo.security.CustomUserDetails;
 import com.project.chamjimayo.service.InAppPurchaseService;
 import com.project.chamjimayo.service.RefundService;
@@ -18,7 +18,6 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -58,7 +57,7 @@ public class InAppPurchaseController {
     return ResponseEntity.ok(ApiStandardResponse.success(dto.toResponse()));
   }
 
-  @Operation(summary = "포인트 충전 환불", description = "받은 환불 정보를 가지고 포인트 환불 처리")
+  @Operation(summary = "포인트 충전 환불", description = "마지막 동기화 이후 새로 무효화된 구매만 포인트 환불 처리 (주기적으로도 실행됨)")
   @ApiResponses({
       @ApiResponse(responseCode = "200", description = "포인트 환불 성공"),
       @ApiResponse(responseCode = "400", description = "요청 변수 에러",
@@ -68,8 +67,8 @@ public class InAppPurchaseController {
                   + "\"msg\":\"환불 실패.\"} }")))
   })
   @PostMapping("/refund")
-  public ResponseEntity<ApiStandardResponse<List<RefundResponse>>> processRefund() {
-    List<RefundResponse> result = refundService.processRefund();
+  public ResponseEntity<ApiStandardResponse<RefundResultResponse>> processRefund() {
+    RefundResultResponse result = refundService.processRefund();
     return ResponseEntity.ok(ApiStandardResponse.success(result));
   }
 }
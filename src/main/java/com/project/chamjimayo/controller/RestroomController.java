@@ -3,9 +3,13 @@ package com.project.chamjimayo.controller;
 import com.project.chamjimayo.controller.dto.PageDto;
 import com.project.chamjimayo.controller.dto.response.ApiStandardResponse;
 import com.project.chamjimayo.controller.dto.request.EnrollRestroomRequest;
+import com.project.chamjimayo.controller.dto.request.EquipmentReportRequest;
 import com.project.chamjimayo.controller.dto.response.EndOfUsingRestroomResponse;
+import com.project.chamjimayo.controller.dto.response.EquipmentReportResponse;
 import com.project.chamjimayo.controller.dto.response.ErrorResponse;
 import com.project.chamjimayo.controller.dto.response.NearByResponse;
+import com.project.chamjimayo.controller.dto.response.RestroomChangesResponse;
+import com.project.chamjimayo.controller.dto.response.RestroomClusterResponse;
 import com.project.chamjimayo.controller.dto.response.RestroomDetailResponse;
 import com.project.chamjimayo.service.dto.EndOfUsingRestroomDto;
 import com.project.chamjimayo.service.dto.RestroomDetailDto;
@@ -15,8 +19,13 @@ import com.project.chamjimayo.controller.dto.request.UsingRestroomRequest;
 import com.project.chamjimayo.controller.dto.response.UsingRestroomResponse;
 import com.project.chamjimayo.security.CustomUserDetails;
 import com.project.chamjimayo.service.RestroomService;
+import com.project.chamjimayo.service.cluster.RestroomClusterService;
+import com.project.chamjimayo.service.sync.RestroomSyncService;
+import com.project.chamjimayo.service.tile.RestroomTileService;
 import com.project.chamjimayo.service.dto.EnrollRestroomDto;
 import com.project.chamjimayo.service.dto.UsingRestroomDto;
+import com.project.chamjimayo.service.nearby.NearByFilter;
+import com.project.chamjimayo.service.operatinghour.OperatingHours;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.enums.ParameterIn;
@@ -26,8 +35,15 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import javax.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -44,7 +60,14 @@ import org.springframework.web.bind.annotation.RestController;
 @RequestMapping("/api/restroom")
 public class RestroomController {
 
+  private static final String MVT_MEDIA_TYPE = "application/vnd.mapbox-vector-tile";
+
+  private static final String VIEW_LITE = "lite";
+
   private final RestroomService restroomService;
+  private final RestroomClusterService restroomClusterService;
+  private final RestroomTileService restroomTileService;
+  private final RestroomSyncService restroomSyncService;
 
   @Operation(summary = "공공화장실 데이터 입력", description = "공공화장실 데이터를 가져와 DB에 저장")
   @ApiResponses({
@@ -72,6 +95,28 @@ public class RestroomController {
         ApiStandardResponse.success( restroomService.enrollRestroom(dto).toResponse()));
   }
 
+  @Operation(summary = "유료화장실 일괄 등록",
+      description = "여러 유료화장실 정보를 한 번에 받아 DB에 저장, 하나라도 실패하면 전부 저장하지 않음")
+  @ApiResponses({
+      @ApiResponse(responseCode = "200", description = "유료화장실 일괄 등록 성공"),
+      @ApiResponse(responseCode = "400", description = "요청 변수 에러",
+          content = @Content(schema = @Schema(implementation = ErrorResponse.class),
+              examples = @ExampleObject(value = "{ \"code\": \"20\", \"msg\": \"fail\","
+                  + " \"data\": {\"status\": \" RESTROOM_NAME_DUPLICATE_EXCEPTION\", "
+                  + "\"msg\":\"화장실명이 이미 존재합니다.\"} }")))
+  })
+  @PostMapping("/enroll/batch")
+  public ResponseEntity<ApiStandardResponse<List<RestroomResponse>>> enrollRestrooms(
+      @RequestBody List<EnrollRestroomRequest> enrollRestroomRequests) {
+    List<EnrollRestroomDto> dtos = enrollRestroomRequests.stream()
+        .map(EnrollRestroomRequest::toDto)
+        .collect(Collectors.toList());
+    List<RestroomResponse> responses = restroomService.enrollRestrooms(dtos).stream()
+        .map(EnrollRestroomDto::toResponse)
+        .collect(Collectors.toList());
+    return ResponseEntity.ok(ApiStandardResponse.success(responses));
+  }
+
   @Operation(summary = "주변 유/무료 화장실리스트",
       description = "받은 좌표값으로부터 설정한 거리 내부에 있는 화장실 리스트를 반환, 거리 순으로 화장실 정렬, 거리를 설정하지 않으면 default로 1KM")
   @ApiResponses({
@@ -83,29 +128,137 @@ public class RestroomController {
                   + "\"msg\":\"주변에 화장실이 존재하지 않습니다.\"} }")))
   })
   @Parameter(name = "sortBy", schema = @Schema(type = "string"),
-      in = ParameterIn.QUERY, example = "distance / rating_asc / rating_des", description = "default = distance")
+      in = ParameterIn.QUERY, example = "distance / rating_asc / rating_des / walking",
+      description = "default = distance, walking 은 가까운 후보를 보행 경로 거리 순으로 정렬 (보행 경로 데이터가 없으면 distance 와 같음)")
   @Parameter(name = "page", schema = @Schema(type = "int"),
       in = ParameterIn.QUERY, example = "1", description = "받고 싶은 페이지 (입력하지 않으면 페이징 하지 않은 전체 데이터 반환)")
   @Parameter(name = "size", schema = @Schema(type = "int"),
       in = ParameterIn.QUERY, example = "10", description = "한 페이지에 담고싶은 데이터 개수")
   @Parameter(name = "publicOrPaidOrEntire", schema = @Schema(type = "string"),
       in = ParameterIn.PATH, example = "public/paid/entire")
+  @Parameter(name = "openNow", schema = @Schema(type = "boolean"),
+      in = ParameterIn.QUERY, example = "true", description = "지금 열려 있는 화장실만 (default = false)")
+  @Parameter(name = "openAt", schema = @Schema(type = "string"),
+      in = ParameterIn.QUERY, example = "2023-08-01T23:30",
+      description = "해당 시각(서울 시간)에 열려 있는 화장실만, openNow 보다 우선")
+  @Parameter(name = "unisex", schema = @Schema(type = "boolean"),
+      in = ParameterIn.QUERY, example = "true", description = "남녀 공용 여부 (입력하지 않으면 거르지 않음)")
+  @Parameter(name = "accessible", schema = @Schema(type = "boolean"),
+      in = ParameterIn.QUERY, example = "true", description = "장애인 화장실 여부")
+  @Parameter(name = "free", schema = @Schema(type = "boolean"),
+      in = ParameterIn.QUERY, example = "true", description = "true 면 0원, false 면 유료 요금이 있는 화장실만")
+  @Parameter(name = "maxPrice", schema = @Schema(type = "int"),
+      in = ParameterIn.QUERY, example = "1000", description = "최대 이용 요금")
+  @Parameter(name = "minRating", schema = @Schema(type = "float"),
+      in = ParameterIn.QUERY, example = "3.5", description = "최소 별점")
+  @Parameter(name = "availableFor", schema = @Schema(type = "string"),
+      in = ParameterIn.QUERY, example = "male / female",
+      description = "해당 성별이 지금 이용 가능한 대변기가 있는 화장실만 (male, female 외의 값이면 400)")
+  @Parameter(name = "view", schema = @Schema(type = "string"),
+      in = ParameterIn.QUERY, example = "full / lite",
+      description = "lite 면 지도 핀에 필요한 필드(NearByLiteResponse)만 반환 (default = full). "
+          + "Accept 헤더가 application/cbor 또는 application/x-jackson-smile 이면 바이너리로 응답")
   @GetMapping("/nearby/{publicOrPaidOrEntire}")
-  public ResponseEntity<ApiStandardResponse<List<NearByResponse>>> restroomNearBy(
+  public ResponseEntity<ApiStandardResponse<List<?>>> restroomNearBy(
       @PathVariable(value = "publicOrPaidOrEntire") String publicOrPaidOrEntire,
       @RequestParam(defaultValue = "1000") Double distance,
       @RequestParam double longitude,
       @RequestParam double latitude,
       @RequestParam(defaultValue = "distance") String sortBy,
       @RequestParam(defaultValue = "-1") int page,
-      @RequestParam(defaultValue = "10") int size) {
+      @RequestParam(defaultValue = "10") int size,
+      @RequestParam(defaultValue = "false") boolean openNow,
+      @RequestParam(required = false)
+      @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime openAt,
+      @RequestParam(required = false) Boolean unisex,
+      @RequestParam(required = false) Boolean accessible,
+      @RequestParam(required = false) Boolean free,
+      @RequestParam(required = false) Integer maxPrice,
+      @RequestParam(required = false) Float minRating,
+      @RequestParam(required = false) String availableFor,
+      @RequestParam(defaultValue = "full") String view) {
+    if (openAt == null && openNow) {
+      openAt = LocalDateTime.now(OperatingHours.ZONE);
+    }
+    NearByFilter filter = NearByFilter.create(unisex, accessible, free, maxPrice, minRating,
+        availableFor);
     RestroomNearByDto restroomNearByDto = new RestroomNearByDto(longitude,
-        latitude, publicOrPaidOrEntire, distance, sortBy);
+        latitude, publicOrPaidOrEntire, distance, sortBy, openAt, filter);
     PageDto pageDto = new PageDto(page,size);
+    if (VIEW_LITE.equals(view)) {
+      return ResponseEntity.ok(
+          ApiStandardResponse.success(restroomService.nearByLite(restroomNearByDto, pageDto)));
+    }
     return ResponseEntity.ok(
         ApiStandardResponse.success(restroomService.nearBy(restroomNearByDto,pageDto)));
   }
 
+  @Operation(summary = "지도 범위의 화장실 묶음",
+      description = "지도 화면 범위와 줌 레벨을 받아 화장실을 격자 칸 단위로 묶은 개수, 평균 좌표, 최저 요금, 최고 별점을 반환")
+  @ApiResponses({
+      @ApiResponse(responseCode = "200", description = "화장실 묶음 조회 성공"),
+      @ApiResponse(responseCode = "400", description = "요청 변수 에러",
+          content = @Content(schema = @Schema(implementation = ErrorResponse.class),
+              examples = @ExampleObject(value = "{ \"code\": \"29\", \"msg\": \"fail\","
+                  + " \"data\": {\"status\": \" INDEX_EXCEPTION\", "
+                  + "\"msg\":\"지도 범위가 올바르지 않습니다.\"} }")))
+  })
+  @Parameter(name = "zoom", schema = @Schema(type = "int"),
+      in = ParameterIn.QUERY, example = "12", description = "지도 줌 레벨 (0~16, 16보다 크면 16과 같음). "
+          + "화면 범위가 줌에 비해 너무 넓으면 더 낮은 줌 기준으로 묶어서 반환")
+  @GetMapping("/clusters")
+  public ResponseEntity<ApiStandardResponse<List<RestroomClusterResponse>>> restroomClusters(
+      @RequestParam double minLatitude,
+      @RequestParam double minLongitude,
+      @RequestParam double maxLatitude,
+      @RequestParam double maxLongitude,
+      @RequestParam int zoom) {
+    return ResponseEntity.ok(ApiStandardResponse.success(restroomClusterService.clusters(
+        minLatitude, minLongitude, maxLatitude, maxLongitude, zoom)));
+  }
+
+  @Operation(summary = "화장실 벡터 타일",
+      description = "타일 좌표(z/x/y)의 화장실 위치를 Mapbox Vector Tile 로 반환, 레이어 이름은 restrooms")
+  @ApiResponses({
+      @ApiResponse(responseCode = "200", description = "벡터 타일 조회 성공"),
+      @ApiResponse(responseCode = "400", description = "요청 변수 에러",
+          content = @Content(schema = @Schema(implementation = ErrorResponse.class),
+              examples = @ExampleObject(value = "{ \"code\": \"29\", \"msg\": \"fail\","
+                  + " \"data\": {\"status\": \" INDEX_EXCEPTION\", "
+                  + "\"msg\":\"타일 좌표가 올바르지 않습니다. (줌 10~18)\"} }")))
+  })
+  @GetMapping("/tiles/{zoom}/{x}/{y}.mvt")
+  public ResponseEntity<byte[]> restroomTile(@PathVariable int zoom, @PathVariable int x,
+      @PathVariable int y) {
+    return ResponseEntity.ok()
+        .contentType(MediaType.parseMediaType(MVT_MEDIA_TYPE))
+        .body(restroomTileService.tile(zoom, x, y));
+  }
+
+  @Operation(summary = "화장실 변경 동기화",
+      description = "앱의 로컬 화장실 데이터를 동기화. since 없이 요청하면 전체 목록부터 나눠서 반환하고, "
+          + "이후에는 since 이후에 바뀐 화장실과 삭제된 화장실 Id 만 반환. hasMore 가 true 면 nextToken 으로 바로 다시 요청. "
+          + "since 가 보관 기간보다 오래되면 resnapshot = true 와 함께 전체 목록부터 다시 반환")
+  @ApiResponses({
+      @ApiResponse(responseCode = "200", description = "화장실 변경 조회 성공"),
+      @ApiResponse(responseCode = "400", description = "요청 변수 에러",
+          content = @Content(schema = @Schema(implementation = ErrorResponse.class),
+              examples = @ExampleObject(value = "{ \"code\": \"29\", \"msg\": \"fail\","
+                  + " \"data\": {\"status\": \" INDEX_EXCEPTION\", "
+                  + "\"msg\":\"동기화 토큰이 올바르지 않습니다.\"} }")))
+  })
+  @Parameter(name = "since", schema = @Schema(type = "string"),
+      in = ParameterIn.QUERY, description = "이전 응답의 nextToken (처음이면 입력하지 않음)")
+  @Parameter(name = "size", schema = @Schema(type = "int"),
+      in = ParameterIn.QUERY, example = "500", description = "한 번에 받을 최대 화장실(변경) 수 (default = 500)")
+  @GetMapping("/changes")
+  public ResponseEntity<ApiStandardResponse<RestroomChangesResponse>> restroomChanges(
+      @RequestParam(required = false) String since,
+      @RequestParam(defaultValue = "500") int size) {
+    return ResponseEntity.ok(
+        ApiStandardResponse.success(restroomSyncService.changes(since, size)));
+  }
+
   @Operation(summary = "화장실 세부 정보", description = "받은 화장실Id로 화장실 세부 정보를 검색 및 반환")
   @ApiResponses({
       @ApiResponse(responseCode = "200", description = "화장실 세부 정보 조회 성공"),
@@ -123,6 +276,48 @@ public class RestroomController {
         ApiStandardResponse.success(restroomService.restroomDetail(dto).toResponse()));
   }
 
+  @Operation(summary = "여러 화장실 세부 정보",
+      description = "받은 화장실Id 목록의 세부 정보를 한 번에 검색해서 화장실Id별로 반환, 없는 화장실Id 는 결과에서 빠짐")
+  @ApiResponses({
+      @ApiResponse(responseCode = "200", description = "화장실 세부 정보 일괄 조회 성공"),
+      @ApiResponse(responseCode = "400", description = "요청 변수 에러",
+          content = @Content(schema = @Schema(implementation = ErrorResponse.class),
+              examples = @ExampleObject(value = "{ \"code\": \"29\", \"msg\": \"fail\","
+                  + " \"data\": {\"status\": \" INDEX_EXCEPTION\", "
+                  + "\"msg\":\"한 번에 1~100개의 화장실만 조회할 수 있습니다.\"} }")))
+  })
+  @PostMapping("/details")
+  public ResponseEntity<ApiStandardResponse<Map<Long, RestroomDetailResponse>>> restroomDetails(
+      @RequestBody List<Long> restroomIds) {
+    Map<Long, RestroomDetailResponse> responses = new LinkedHashMap<>();
+    for (RestroomDetailDto dto : restroomService.restroomDetails(restroomIds)) {
+      responses.put(dto.getRestroomId(), dto.toResponse());
+    }
+    return ResponseEntity.ok(ApiStandardResponse.success(responses));
+  }
+
+  @Operation(summary = "비품 신고",
+      description = "화장실 비품(휴지, 비누 등)이 있는지 신고, 신고를 반영한 비품이 있을 확률을 반환. "
+          + "같은 비품을 다시 신고하면 일정 시간 동안은 반영하지 않는다.")
+  @ApiResponses({
+      @ApiResponse(responseCode = "200", description = "비품 신고 성공"),
+      @ApiResponse(responseCode = "400", description = "요청 변수 에러",
+          content = @Content(schema = @Schema(implementation = ErrorResponse.class),
+              examples = @ExampleObject(value = "{ \"code\": \"35\", \"msg\": \"fail\","
+                  + " \"data\": {\"status\": \" EQUIPMENT_NOT_FOUND\", "
+                  + "\"msg\":\"비품을 찾을 수 없습니다\"} }")))
+  })
+  @Parameter(name = "Bearer-Token", description = "jwt token", schema = @Schema(type = "string"),
+      in = ParameterIn.HEADER, example = "Bearer e1323423534")
+  @PostMapping("/equipment/report")
+  public ResponseEntity<ApiStandardResponse<EquipmentReportResponse>> reportEquipment(
+      @Valid @RequestBody EquipmentReportRequest equipmentReportRequest,
+      @Parameter(hidden = true) @AuthenticationPrincipal
+      CustomUserDetails userDetails) {
+    return ResponseEntity.ok(ApiStandardResponse.success(restroomService.reportEquipment(
+        equipmentReportRequest.toDto(userDetails.getId())).toResponse()));
+  }
+
   @Operation(summary = "화장실 사용", description = "받은 화장실 Id로 화장실 사용 로직 수행")
   @ApiResponses({
       @ApiResponse(responseCode = "200", description = "화장실 사용 로직 성공"),
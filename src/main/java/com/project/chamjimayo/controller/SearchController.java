@@ -16,6 +16,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import javax.validation.Valid;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.Pattern;
@@ -70,7 +71,7 @@ public class SearchController {
   @Parameter(name = "Bearer-Token", description = "jwt token", schema = @Schema(type = "string"),
       in = ParameterIn.HEADER, example = "Bearer e1323423534")
   @GetMapping("/search")
-  public ResponseEntity<ApiStandardResponse<List<SearchResponse>>> getAddress(
+  public CompletableFuture<ResponseEntity<ApiStandardResponse<List<SearchResponse>>>> getAddress(
       @Parameter(description = "검색어", required = true, example = "스타벅스")
       @NotBlank(message = "검색어를 입력해주세요.")
       @Pattern(regexp = "^[a-zA-Z0-9가-힣\\s]*$", message = "검색어에는 특수문자를 포함할 수 없습니다.")
@@ -78,10 +79,47 @@ public class SearchController {
       @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails customUserDetails) {
     // 현재 로그인 한 유저의 userId를 가져옴
     Long userId = customUserDetails.getId();
-    List<SearchResponse> searchResponseList = searchService.searchAddress(searchWord, userId);
-    ApiStandardResponse<List<SearchResponse>> apiStandardResponse = ApiStandardResponse.success(
-        searchResponseList);
-    return ResponseEntity.ok(apiStandardResponse);
+    // Tmap 응답을 기다리는 동안 요청 스레드를 반환한다.
+    return searchService.searchAddress(searchWord, userId)
+        .thenApply(searchResponseList -> ResponseEntity.ok(
+            ApiStandardResponse.success(searchResponseList)));
+  }
+
+  /**
+   * 입력 중인 검색어로 자동완성 결과 반환 (초성, 입력 중인 글자도 가능) 예시:
+   * /address/search/autocomplete?keyword={입력 중인 검색어}
+   */
+  @Operation(summary = "검색어 자동완성",
+      description = "검색 기록에서 많이 클릭된 장소를 먼저 찾고, 없으면 검색 결과를 제공합니다.")
+  @ApiResponses({
+      @ApiResponse(responseCode = "200", description = "자동완성 결과 반환"),
+      @ApiResponse(responseCode = "400",
+          description = "1. 검색어를 입력해주세요. \t\n"
+              + "2. 검색어에는 특수문자를 포함할 수 없습니다.",
+          content = @Content(mediaType = "application/json",
+              schema = @Schema(implementation = ErrorResponse.class),
+              examples = @ExampleObject(value = "{ \"code\": \"01\", \"msg\": \"fail\","
+                  + " \"data\": {\"status\": \"INVALID_PARAMETER\", "
+                  + "\"msg\":\"검색어를 입력해주세요.\"} }"))),
+      @ApiResponse(responseCode = "404",
+          description = "1. Api 응답이 올바르지 않습니다.",
+          content = @Content(mediaType = "application/json",
+              schema = @Schema(implementation = ErrorResponse.class),
+              examples = @ExampleObject(value = "{ \"code\": \"10\", \"msg\": \"fail\","
+                  + " \"data\": {\"status\": \"API_NOT_FOUND\", "
+                  + "\"msg\":\"Api 응답이 올바르지 않습니다.\"} }")))})
+  @Parameter(name = "Bearer-Token", description = "jwt token", schema = @Schema(type = "string"),
+      in = ParameterIn.HEADER, example = "Bearer e1323423534")
+  @GetMapping("/search/autocomplete")
+  public CompletableFuture<ResponseEntity<ApiStandardResponse<List<SearchResponse>>>> autocomplete(
+      @Parameter(description = "입력 중인 검색어", required = true, example = "ㅅㅌㅂㅅ")
+      @NotBlank(message = "검색어를 입력해주세요.")
+      @Pattern(regexp = "^[a-zA-Z0-9가-힣ㄱ-ㅎㅏ-ㅣ\\s]*$",
+          message = "검색어에는 특수문자를 포함할 수 없습니다.")
+      @RequestParam("keyword") String keyword) {
+    return searchService.autocomplete(keyword)
+        .thenApply(searchResponseList -> ResponseEntity.ok(
+            ApiStandardResponse.success(searchResponseList)));
   }
 
   /**
@@ -191,7 +229,7 @@ public class SearchController {
       @Pattern(regexp = "^[a-zA-Z0-9가-힣\\s]*$", message = "가게 이름에는 특수문자를 포함할 수 없습니다.")
       @RequestParam("name") String name,
       @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails customUserDetails) {
-    searchService.deleteSearchHistoryByName(name);
+    searchService.deleteSearchHistoryByName(customUserDetails.getId(), name);
     ApiStandardResponse<String> apiStandardResponse = ApiStandardResponse.success("검색 기록 삭제 성공");
     return ResponseEntity.ok(apiStandardResponse);
   }
@@ -0,0 +1,78 @@
+package com.project.chamjimayo.controller.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.support.SimpleCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * 로컬(Caffeine) 캐시 설정.
+ * 캐시 조회가 트랜잭션 시작보다 먼저 일어나도록 캐시 advice 를 가장 바깥에 둔다.
+ */
+@Configuration
+@EnableCaching(order = Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class CacheConfig {
+
+  // 인증 필터에서 사용하는 유저 인증 정보 (key: 유저 id 문자열)
+  public static final String USER_DETAILS = "userDetails";
+
+  // /api/users/me 에서 사용하는 유저 상세 정보 (key: 유저 id)
+  public static final String USER_DETAILS_DTO = "userDetailsDto";
+
+  // DB에 없는 refresh token 해시 (negative cache)
+  public static final String UNKNOWN_REFRESH_TOKENS = "unknownRefreshTokens";
+
+  // 결제 완료로 확인된 인앱 결제 영수증 (key: 상품 id + 구매 토큰)
+  public static final String PURCHASE_RECEIPTS = "purchaseReceipts";
+
+  // 주소별 geocoding 결과 좌표 (key: 주소)
+  public static final String GEOCODES = "geocodes";
+
+  // 화장실 벡터 타일 (key: "z/x/y")
+  public static final String RESTROOM_TILES = "restroomTiles";
+
+  // 최근에 비품을 신고한 유저 (key: "유저 id:비품 id"), 만료 시간 동안 같은 신고를 다시 반영하지 않는다.
+  public static final String EQUIPMENT_REPORTERS = "equipmentReporters";
+
+  private final LocalCacheProperties localCacheProperties;
+
+  @Bean
+  public CacheManager cacheManager() {
+    SimpleCacheManager cacheManager = new SimpleCacheManager();
+    cacheManager.setCaches(List.of(
+        createCache(USER_DETAILS, 10_000, Duration.ofMinutes(10)),
+        createCache(USER_DETAILS_DTO, 10_000, Duration.ofMinutes(10)),
+        createCache(UNKNOWN_REFRESH_TOKENS, 100_000, Duration.ofMinutes(30)),
+        createCache(PURCHASE_RECEIPTS, 10_000, Duration.ofHours(1)),
+        createCache(GEOCODES, 50_000, Duration.ofDays(1)),
+        createCache(RESTROOM_TILES, 20_000, Duration.ofHours(1)),
+        createCache(EQUIPMENT_REPORTERS, 100_000, Duration.ofHours(1))
+    ));
+    return cacheManager;
+  }
+
+  private CaffeineCache createCache(String name, long defaultMaximumSize,
+      Duration defaultExpireAfterWrite) {
+    LocalCacheProperties.Spec spec = localCacheProperties.getSpecs()
+        .getOrDefault(name, new LocalCacheProperties.Spec());
+
+    long maximumSize = spec.getMaximumSize() == null
+        ? defaultMaximumSize : spec.getMaximumSize();
+    Duration expireAfterWrite = spec.getExpireAfterWrite() == null
+        ? defaultExpireAfterWrite : spec.getExpireAfterWrite();
+
+    return new CaffeineCache(name, Caffeine.newBuilder()
+        .maximumSize(maximumSize)
+        .expireAfterWrite(expireAfterWrite)
+        .recordStats()
+        .build());
+  }
+}
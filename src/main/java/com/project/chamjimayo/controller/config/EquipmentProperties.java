@@ -0,0 +1,22 @@
+package com.project.chamjimayo.controller.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@ConfigurationProperties(prefix = "equipment")
+@Component
+@Getter
+@Setter
+public class EquipmentProperties {
+
+  // 신고 점수가 절반으로 줄어드는 시간
+  private Duration reportHalfLife = Duration.ofDays(7);
+
+  // 신고가 없을 때의 사전 점수 ('있음', '없음')
+  private double priorPresent = 1.0;
+
+  private double priorAbsent = 1.0;
+}
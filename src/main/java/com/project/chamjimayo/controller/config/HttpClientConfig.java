@@ -0,0 +1,29 @@
+package com.project.chamjimayo.controller.config;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpClient.Redirect;
+import java.net.http.HttpClient.Version;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 모든 외부 api 호출이 같이 쓰는 HttpClient.
+ * 호스트별로 연결을 재사용(keep-alive)하고, 서버가 지원하면 HTTP/2 로 하나의 연결에서 여러 요청을 보낸다.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class HttpClientConfig {
+
+  private final HttpClientProperties httpClientProperties;
+
+  @Bean
+  public HttpClient httpClient() {
+    return HttpClient.newBuilder()
+        .version(Version.HTTP_2)
+        .connectTimeout(httpClientProperties.getConnectTimeout())
+        // 구글 드라이브 다운로드는 다른 호스트로 redirect 된다.
+        .followRedirects(Redirect.NORMAL)
+        .build();
+  }
+}
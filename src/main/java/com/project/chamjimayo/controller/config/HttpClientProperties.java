@@ -0,0 +1,47 @@
+package com.project.chamjimayo.controller.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 외부 api 호출 설정. 연결 시간 제한은 모든 호출에 공통으로 적용하고,
+ * 주소와 응답 시간 제한은 호출 대상(upstream)마다 따로 둔다.
+ */
+@ConfigurationProperties(prefix = "http-client")
+@Component
+@Getter
+@Setter
+public class HttpClientProperties {
+
+  private Duration connectTimeout = Duration.ofSeconds(2);
+
+  // 티맵 POI 검색
+  private Upstream tmap = new Upstream("https://apis.openapi.sk.com", Duration.ofSeconds(3));
+
+  // 네이버 cloud platform geocoding
+  private Upstream naver = new Upstream("https://naveropenapi.apigw.ntruss.com",
+      Duration.ofSeconds(3));
+
+  // 구글 드라이브에 공유된 공공 화장실 데이터 (파일이 커서 시간을 길게 둔다)
+  private Upstream publicRestroom = new Upstream("https://drive.google.com",
+      Duration.ofSeconds(60));
+
+  @Getter
+  @Setter
+  @NoArgsConstructor
+  public static class Upstream {
+
+    private String baseUrl;
+
+    private Duration readTimeout;
+
+    public Upstream(String baseUrl, Duration readTimeout) {
+      this.baseUrl = baseUrl;
+      this.readTimeout = readTimeout;
+    }
+  }
+}
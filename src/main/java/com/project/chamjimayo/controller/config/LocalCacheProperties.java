@@ -0,0 +1,30 @@
+package com.project.chamjimayo.controller.config;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 캐시 이름별 최대 크기와 만료 시간 설정. 설정이 없는 캐시는 CacheConfig의 기본값을 사용한다.
+ */
+@ConfigurationProperties(prefix = "local-cache")
+@Component
+@Getter
+@Setter
+public class LocalCacheProperties {
+
+  private Map<String, Spec> specs = new HashMap<>();
+
+  @Getter
+  @Setter
+  public static class Spec {
+
+    private Long maximumSize;
+
+    private Duration expireAfterWrite;
+  }
+}
@@ -0,0 +1,33 @@
+package com.project.chamjimayo.controller.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * JSON 외에 바이너리 응답 형식을 추가한다.
+ * 요청의 Accept 가 application/cbor 나 application/x-jackson-smile 이면 같은 응답 객체를 바이너리로 보낸다.
+ * 필드 이름과 숫자를 텍스트로 쓰지 않아서 모바일 응답 크기와 직렬화 시간이 줄어든다.
+ * JSON 과 같은 Jackson 설정을 쓰도록 스프링 부트가 설정한 builder(요청마다 새로 만드는 prototype 빈)로 만든다.
+ */
+@Configuration
+public class MessageConverterConfig {
+
+  @Bean
+  public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(
+      Jackson2ObjectMapperBuilder builder) {
+    return new MappingJackson2CborHttpMessageConverter(
+        builder.factory(new CBORFactory()).build());
+  }
+
+  @Bean
+  public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(
+      Jackson2ObjectMapperBuilder builder) {
+    return new MappingJackson2SmileHttpMessageConverter(
+        builder.factory(new SmileFactory()).build());
+  }
+}
@@ -0,0 +1,32 @@
+package com.project.chamjimayo.controller.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@ConfigurationProperties(prefix = "pedestrian-graph")
+@Component
+@Getter
+@Setter
+public class PedestrianGraphProperties {
+
+  // 보행 경로 그래프를 만들 OSM XML 파일 (.osm 또는 .osm.gz). 없으면 도보 거리 정렬을 쓰지 않는다.
+  private String file;
+
+  // 도보 거리를 계산할 최대 후보 수 (직선 거리 가까운 순)
+  private int candidateLimit = 30;
+
+  // 좌표를 그래프의 가장 가까운 노드에 붙일 때 허용하는 최대 거리 (m)
+  private double snapDistanceMeters = 200;
+
+  // 직선 거리 대비 도보 거리가 이 배수를 넘으면 탐색을 멈추고 도달할 수 없다고 본다.
+  private double maxDetourFactor = 2.5;
+
+  // 동시에 실행할 수 있는 도보 거리 탐색 수. 탐색마다 노드 수에 비례하는 작업 공간을 쓴다.
+  private int maxConcurrentSearches = 4;
+
+  // 탐색 자리가 날 때까지 기다리는 시간. 넘으면 이번 요청은 직선 거리 순으로 응답한다.
+  private Duration searchWaitTimeout = Duration.ofMillis(200);
+}
@@ -0,0 +1,23 @@
+package com.project.chamjimayo.controller.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@ConfigurationProperties(prefix = "refund")
+@Component
+@Getter
+@Setter
+public class RefundProperties {
+
+  // 구글 voided purchase api 한 페이지에 요청할 개수 (최대 1000)
+  private long pageSize = 1000;
+
+  // 한 트랜잭션에서 처리할 환불 건수
+  private int chunkSize = 200;
+
+  // 무효화 시각보다 늦게 목록에 올라오는 내역이 있어서, 저장된 시각보다 이만큼 앞에서부터 다시 조회한다.
+  private Duration checkpointOverlap = Duration.ofHours(12);
+}
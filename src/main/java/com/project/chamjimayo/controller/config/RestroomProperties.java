@@ -0,0 +1,49 @@
+package com.project.chamjimayo.controller.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@ConfigurationProperties(prefix = "restroom")
+@Component
+@Getter
+@Setter
+public class RestroomProperties {
+
+  // 일괄 등록 요청 한 번에 받을 수 있는 최대 화장실 수
+  private int enrollBatchMaxSize = 500;
+
+  // 일괄 등록 시 동시에 보낼 geocoding 요청 수
+  private int geocodingConcurrency = 8;
+
+  // 유료 화장실 이름 Bloom filter 의 예상 이름 수와 false positive 비율
+  private long nameFilterExpectedInsertions = 100_000;
+
+  private double nameFilterFalsePositiveRate = 0.01;
+
+  // 세부 정보 일괄 조회 한 번에 받을 수 있는 최대 화장실 수
+  // Restroom 컬렉션의 @BatchSize 이하로 두어야 사진, 비품, 리뷰를 각각 쿼리 한 번에 읽는다.
+  private int detailBatchMaxSize = 100;
+
+  // 화장실 묶음 조회 한 번에 읽을 최대 격자 칸 수 (넘으면 줌을 낮춰서 묶는다)
+  private long clusterMaxCells = 4_096;
+
+  // 벡터 타일을 만들어 주는 줌 범위 (더 낮은 줌은 /clusters 를 쓴다)
+  private int tileMinZoom = 10;
+
+  private int tileMaxZoom = 18;
+
+  // 오프라인 동기화 한 페이지의 최대 화장실 수
+  private int syncPageMaxSize = 1000;
+
+  // 이 시간보다 최근에 기록된 변경은 아직 커밋되지 않은 앞 번호가 있을 수 있어서 다음 동기화로 미룬다.
+  private Duration syncStableLag = Duration.ofSeconds(5);
+
+  // 이 기간보다 오래된 변경 기록은 지운다. 그 전의 since 로 요청하면 전체 목록부터 다시 받는다.
+  private Duration syncRetention = Duration.ofDays(30);
+
+  // 변경 기록을 정리할 때 한 번에 지우는 최대 줄 수
+  private int syncCompactBatchSize = 10_000;
+}
@@ -0,0 +1,38 @@
+package com.project.chamjimayo.controller.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 주소 검색 설정
+ */
+@ConfigurationProperties(prefix = "search")
+@Component
+@Getter
+@Setter
+public class SearchProperties {
+
+  // 티맵에서 가져올 검색 결과 개수
+  private int resultCount = 10;
+
+  // 검색어별 검색 결과 캐시 최대 개수와 만료 시간
+  private long cacheMaximumSize = 10_000;
+
+  private Duration cacheExpireAfterWrite = Duration.ofHours(6);
+
+  // 시작할 때 미리 캐시에 올려둘 자주 검색된 검색어 개수 (0 이면 하지 않음)
+  private int warmUpSize = 100;
+
+  // 유저별로 남겨둘 최근 검색 기록 개수
+  private int historySize = 50;
+
+  // 자동완성으로 돌려줄 최대 개수
+  private int autocompleteSize = 10;
+
+  // 자동완성에서 접두어가 같은 색인 key 를 조회할 때 최대 몇 개까지 훑을지
+  // (이보다 많은 짧은 접두어는 색인을 만들 때 클릭 순 상위 POI 를 미리 골라둔다)
+  private int autocompleteMaxScan = 5_000;
+}
@@ -0,0 +1,22 @@
+package com.project.chamjimayo.controller.dto.request;
+
+import com.project.chamjimayo.service.dto.EquipmentReportDto;
+import javax.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class EquipmentReportRequest {
+
+  @NotNull
+  private Long equipmentId;
+
+  // 비품이 있으면 true, 없으면 false
+  @NotNull
+  private Boolean present;
+
+  public EquipmentReportDto toDto(long userId) {
+    return EquipmentReportDto.create(userId, equipmentId, present);
+  }
+}
@@ -0,0 +1,14 @@
+package com.project.chamjimayo.controller.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class EquipmentReportResponse {
+
+  private long equipmentId;
+
+  // 신고를 반영한 뒤의 비품이 있을 확률
+  private double existenceProbability;
+}
@@ -0,0 +1,43 @@
+package com.project.chamjimayo.controller.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 지도 핀을 그리는 데 필요한 필드만 담은 주변 화장실 응답 (view=lite).
+ * 이름, 주소, 사진, 비품 등은 /detail, /details 로 따로 조회한다.
+ */
+@Getter
+@AllArgsConstructor
+public class NearByLiteResponse {
+
+  private Long restroomId;
+
+  private double latitude;
+
+  private double longitude;
+
+  private Double distance;
+
+  // 보행 경로 기준 거리 (sortBy=walking 으로 계산한 후보만, 그 외에는 null)
+  private Double walkingDistance;
+
+  // 공용(무료)인가 유료인가?
+  private String publicOrPaid;
+
+  private int price;
+
+  private float reviewRating;
+
+  // 남자 이용 가능 대변기 수
+  private int availableMaleToiletCount;
+
+  // 여자 이용 가능 대변기 수
+  private int availableFemaleToiletCount;
+
+  // 남여 공용 화장실인가?
+  private boolean unisex;
+
+  // 장애인 화장실이 있는가?
+  private boolean accessibleToiletExistence;
+}
@@ -4,6 +4,7 @@ import com.project.chamjimayo.repository.domain.entity.Restroom;
 import com.project.chamjimayo.service.dto.EquipmentNameNId;
 import com.project.chamjimayo.service.dto.RestroomManagerNameNId;
 import java.util.List;
+import java.util.function.LongToDoubleFunction;
 import java.util.stream.Collectors;
 import lombok.Getter;
 
@@ -28,7 +29,7 @@ public class NearByResponse {
   // 화장실 대표 사진 url
   private String restroomPhoto;
 
-  // 비품이 있을 확률 -> 어떤 비품이 있는 확률인지...?
+  // 화장실 비품들이 있을 확률의 평균
   private double equipmentExistenceProbability;
 
   // 공용(무료)인가 유료인가?
@@ -57,6 +58,9 @@ public class NearByResponse {
 
   private Double distance;
 
+  // 보행 경로 기준 거리 (sortBy=walking 으로 계산한 후보만, 그 외에는 null)
+  private Double walkingDistance;
+
   private Long restroomId;
 
   private Integer price;
@@ -79,7 +83,7 @@ public class NearByResponse {
     this.availableFemaleToiletCount = restroom.getAvailableFemaleToiletCount();
     this.equipments = restroom.getEquipments()
         .stream().map(equipment -> new EquipmentNameNId(equipment.getEquipmentName(),
-            equipment.getEquipmentId()))
+            equipment.getEquipmentId(), equipment.getExistenceProbability()))
         .collect(Collectors.toList());
     this.reviewRating = (restroom.getAverageRating() == null) ? 0 : restroom.getAverageRating();
     if (restroom.getRestroomManager() == null) {
@@ -94,4 +98,18 @@ public class NearByResponse {
     this.price = restroom.getPrice();
     return this;
   }
+
+  public void updateWalkingDistance(double walkingDistance) {
+    this.walkingDistance = walkingDistance;
+  }
+
+  // DB에 반영되기 전의 신고까지 포함한 실시간 비품 확률로 바꾼다.
+  public void updateEquipmentProbability(double restroomProbability,
+      LongToDoubleFunction equipmentProbability) {
+    this.equipmentExistenceProbability = restroomProbability;
+    this.equipments = equipments.stream()
+        .map(equipment -> new EquipmentNameNId(equipment.getEquipmentName(), equipment.getId(),
+            equipmentProbability.applyAsDouble(equipment.getId())))
+        .collect(Collectors.toList());
+  }
 }
@@ -0,0 +1,21 @@
+package com.project.chamjimayo.controller.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 환불 동기화 한 번의 결과. 환불 건수가 많아도 응답 크기가 늘지 않도록 합계만 담는다.
+ */
+@Getter
+@AllArgsConstructor
+public class RefundResultResponse {
+
+  // 환불 처리한 주문 수
+  @Schema(type = "Integer", example = "3")
+  private int refundCount;
+
+  // 차감한 포인트 합계
+  @Schema(type = "Long", example = "3000")
+  private long refundPoint;
+}
@@ -0,0 +1,25 @@
+package com.project.chamjimayo.controller.dto.response;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class RestroomChangesResponse {
+
+  // 새로 생겼거나 바뀐 화장실 (앱은 id 기준으로 덮어쓴다)
+  private List<RestroomSyncResponse> restrooms;
+
+  // 더 이상 사용할 수 없는 화장실 id (앱에서 지운다)
+  private List<Long> deletedRestroomIds;
+
+  // 다음 요청의 since 로 보낼 값
+  private String nextToken;
+
+  // true 면 바로 nextToken 으로 다시 요청한다.
+  private boolean hasMore;
+
+  // true 면 since 가 너무 오래되어 전체 목록을 처음부터 다시 내려준다. (앱은 로컬 데이터를 지우고 이 응답부터 다시 채운다)
+  private boolean resnapshot;
+}
@@ -0,0 +1,26 @@
+package com.project.chamjimayo.controller.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class RestroomClusterResponse {
+
+  // 묶인 화장실 좌표의 평균
+  private double latitude;
+
+  private double longitude;
+
+  // 묶인 화장실 수
+  private int count;
+
+  // 묶인 화장실 중 가장 낮은 이용 요금
+  private int minPrice;
+
+  // 묶인 화장실 중 가장 높은 별점
+  private float maxRating;
+
+  // 화장실이 하나뿐이면 그 화장실 Id, 여러 개면 null
+  private Long restroomId;
+}
@@ -6,6 +6,7 @@ import com.project.chamjimayo.service.dto.EquipmentNameNId;
 import com.project.chamjimayo.service.dto.RestroomManagerNameNId;
 import com.project.chamjimayo.service.dto.ReviewContentNId;
 import java.util.List;
+import java.util.function.LongToDoubleFunction;
 import java.util.stream.Collectors;
 import lombok.Getter;
 
@@ -30,7 +31,7 @@ public class RestroomDetailResponse {
   // 화장실 사진 url
   private List<String> restroomPhoto;
 
-  // 비품이 있을 확률 -> 어떤 비품이 있는 확률인지...?
+  // 화장실 비품들이 있을 확률의 평균
   private double equipmentExistenceProbability;
 
   // 공용(무료)인가 유료인가?
@@ -80,7 +81,7 @@ public class RestroomDetailResponse {
     this.availableFemaleToiletCount = restroom.getAvailableFemaleToiletCount();
     this.equipments = restroom.getEquipments()
         .stream().map(equipment -> new EquipmentNameNId(equipment.getEquipmentName(),
-            equipment.getEquipmentId()))
+            equipment.getEquipmentId(), equipment.getExistenceProbability()))
         .collect(Collectors.toList());
     this.reviews = restroom.getReviews()
         .stream()
@@ -96,4 +97,14 @@ public class RestroomDetailResponse {
     this.averageRating = restroom.getAverageRating();
     this.price = restroom.getPrice();
   }
+
+  // DB에 반영되기 전의 신고까지 포함한 실시간 비품 확률로 바꾼다.
+  public void updateEquipmentProbability(double restroomProbability,
+      LongToDoubleFunction equipmentProbability) {
+    this.equipmentExistenceProbability = restroomProbability;
+    this.equipments = equipments.stream()
+        .map(equipment -> new EquipmentNameNId(equipment.getEquipmentName(), equipment.getId(),
+            equipmentProbability.applyAsDouble(equipment.getId())))
+        .collect(Collectors.toList());
+  }
 }
@@ -0,0 +1,72 @@
+package com.project.chamjimayo.controller.dto.response;
+
+import com.project.chamjimayo.repository.domain.entity.Restroom;
+import java.time.LocalDateTime;
+import lombok.Getter;
+
+/**
+ * 오프라인 동기화로 내려주는 화장실 한 건. 지도와 목록을 그리는 데 필요한 필드만 담는다.
+ */
+@Getter
+public class RestroomSyncResponse {
+
+  private Long restroomId;
+
+  private String restroomName;
+
+  private double latitude;
+
+  private double longitude;
+
+  // 남여 공용 화장실인가?
+  private Boolean unisex;
+
+  // 도로명 주소
+  private String address;
+
+  // 개방 시간
+  private String operatingHour;
+
+  // 공용(무료)인가 유료인가?
+  private String publicOrPaid;
+
+  // 장애인 화장실이 있는가?
+  private Boolean accessibleToiletExistence;
+
+  // 남자 대변기 수
+  private Integer maleToiletCount;
+
+  // 여자 대변기 수
+  private Integer femaleToiletCount;
+
+  // 남자 이용 가능 대변기 수
+  private Integer availableMaleToiletCount;
+
+  // 여자 이용 가능 대변기 수
+  private Integer availableFemaleToiletCount;
+
+  private Float averageRating;
+
+  private Integer price;
+
+  private LocalDateTime updatedDate;
+
+  public RestroomSyncResponse(Restroom restroom) {
+    this.restroomId = restroom.getRestroomId();
+    this.restroomName = restroom.getRestroomName();
+    this.latitude = restroom.getLocationLatitude();
+    this.longitude = restroom.getLocationLongitude();
+    this.unisex = restroom.getUnisex();
+    this.address = restroom.getAddress();
+    this.operatingHour = restroom.getOperatingHour();
+    this.publicOrPaid = restroom.getPublicOrPaid();
+    this.accessibleToiletExistence = restroom.getAccessibleToiletExistence();
+    this.maleToiletCount = restroom.getMaleToiletCount();
+    this.femaleToiletCount = restroom.getFemaleToiletCount();
+    this.availableMaleToiletCount = restroom.getAvailableMaleToiletCount();
+    this.availableFemaleToiletCount = restroom.getAvailableFemaleToiletCount();
+    this.averageRating = restroom.getAverageRating();
+    this.price = restroom.getPrice();
+    this.updatedDate = restroom.getUpdatedDate();
+  }
+}
@@ -3,6 +3,8 @@ package com.project.chamjimayo.controller.exception.handler;
 import com.project.chamjimayo.controller.dto.response.ApiStandardResponse;
 import com.project.chamjimayo.controller.dto.response.ErrorResponse;
 import com.project.chamjimayo.service.exception.ErrorStatus;
+import com.project.chamjimayo.service.exception.UpstreamErrorException;
+import com.project.chamjimayo.service.exception.UpstreamTimeoutException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataAccessException;
 import org.springframework.http.HttpStatus;
@@ -35,4 +37,24 @@ public class GlobalExceptionHandler {
         "데이터베이스에 오류가 발생했습니다.");
     return ApiStandardResponse.fail(errorResponse);
   }
+
+  @ExceptionHandler(UpstreamTimeoutException.class)
+  @ResponseStatus(HttpStatus.GATEWAY_TIMEOUT)
+  public ApiStandardResponse<ErrorResponse> handleUpstreamTimeoutException(
+      UpstreamTimeoutException e) {
+    log.error("", e);
+
+    final ErrorResponse errorResponse = ErrorResponse.create(e.toErrorCode(), e.getMessage());
+    return ApiStandardResponse.fail(errorResponse);
+  }
+
+  @ExceptionHandler(UpstreamErrorException.class)
+  @ResponseStatus(HttpStatus.BAD_GATEWAY)
+  public ApiStandardResponse<ErrorResponse> handleUpstreamErrorException(
+      UpstreamErrorException e) {
+    log.error("", e);
+
+    final ErrorResponse errorResponse = ErrorResponse.create(e.toErrorCode(), e.getMessage());
+    return ApiStandardResponse.fail(errorResponse);
+  }
 }
@@ -7,7 +7,6 @@ import com.project.chamjimayo.service.exception.GoogleClientRequestException;
 import com.project.chamjimayo.service.exception.IoException;
 import com.project.chamjimayo.service.exception.PurchaseVerificationException;
 import com.project.chamjimayo.service.exception.UserNotFoundException;
-import com.project.chamjimayo.service.exception.VoidedPurchaseNotFoundException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -26,16 +25,6 @@ public class InAppPurchaseExceptionHandler {
     return ApiStandardResponse.fail(errorResponse);
   }
 
-  @ExceptionHandler(VoidedPurchaseNotFoundException.class)
-  @ResponseStatus(HttpStatus.BAD_REQUEST)
-  public ApiStandardResponse<ErrorResponse> voidedPurchaseNotFoundException(
-      VoidedPurchaseNotFoundException e) {
-    log.error("", e);
-
-    final ErrorResponse errorResponse = ErrorResponse.create(e.toErrorCode(), e.getMessage());
-    return ApiStandardResponse.fail(errorResponse);
-  }
-
   @ExceptionHandler(GoogleClientRequestException.class)
   public ApiStandardResponse<ErrorResponse> handleGoogleClientRequestException(
       GoogleClientRequestException e) {
@@ -5,8 +5,10 @@ import com.project.chamjimayo.controller.RestroomController;
 import com.project.chamjimayo.controller.dto.response.ApiStandardResponse;
 import com.project.chamjimayo.controller.dto.response.ErrorResponse;
 import com.project.chamjimayo.service.exception.AddressNotFoundException;
+import com.project.chamjimayo.service.exception.EquipmentNotFoundException;
 import com.project.chamjimayo.service.exception.ErrorStatus;
 import com.project.chamjimayo.service.exception.FileNotFoundException;
+import com.project.chamjimayo.service.exception.IndexException;
 import com.project.chamjimayo.service.exception.IoException;
 import com.project.chamjimayo.service.exception.PointLackException;
 import com.project.chamjimayo.service.exception.RestroomNameDuplicateException;
@@ -52,6 +54,25 @@ public class RestroomExceptionHandler {
     return ApiStandardResponse.fail(errorResponse);
   }
 
+  @ExceptionHandler(EquipmentNotFoundException.class)
+  @ResponseStatus(HttpStatus.BAD_REQUEST)
+  public ApiStandardResponse<ErrorResponse> handleEquipmentNotFoundException(
+      EquipmentNotFoundException e) {
+    log.error("", e);
+
+    final ErrorResponse errorResponse = ErrorResponse.create(e.toErrorCode(), e.getMessage());
+    return ApiStandardResponse.fail(errorResponse);
+  }
+
+  @ExceptionHandler(IndexException.class)
+  @ResponseStatus(HttpStatus.BAD_REQUEST)
+  public ApiStandardResponse<ErrorResponse> handleIndexException(IndexException e) {
+    log.error("", e);
+
+    final ErrorResponse errorResponse = ErrorResponse.create(e.toErrorCode(), e.getMessage());
+    return ApiStandardResponse.fail(errorResponse);
+  }
+
   @ExceptionHandler(FileNotFoundException.class)
   @ResponseStatus(HttpStatus.BAD_REQUEST)
   public ApiStandardResponse<ErrorResponse> handleFileNotFoundException(
@@ -0,0 +1,59 @@
+package com.project.chamjimayo.repository;
+
+import com.project.chamjimayo.service.dto.EquipmentScoreDelta;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 비품 신고 점수를 batch update 로 반영한다.
+ * 저장된 점수를 appliedAt 시점으로 줄인 뒤 새 점수를 더하기 때문에
+ * 여러 서버가 각자 받은 신고를 반영해도 서로 덮어쓰지 않는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class EquipmentJdbcRepository {
+
+  // MySQL 은 SET 절을 왼쪽부터 적용하므로 existence_probability 는 새 점수로 계산된다.
+  private static final String ADD_EQUIPMENT_SCORE = "UPDATE equipment SET "
+      + "present_score = IFNULL(present_score * POW(0.5, "
+      + "GREATEST(TIMESTAMPDIFF(SECOND, score_updated_date, ?), 0) / ?), 0) + ?, "
+      + "absent_score = IFNULL(absent_score * POW(0.5, "
+      + "GREATEST(TIMESTAMPDIFF(SECOND, score_updated_date, ?), 0) / ?), 0) + ?, "
+      + "existence_probability = (present_score + ?) / (present_score + absent_score + ? + ?), "
+      + "score_updated_date = ? "
+      + "WHERE equipment_id = ?";
+
+  private static final String UPDATE_RESTROOM_PROBABILITY = "UPDATE restroom "
+      + "SET equipment_existence_probability = ? WHERE restroom_id = ?";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  @Transactional
+  public void applyScores(List<EquipmentScoreDelta> deltas, LocalDateTime appliedAt,
+      double halfLifeSeconds, double priorPresent, double priorAbsent,
+      Map<Long, Double> restroomProbabilities) {
+    Timestamp appliedTimestamp = Timestamp.valueOf(appliedAt);
+
+    List<Object[]> equipmentRows = new ArrayList<>(deltas.size());
+    for (EquipmentScoreDelta delta : deltas) {
+      equipmentRows.add(new Object[]{
+          appliedTimestamp, halfLifeSeconds, delta.getPresent(),
+          appliedTimestamp, halfLifeSeconds, delta.getAbsent(),
+          priorPresent, priorPresent, priorAbsent,
+          appliedTimestamp, delta.getEquipmentId()});
+    }
+    jdbcTemplate.batchUpdate(ADD_EQUIPMENT_SCORE, equipmentRows);
+
+    List<Object[]> restroomRows = new ArrayList<>(restroomProbabilities.size());
+    restroomProbabilities.forEach((restroomId, probability) ->
+        restroomRows.add(new Object[]{probability, restroomId}));
+    jdbcTemplate.batchUpdate(UPDATE_RESTROOM_PROBABILITY, restroomRows);
+  }
+}
@@ -0,0 +1,24 @@
+package com.project.chamjimayo.repository;
+
+import com.project.chamjimayo.repository.domain.entity.Equipment;
+import com.project.chamjimayo.service.dto.EquipmentScoreDto;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface EquipmentRepository extends JpaRepository<Equipment, Long> {
+
+  @Query("SELECT new com.project.chamjimayo.service.dto.EquipmentScoreDto("
+      + "e.equipmentId, e.restroom.restroomId, e.presentScore, e.absentScore, e.scoreUpdatedDate) "
+      + "FROM Equipment e")
+  List<EquipmentScoreDto> findAllScores();
+
+  @Query("SELECT new com.project.chamjimayo.service.dto.EquipmentScoreDto("
+      + "e.equipmentId, e.restroom.restroomId, e.presentScore, e.absentScore, e.scoreUpdatedDate) "
+      + "FROM Equipment e WHERE e.equipmentId = :equipmentId")
+  Optional<EquipmentScoreDto> findScoreById(@Param("equipmentId") Long equipmentId);
+}
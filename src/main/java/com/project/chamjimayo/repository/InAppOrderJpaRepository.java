@@ -2,10 +2,26 @@ package com.project.chamjimayo.repository;
 
 
 import com.project.chamjimayo.repository.domain.entity.InAppOrder;
+import java.util.Collection;
+import java.util.List;
+import javax.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface InAppOrderJpaRepository extends JpaRepository<InAppOrder, Long> {
-  InAppOrder findOrderByPurchaseToken(String purchaseToken);
+public interface InAppOrderJpaRepository extends JpaRepository<InAppOrder, String> {
+
+  // SELECT ... FOR UPDATE 로 주문 행을 잠가서, 동시에 실행된 다른 환불 작업(다른 인스턴스 포함)이
+  // 커밋할 때까지 기다린 뒤 이미 환불된 주문은 제외하고 읽도록 한다.
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  List<InAppOrder> findAllByPurchaseTokenInAndAlreadyRefundFalse(Collection<String> purchaseTokens);
+
+  @Modifying
+  @Query("UPDATE InAppOrder o SET o.alreadyRefund = true "
+      + "WHERE o.purchaseToken IN :purchaseTokens AND o.alreadyRefund = false")
+  int markAlreadyRefund(@Param("purchaseTokens") Collection<String> purchaseTokens);
 }
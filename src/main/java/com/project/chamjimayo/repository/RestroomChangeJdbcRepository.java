@@ -0,0 +1,64 @@
+package com.project.chamjimayo.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 화장실 변경 기록을 batch insert 로 쌓는다.
+ * IDENTITY 키를 쓰는 엔티티는 JPA 로 저장하면 한 건씩 insert 되기 때문에 따로 둔다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class RestroomChangeJdbcRepository {
+
+  private static final String INSERT_CHANGE = "INSERT INTO restroom_change "
+      + "(restroom_id, changed_date) VALUES (?, ?)";
+
+  private static final String INSERT_ALL_CHANGES = "INSERT INTO restroom_change "
+      + "(restroom_id, changed_date) SELECT restroom_id, ? FROM restroom ORDER BY restroom_id";
+
+  // 같은 화장실에 더 뒤의 변경이 있는 줄 (MySQL 은 같은 테이블을 서브쿼리로 읽으며 지울 수 없어 파생 테이블로 감싼다)
+  private static final String DELETE_SUPERSEDED = "DELETE FROM restroom_change WHERE change_seq IN ("
+      + "SELECT change_seq FROM (SELECT c.change_seq FROM restroom_change c "
+      + "WHERE EXISTS (SELECT 1 FROM restroom_change n "
+      + "WHERE n.restroom_id = c.restroom_id AND n.change_seq > c.change_seq) "
+      + "ORDER BY c.change_seq LIMIT ?) superseded)";
+
+  private static final String DELETE_UP_TO = "DELETE FROM restroom_change "
+      + "WHERE change_seq <= ? ORDER BY change_seq LIMIT ?";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  public void append(Collection<Long> restroomIds, LocalDateTime changedDate) {
+    Timestamp timestamp = Timestamp.valueOf(changedDate);
+    List<Object[]> batchArgs = new ArrayList<>(restroomIds.size());
+    for (Long restroomId : restroomIds) {
+      batchArgs.add(new Object[]{restroomId, timestamp});
+    }
+    jdbcTemplate.batchUpdate(INSERT_CHANGE, batchArgs);
+  }
+
+  // 전체 화장실이 바뀐 경우 (공공 데이터 일괄 갱신 등)
+  public void appendAll(LocalDateTime changedDate) {
+    jdbcTemplate.update(INSERT_ALL_CHANGES, Timestamp.valueOf(changedDate));
+  }
+
+  /**
+   * 화장실마다 가장 최근 변경만 남기고 앞의 변경을 최대 limit 줄 지운다.
+   * 읽는 쪽은 어차피 화장실의 현재 상태로 합치기 때문에 지워도 동기화 결과는 같다.
+   */
+  public int deleteSuperseded(int limit) {
+    return jdbcTemplate.update(DELETE_SUPERSEDED, limit);
+  }
+
+  // changeSeq 이하의 변경을 최대 limit 줄 지운다.
+  public int deleteUpTo(long changeSeq, int limit) {
+    return jdbcTemplate.update(DELETE_UP_TO, changeSeq, limit);
+  }
+}
@@ -0,0 +1,25 @@
+package com.project.chamjimayo.repository;
+
+import com.project.chamjimayo.repository.domain.entity.RestroomChange;
+import com.project.chamjimayo.service.dto.RestroomChangeDto;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface RestroomChangeRepository extends JpaRepository<RestroomChange, Long> {
+
+  // horizon 이전에 기록된 변경 중 가장 큰 변경 번호 (없으면 null)
+  @Query("SELECT MAX(c.changeSeq) FROM RestroomChange c WHERE c.changedDate < :horizon")
+  Long findMaxChangeSeqBefore(@Param("horizon") LocalDateTime horizon);
+
+  @Query("SELECT new com.project.chamjimayo.service.dto.RestroomChangeDto("
+      + "c.changeSeq, c.restroomId) FROM RestroomChange c "
+      + "WHERE c.changeSeq > :changeSeq AND c.changedDate < :horizon ORDER BY c.changeSeq")
+  List<RestroomChangeDto> findChangesAfter(@Param("changeSeq") long changeSeq,
+      @Param("horizon") LocalDateTime horizon, Pageable pageable);
+}
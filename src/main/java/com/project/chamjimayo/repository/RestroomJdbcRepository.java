@@ -0,0 +1,126 @@
+package com.project.chamjimayo.repository;
+
+import com.project.chamjimayo.repository.domain.entity.Restroom;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 화장실 일괄 등록용 JDBC batch insert.
+ * IDENTITY 키를 쓰는 엔티티는 JPA 로 저장하면 한 건씩 insert 되기 때문에 따로 둔다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class RestroomJdbcRepository {
+
+  private static final String INSERT_RESTROOM = "INSERT INTO restroom "
+      + "(restroom_name, paid_restroom_name, location_latitude, location_longitude, unisex, "
+      + "address, operating_hour, operating_hour_bitmap, "
+      + "equipment_existence_probability, public_or_paid, accessible_toilet_existence, "
+      + "male_toilet_count, female_toilet_count, available_male_toilet_count, "
+      + "available_female_toilet_count, average_rating, price, created_date, updated_date, status) "
+      + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+  private static final String INSERT_RESTROOM_PHOTO = "INSERT INTO restroom_photo "
+      + "(restroom_id, photo_url, created_date, updated_date, status) VALUES (?, ?, ?, ?, ?)";
+
+  private static final String UPDATE_OPERATING_HOUR_BITMAP = "UPDATE restroom "
+      + "SET operating_hour_bitmap = ? WHERE restroom_id = ?";
+
+  private static final String UPDATE_PAID_RESTROOM_NAME = "UPDATE restroom "
+      + "SET paid_restroom_name = ? WHERE restroom_id = ? AND paid_restroom_name IS NULL";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  /**
+   * 화장실과 각 화장실의 사진을 한 트랜잭션에서 저장하고 생성된 화장실 id 를 입력 순서대로 반환
+   */
+  @Transactional
+  public List<Long> insertAll(List<Restroom> restrooms, List<List<String>> photoUrls) {
+    List<Long> restroomIds = insertRestrooms(restrooms);
+    insertRestroomPhotos(restroomIds, photoUrls);
+    return restroomIds;
+  }
+
+  // 화장실을 한 번의 batch 로 저장
+  private List<Long> insertRestrooms(List<Restroom> restrooms) {
+    return jdbcTemplate.execute((ConnectionCallback<List<Long>>) connection -> {
+      try (PreparedStatement ps = connection.prepareStatement(INSERT_RESTROOM,
+          Statement.RETURN_GENERATED_KEYS)) {
+        for (Restroom restroom : restrooms) {
+          ps.setString(1, restroom.getRestroomName());
+          ps.setString(2, restroom.getPaidRestroomName());
+          ps.setDouble(3, restroom.getLocationLatitude());
+          ps.setDouble(4, restroom.getLocationLongitude());
+          ps.setBoolean(5, restroom.getUnisex());
+          ps.setString(6, restroom.getAddress());
+          ps.setString(7, restroom.getOperatingHour());
+          ps.setBytes(8, restroom.getOperatingHourBitmap());
+          ps.setDouble(9, restroom.getEquipmentExistenceProbability());
+          ps.setString(10, restroom.getPublicOrPaid());
+          ps.setBoolean(11, restroom.getAccessibleToiletExistence());
+          ps.setInt(12, restroom.getMaleToiletCount());
+          ps.setInt(13, restroom.getFemaleToiletCount());
+          ps.setInt(14, restroom.getAvailableMaleToiletCount());
+          ps.setInt(15, restroom.getAvailableFemaleToiletCount());
+          ps.setFloat(16, restroom.getAverageRating());
+          ps.setInt(17, restroom.getPrice());
+          ps.setTimestamp(18, Timestamp.valueOf(restroom.getCreatedDate()));
+          ps.setTimestamp(19, Timestamp.valueOf(restroom.getUpdatedDate()));
+          ps.setBoolean(20, restroom.isStatus());
+          ps.addBatch();
+        }
+        ps.executeBatch();
+
+        List<Long> restroomIds = new ArrayList<>(restrooms.size());
+        try (ResultSet keys = ps.getGeneratedKeys()) {
+          while (keys.next()) {
+            restroomIds.add(keys.getLong(1));
+          }
+        }
+        return restroomIds;
+      }
+    });
+  }
+
+  // 화장실 사진을 한 번의 batch 로 저장
+  private void insertRestroomPhotos(List<Long> restroomIds, List<List<String>> photoUrls) {
+    List<Object[]> rows = new ArrayList<>();
+    Timestamp now = new Timestamp(System.currentTimeMillis());
+    for (int i = 0; i < restroomIds.size(); i++) {
+      for (String photoUrl : photoUrls.get(i)) {
+        rows.add(new Object[]{restroomIds.get(i), photoUrl, now, now, true});
+      }
+    }
+    if (!rows.isEmpty()) {
+      jdbcTemplate.batchUpdate(INSERT_RESTROOM_PHOTO, rows);
+    }
+  }
+
+  /**
+   * 개방 시간 비트맵을 한 번의 batch 로 저장
+   */
+  public void updateOperatingHourBitmaps(Map<Long, byte[]> bitmaps) {
+    List<Object[]> rows = new ArrayList<>(bitmaps.size());
+    bitmaps.forEach((restroomId, bitmap) -> rows.add(new Object[]{bitmap, restroomId}));
+    jdbcTemplate.batchUpdate(UPDATE_OPERATING_HOUR_BITMAP, rows);
+  }
+
+  /**
+   * 유료 화장실 이름 컬럼을 한 번의 batch 로 채운다
+   */
+  public void updatePaidRestroomNames(Map<Long, String> paidRestroomNames) {
+    List<Object[]> rows = new ArrayList<>(paidRestroomNames.size());
+    paidRestroomNames.forEach((restroomId, name) -> rows.add(new Object[]{name, restroomId}));
+    jdbcTemplate.batchUpdate(UPDATE_PAID_RESTROOM_NAME, rows);
+  }
+}
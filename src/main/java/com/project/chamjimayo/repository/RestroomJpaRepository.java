@@ -2,8 +2,13 @@ package com.project.chamjimayo.repository;
 
 
 import com.project.chamjimayo.repository.domain.entity.Restroom;
+import com.project.chamjimayo.service.dto.RestroomNameDto;
+import com.project.chamjimayo.service.dto.RestroomOperatingHourDto;
+import com.project.chamjimayo.service.dto.RestroomSnapshotRow;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -19,5 +24,53 @@ public interface RestroomJpaRepository extends JpaRepository<Restroom, Long> {
 
 
 
-  boolean existsRestroomByRestroomName(String restroomName);
+  boolean existsRestroomByPaidRestroomName(String paidRestroomName);
+
+  @Query("SELECT r.paidRestroomName FROM Restroom r WHERE r.paidRestroomName IN :restroomNames")
+  List<String> findPaidRestroomNamesIn(@Param("restroomNames") Collection<String> restroomNames);
+
+  @Query("SELECT r.paidRestroomName FROM Restroom r WHERE r.paidRestroomName IS NOT NULL")
+  List<String> findAllPaidRestroomNames();
+
+  // 유료 화장실 이름 컬럼이 생기기 전에 저장된 유료 화장실 (이름 backfill 용)
+  @Query("SELECT new com.project.chamjimayo.service.dto.RestroomNameDto("
+      + "r.restroomId, r.restroomName) FROM Restroom r "
+      + "WHERE r.publicOrPaid = 'paid' AND r.paidRestroomName IS NULL "
+      + "AND r.restroomName IS NOT NULL ORDER BY r.restroomId")
+  List<RestroomNameDto> findPaidRestroomsWithoutPaidName();
+
+  // 개방 시간 비트맵이 아직 없거나 한 번도 열지 않는 비트맵인 화장실 (비트맵 backfill 용)
+  @Query("SELECT new com.project.chamjimayo.service.dto.RestroomOperatingHourDto("
+      + "r.restroomId, r.operatingHour) FROM Restroom r "
+      + "WHERE (r.operatingHourBitmap IS NULL OR r.operatingHourBitmap = :neverOpen) "
+      + "AND r.operatingHour IS NOT NULL")
+  List<RestroomOperatingHourDto> findOperatingHoursToBackfill(
+      @Param("neverOpen") byte[] neverOpen);
+
+  // 주변 화장실 검색 스냅샷용 (사용 가능한 화장실만)
+  @Query("SELECT new com.project.chamjimayo.service.dto.RestroomSnapshotRow("
+      + "r.restroomId, r.locationLatitude, r.locationLongitude, r.averageRating, r.price, "
+      + "r.availableMaleToiletCount, r.availableFemaleToiletCount, r.unisex, "
+      + "r.accessibleToiletExistence, r.publicOrPaid, r.maleToiletCount, r.femaleToiletCount, "
+      + "r.operatingHourBitmap) FROM Restroom r WHERE r.status = true")
+  List<RestroomSnapshotRow> findAllSnapshotRows();
+
+  @Query("SELECT new com.project.chamjimayo.service.dto.RestroomSnapshotRow("
+      + "r.restroomId, r.locationLatitude, r.locationLongitude, r.averageRating, r.price, "
+      + "r.availableMaleToiletCount, r.availableFemaleToiletCount, r.unisex, "
+      + "r.accessibleToiletExistence, r.publicOrPaid, r.maleToiletCount, r.femaleToiletCount, "
+      + "r.operatingHourBitmap) FROM Restroom r "
+      + "WHERE r.restroomId IN :restroomIds AND r.status = true")
+  List<RestroomSnapshotRow> findSnapshotRowsByIdIn(
+      @Param("restroomIds") Collection<Long> restroomIds);
+
+  @Query("SELECT r FROM Restroom r LEFT JOIN FETCH r.restroomManager "
+      + "WHERE r.restroomId IN :restroomIds")
+  List<Restroom> findAllWithManagerByIdIn(@Param("restroomIds") Collection<Long> restroomIds);
+
+  // 오프라인 동기화의 전체 목록용 (id 순 페이지)
+  @Query("SELECT r FROM Restroom r WHERE r.restroomId > :restroomId AND r.status = true "
+      + "ORDER BY r.restroomId")
+  List<Restroom> findActiveRestroomsAfter(@Param("restroomId") long restroomId,
+      Pageable pageable);
 }
@@ -1,22 +1,75 @@
 package com.project.chamjimayo.repository;
 
 import com.project.chamjimayo.repository.domain.entity.Search;
-import com.project.chamjimayo.repository.domain.entity.User;
+import com.project.chamjimayo.service.dto.PoiClickCountDto;
+import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface SearchRepository extends JpaRepository<Search, Long> {
 
-  List<Search> findAllByUser(User user);
+  @Modifying
+  @Query("DELETE FROM Search s WHERE s.user.userId = :userId")
+  int deleteAllByUserId(@Param("userId") Long userId);
 
-  void deleteAllByUser(User user);
+  @Modifying
+  @Query("DELETE FROM Search s WHERE s.user.userId = :userId AND s.name = :name")
+  int deleteByUserIdAndName(@Param("userId") Long userId, @Param("name") String name);
 
-  Optional<Search> findByUserAndName(User user, String Name);
+  // 최근에 클릭한 순서대로 검색 기록 반환 (개수는 pageable 로 제한)
+  @Query("SELECT s FROM Search s WHERE s.user.userId = :userId "
+      + "ORDER BY s.createdDate DESC, s.searchId DESC")
+  List<Search> findRecentByUserId(@Param("userId") Long userId, Pageable pageable);
 
-  Optional<Search> findByName(String name);
+  /**
+   * 유저의 검색 기록을 한 번에 저장한다. 같은 가게(user_id, name)가 이미 있으면
+   * 주소와 검색어를 최신 값으로 바꾸고 클릭 시간과 클릭 횟수를 갱신한다.
+   */
+  @Modifying
+  @Query(value = "INSERT INTO search (user_id, search_word, road_address, lot_number_address, "
+      + "name, latitude, longitude, created_date, click_count) "
+      + "VALUES (:userId, :searchWord, :roadAddress, :lotNumberAddress, "
+      + ":name, :latitude, :longitude, :createdDate, 1) "
+      + "ON DUPLICATE KEY UPDATE search_word = VALUES(search_word), "
+      + "road_address = VALUES(road_address), lot_number_address = VALUES(lot_number_address), "
+      + "latitude = VALUES(latitude), longitude = VALUES(longitude), "
+      + "created_date = VALUES(created_date), click_count = COALESCE(click_count, 0) + 1",
+      nativeQuery = true)
+  int upsert(@Param("userId") Long userId, @Param("searchWord") String searchWord,
+      @Param("roadAddress") String roadAddress,
+      @Param("lotNumberAddress") String lotNumberAddress, @Param("name") String name,
+      @Param("latitude") Double latitude, @Param("longitude") Double longitude,
+      @Param("createdDate") LocalDateTime createdDate);
+
+  /**
+   * 유저의 검색 기록 중 최근 keepSize 개만 남기고 삭제한다.
+   * (MySQL 은 IN 서브쿼리에 LIMIT 을 쓸 수 없어 파생 테이블로 한 번 감싼다)
+   */
+  @Modifying
+  @Query(value = "DELETE FROM search WHERE user_id = :userId AND search_id NOT IN ("
+      + "SELECT search_id FROM (SELECT search_id FROM search WHERE user_id = :userId "
+      + "ORDER BY created_date DESC, search_id DESC LIMIT :keepSize) recent)",
+      nativeQuery = true)
+  int deleteAllExceptRecent(@Param("userId") Long userId, @Param("keepSize") int keepSize);
+
+  // 많이 클릭된 순서대로 검색어 반환
+  @Query("SELECT s.searchWord FROM Search s WHERE s.searchWord IS NOT NULL "
+      + "GROUP BY s.searchWord ORDER BY SUM(COALESCE(s.clickCount, 1)) DESC")
+  List<String> findTopSearchWords(Pageable pageable);
+
+  // 클릭된 POI 별 클릭 횟수 (자동완성 색인용)
+  @Query("SELECT new com.project.chamjimayo.service.dto.PoiClickCountDto("
+      + "s.name, s.roadAddress, s.lotNumberAddress, MAX(s.latitude), MAX(s.longitude), "
+      + "SUM(COALESCE(s.clickCount, 1))) "
+      + "FROM Search s WHERE s.name IS NOT NULL "
+      + "GROUP BY s.name, s.roadAddress, s.lotNumberAddress")
+  List<PoiClickCountDto> findPoiClickCounts();
 }
 
 
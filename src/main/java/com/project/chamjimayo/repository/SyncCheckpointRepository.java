@@ -0,0 +1,10 @@
+package com.project.chamjimayo.repository;
+
+import com.project.chamjimayo.repository.domain.entity.SyncCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface SyncCheckpointRepository extends JpaRepository<SyncCheckpoint, String> {
+
+}
@@ -1,6 +1,8 @@
 package com.project.chamjimayo.repository;
 
 import com.project.chamjimayo.repository.domain.entity.User;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
 
@@ -13,4 +15,6 @@ public interface UserJpaRepository extends JpaRepository<User, Long> {
   boolean existsUserByAuthId(String authId);
 
   Optional<User> findUserByUserId(long userId);
+
+  List<User> findAllByUserIdIn(Collection<Long> userIds);
 }
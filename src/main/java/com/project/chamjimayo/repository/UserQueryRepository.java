@@ -2,11 +2,13 @@ package com.project.chamjimayo.repository;
 
 import static com.project.chamjimayo.repository.domain.entity.QUser.user;
 
+import com.project.chamjimayo.controller.config.CacheConfig;
 import com.project.chamjimayo.service.dto.UserDetailsDto;
 import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import java.util.Optional;
 import javax.persistence.EntityManager;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -18,6 +20,7 @@ public class UserQueryRepository {
     this.jpaQueryFactory = new JPAQueryFactory(em);
   }
 
+  @Cacheable(cacheNames = CacheConfig.USER_DETAILS_DTO, key = "#id", unless = "#result == null")
   public Optional<UserDetailsDto> findUserDetailsById(Long id) {
     return Optional.ofNullable(
         jpaQueryFactory.select(Projections.constructor(UserDetailsDto.class,
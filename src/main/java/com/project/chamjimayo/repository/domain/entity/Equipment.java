@@ -1,5 +1,6 @@
 package com.project.chamjimayo.repository.domain.entity;
 
+import java.time.LocalDateTime;
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.FetchType;
@@ -41,5 +42,21 @@ public class Equipment {
   // 화장실 구역 (몇 번째 칸인가?)
   @Column(name = "restroom_section")
   private String restroomSection;
+
+  // 시간에 따라 줄어드는 '있음' 신고 점수
+  @Column(name = "present_score")
+  private double presentScore;
+
+  // 시간에 따라 줄어드는 '없음' 신고 점수
+  @Column(name = "absent_score")
+  private double absentScore;
+
+  // 신고 점수를 마지막으로 반영한 시간
+  @Column(name = "score_updated_date")
+  private LocalDateTime scoreUpdatedDate;
+
+  // 신고 점수로 계산한 비품이 있을 확률
+  @Column(name = "existence_probability")
+  private double existenceProbability;
 }
 
@@ -3,16 +3,20 @@ package com.project.chamjimayo.repository.domain.entity;
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.Id;
+import javax.persistence.PostLoad;
+import javax.persistence.PostPersist;
 import javax.persistence.Table;
+import javax.persistence.Transient;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
 
 @Entity
 @Table(name = "in_app_order")
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-public class InAppOrder extends BaseEntity {
+public class InAppOrder extends BaseEntity implements Persistable<String> {
   @Id
   @Column(name = "purchase_token")
   private String purchaseToken;
@@ -26,6 +30,11 @@ public class InAppOrder extends BaseEntity {
   @Column(name = "already_refund")
   private boolean alreadyRefund;
 
+  // 구매 토큰을 직접 id 로 쓰기 때문에 save 가 merge 로 기존 주문을 덮어쓰지 않도록
+  // 새로 만든 주문은 항상 insert 되게 한다. (같은 토큰이면 PK 중복으로 실패)
+  @Transient
+  private boolean isNew = true;
+
   public InAppOrder(String purchaseToken, Long userId, Integer point) {
     this.purchaseToken = purchaseToken;
     this.userId = userId;
@@ -46,6 +55,22 @@ public class InAppOrder extends BaseEntity {
         (point != null && point != 0);
   }
 
+  @Override
+  public String getId() {
+    return purchaseToken;
+  }
+
+  @Override
+  public boolean isNew() {
+    return isNew;
+  }
+
+  @PostLoad
+  @PostPersist
+  void markNotNew() {
+    this.isNew = false;
+  }
+
   public void alreadyRefund(){
     this.alreadyRefund = true;
   }
@@ -11,18 +11,26 @@ import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 import javax.persistence.OneToMany;
 import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
 import lombok.Builder;
+import org.hibernate.annotations.BatchSize;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
 
 @Entity
-@Table(name = "restroom")
+@Table(name = "restroom", uniqueConstraints = {
+    // 유료 화장실끼리는 이름이 겹칠 수 없다. 공공 화장실은 null 이라 제약에 걸리지 않는다.
+    @UniqueConstraint(name = Restroom.PAID_NAME_CONSTRAINT, columnNames = {"paid_restroom_name"})})
 @Getter
 @ToString(exclude = "restroomId")
 @NoArgsConstructor
 public class Restroom extends BaseEntity {
 
+  public static final String PAID = "paid";
+
+  public static final String PAID_NAME_CONSTRAINT = "uk_restroom_paid_name";
+
   @Id
   @GeneratedValue(strategy = GenerationType.IDENTITY)
   @Column(name = "restroom_id")
@@ -31,6 +39,10 @@ public class Restroom extends BaseEntity {
   @Column(name = "restroom_name")
   private String restroomName;
 
+  // 유료 화장실이면 restroomName 과 같고 공공 화장실이면 null (유니크 제약용)
+  @Column(name = "paid_restroom_name")
+  private String paidRestroomName;
+
   // 위도
   @Column(name = "location_latitude")
   private double locationLatitude;
@@ -51,7 +63,13 @@ public class Restroom extends BaseEntity {
   @Column(name = "operating_hour")
   private String operatingHour;
 
+  // 개방 시간을 15분 단위 일주일 비트맵으로 바꾼 값 (해석할 수 없으면 null)
+  @Column(name = "operating_hour_bitmap", length = 84)
+  private byte[] operatingHourBitmap;
+
   // 화장실 사진 url
+  // 주변 화장실 결과 페이지를 한 번에 읽을 때 화장실마다 따로 조회하지 않도록 묶어서 읽는다.
+  @BatchSize(size = 100)
   @OneToMany(mappedBy = "restroom")
   private List<RestroomPhoto> restroomPhotos;
 
@@ -83,9 +101,11 @@ public class Restroom extends BaseEntity {
   @Column(name = "available_female_toilet_count")
   private Integer availableFemaleToiletCount;
 
+  @BatchSize(size = 100)
   @OneToMany(mappedBy = "restroom")
   private List<Equipment> equipments;
 
+  @BatchSize(size = 100)
   @OneToMany(mappedBy = "restroom")
   private List<Review> reviews;
 
@@ -101,16 +121,19 @@ public class Restroom extends BaseEntity {
 
   @Builder
   public Restroom(String restroomName, double locationLatitude, double locationLongitude,
-      String address, String operatingHour, double equipmentExistenceProbability,
+      String address, String operatingHour, byte[] operatingHourBitmap,
+      double equipmentExistenceProbability,
       String publicOrPaid,
       boolean accessibleToiletExistence, int maleToiletCount, int femaleToiletCount,
       int availableMaleToiletCount, int availableFemaleToiletCount, boolean unisex, int price) {
     super();
     this.restroomName = restroomName;
+    this.paidRestroomName = PAID.equals(publicOrPaid) ? restroomName : null;
     this.locationLatitude = locationLatitude;
     this.locationLongitude = locationLongitude;
     this.address = address;
     this.operatingHour = operatingHour;
+    this.operatingHourBitmap = operatingHourBitmap;
     this.equipmentExistenceProbability = equipmentExistenceProbability;
     this.publicOrPaid = publicOrPaid;
     this.accessibleToiletExistence = accessibleToiletExistence;
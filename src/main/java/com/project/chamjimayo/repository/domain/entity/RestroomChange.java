@@ -0,0 +1,40 @@
+package com.project.chamjimayo.repository.domain.entity;
+
+import java.time.LocalDateTime;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 화장실 변경 기록. 앱의 오프라인 데이터 동기화(/api/restroom/changes)가 changeSeq 순으로 읽는다.
+ * 한 화장실이 여러 번 바뀌면 여러 줄이 쌓이고, 읽는 쪽에서 화장실의 현재 상태로 합친다.
+ * 쌓인 줄은 RestroomChangeCompactor 가 주기적으로 정리한다.
+ * (저장은 RestroomChangeJdbcRepository 가 batch insert 로 한다)
+ */
+@Entity
+@Table(name = "restroom_change", indexes = {
+    @Index(name = "idx_restroom_change_changed_date", columnList = "changed_date"),
+    @Index(name = "idx_restroom_change_restroom", columnList = "restroom_id, change_seq")})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RestroomChange {
+
+  // 커밋 순서와 거의 같게 늘어나는 변경 번호
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @Column(name = "change_seq")
+  private Long changeSeq;
+
+  @Column(name = "restroom_id", nullable = false)
+  private Long restroomId;
+
+  @Column(name = "changed_date", nullable = false)
+  private LocalDateTime changedDate;
+}
@@ -1,20 +1,29 @@
 package com.project.chamjimayo.repository.domain.entity;
 
+import java.time.LocalDateTime;
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
 
 @Entity
-@Table(name = "search")
+@Table(name = "search", uniqueConstraints = {
+    // 유저별로 같은 가게는 하나의 검색 기록만 둔다. (다시 클릭하면 upsert 로 최신화)
+    // (user_id, name) 인덱스 역할도 한다.
+    @UniqueConstraint(name = "uk_search_user_name", columnNames = {"user_id", "name"})},
+    indexes = {
+        // 최근 검색 기록 조회, 오래된 기록 삭제
+        @Index(name = "idx_search_user_created_date", columnList = "user_id, created_date")})
 @Getter
 @ToString(exclude = "searchId")
 @NoArgsConstructor
@@ -52,6 +61,14 @@ public class Search {
   @Column(name = "longitude")
   private Double longitude;
 
+  // 마지막으로 클릭한 시간 (최근 검색 기록 정렬 기준)
+  @Column(name = "created_date")
+  private LocalDateTime createdDate;
+
+  // 클릭한 횟수
+  @Column(name = "click_count")
+  private Integer clickCount;
+
   private Search(User user, String searchWord, String roadAddress, String lotNumberAddress,
       String name, Double latitude, Double longitude) {
     this.user = user;
@@ -61,6 +78,8 @@ public class Search {
     this.name = name;
     this.latitude = latitude;
     this.longitude = longitude;
+    this.createdDate = LocalDateTime.now();
+    this.clickCount = 1;
   }
 
   public static Search create(User user, String searchWord, String roadAddress,
@@ -0,0 +1,40 @@
+package com.project.chamjimayo.repository.domain.entity;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 주기적으로 외부 데이터를 동기화하는 작업이 어디까지 처리했는지 기록한다.
+ * (ex. 마지막으로 처리한 voided purchase 의 무효화 시각)
+ */
+@Entity
+@Table(name = "sync_checkpoint")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SyncCheckpoint {
+
+  @Id
+  @Column(name = "checkpoint_name")
+  private String checkpointName;
+
+  @Column(name = "checkpoint_value", nullable = false)
+  private Long checkpointValue;
+
+  private SyncCheckpoint(String checkpointName, Long checkpointValue) {
+    this.checkpointName = checkpointName;
+    this.checkpointValue = checkpointValue;
+  }
+
+  public static SyncCheckpoint create(String checkpointName, Long checkpointValue) {
+    return new SyncCheckpoint(checkpointName, checkpointValue);
+  }
+
+  public void changeCheckpointValue(Long checkpointValue) {
+    this.checkpointValue = checkpointValue;
+  }
+}
@@ -1,35 +1,72 @@
 package com.project.chamjimayo.repository.domain.entity;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
+@Table(name = "token", indexes = {
+    @Index(name = "idx_token_user_id", columnList = "user_id", unique = true),
+    @Index(name = "idx_token_refresh_token_hash", columnList = "refresh_token_hash", unique = true)
+})
 @Getter
 @NoArgsConstructor
 public class Token {
 
+  private static final char[] HEX = "0123456789abcdef".toCharArray();
+
   @Id
   @GeneratedValue(strategy = GenerationType.IDENTITY)
   private Long id;
 
-  private String userId;
+  @Column(name = "user_id", nullable = false)
+  private Long userId;
 
+  // 재로그인 시 같은 refresh token 을 돌려주기 위해 원문도 보관 (조회에는 사용하지 않음)
+  @Column(name = "refresh_token", length = 512)
   private String refreshToken;
 
-  public Token(String userId, String refreshToken) {
+  // refresh token 의 SHA-256 해시 (hex 64자), 토큰 조회는 이 컬럼으로만 한다.
+  @Column(name = "refresh_token_hash", length = 64, nullable = false)
+  private String refreshTokenHash;
+
+  public Token(Long userId, String refreshToken) {
     this.userId = userId;
     this.refreshToken = refreshToken;
+    this.refreshTokenHash = hash(refreshToken);
   }
 
-  public static Token create(String userId, String refreshToken) {
+  public static Token create(Long userId, String refreshToken) {
     return new Token(userId, refreshToken);
   }
 
   public void changeRefreshToken(String refreshToken) {
     this.refreshToken = refreshToken;
+    this.refreshTokenHash = hash(refreshToken);
+  }
+
+  public static String hash(String refreshToken) {
+    try {
+      byte[] digest = MessageDigest.getInstance("SHA-256")
+          .digest(refreshToken.getBytes(StandardCharsets.UTF_8));
+
+      char[] hex = new char[digest.length * 2];
+      for (int i = 0; i < digest.length; i++) {
+        hex[i * 2] = HEX[(digest[i] >> 4) & 0xF];
+        hex[i * 2 + 1] = HEX[digest[i] & 0xF];
+      }
+      return new String(hex);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+    }
   }
 }
@@ -1,8 +1,10 @@
 package com.project.chamjimayo.security;
 
+import com.project.chamjimayo.controller.config.CacheConfig;
 import com.project.chamjimayo.repository.domain.entity.User;
 import com.project.chamjimayo.repository.UserJpaRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -15,6 +17,7 @@ public class CustomUserDetailsService implements UserDetailsService {
 
   private final UserJpaRepository userJpaRepository;
 
+  @Cacheable(cacheNames = CacheConfig.USER_DETAILS, key = "#id")
   @Transactional(readOnly = true)
   @Override
   public UserDetails loadUserByUsername(String id) throws UsernameNotFoundException {
@@ -75,6 +75,7 @@ public class SecurityConfig {
                     "/api/review/list",
                     "/api/restroom/use",
                     "/api/restroom/endofuse",
+                    "/api/restroom/equipment/report",
                     "/api/in-app/purchase/verify")
                 .and()
                 .addFilter(apiKeyAuthenticationFilter())
@@ -13,13 +13,15 @@ public class AuthTokenService {
 
   private final JwtTokenProvider jwtTokenProvider;
   private final TokenRepository tokenRepository;
+  private final UnknownRefreshTokenCache unknownRefreshTokenCache;
   private final long accessTokenValidityMs;
   private final long refreshTokenValidityMs;
 
   public AuthTokenService(JwtTokenProvider jwtTokenProvider, TokenRepository tokenRepository,
-      JwtProperties jwtProperties) {
+      UnknownRefreshTokenCache unknownRefreshTokenCache, JwtProperties jwtProperties) {
     this.jwtTokenProvider = jwtTokenProvider;
     this.tokenRepository = tokenRepository;
+    this.unknownRefreshTokenCache = unknownRefreshTokenCache;
     this.accessTokenValidityMs = jwtProperties.getAccessTokenValidityMs();
     this.refreshTokenValidityMs = jwtProperties.getRefreshTokenValidityMs();
   }
@@ -42,16 +44,18 @@ public class AuthTokenService {
   }
 
   private String getRefreshToken(String userId) {
-    Token token = tokenRepository.findTokenByUserId(userId).orElse(null);
+    Token token = tokenRepository.findTokenByUserId(Long.valueOf(userId)).orElse(null);
 
     if (token == null) {
       String refreshToken = jwtTokenProvider.createRefreshToken(userId);
-      token = tokenRepository.save(Token.create(userId, refreshToken));
+      token = tokenRepository.save(Token.create(Long.valueOf(userId), refreshToken));
+      unknownRefreshTokenCache.remove(token.getRefreshTokenHash());
     }
 
     if (jwtTokenProvider.isExpired(token.getRefreshToken())) {
       String refreshToken = jwtTokenProvider.createRefreshToken(userId);
       token.changeRefreshToken(refreshToken);
+      unknownRefreshTokenCache.remove(token.getRefreshTokenHash());
     }
 
     return token.getRefreshToken();
@@ -70,6 +74,15 @@ public class AuthTokenService {
   }
 
   public boolean has(String refreshToken) {
-    return tokenRepository.existsTokenByRefreshToken(refreshToken);
+    String refreshTokenHash = Token.hash(refreshToken);
+    if (unknownRefreshTokenCache.contains(refreshTokenHash)) {
+      return false;
+    }
+
+    boolean exists = tokenRepository.existsTokenByRefreshTokenHash(refreshTokenHash);
+    if (!exists) {
+      unknownRefreshTokenCache.add(refreshTokenHash);
+    }
+    return exists;
   }
 }
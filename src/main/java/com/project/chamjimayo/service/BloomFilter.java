@@ -0,0 +1,75 @@
+package com.project.chamjimayo.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 문자열용 Bloom filter.
+ * mightContain 이 false 면 한 번도 넣지 않은 값이고, true 면 넣었을 수도 있는 값이다.
+ * 비트를 AtomicLongArray 에 두기 때문에 여러 스레드에서 동시에 넣고 조회해도 된다.
+ */
+class BloomFilter {
+
+  private final AtomicLongArray bits;
+  private final long bitSize;
+  private final int hashCount;
+
+  BloomFilter(long expectedInsertions, double falsePositiveRate) {
+    long n = Math.max(1, expectedInsertions);
+    long m = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+    int words = (int) Math.min(Integer.MAX_VALUE - 8, (m + 63) >>> 6);
+    this.bits = new AtomicLongArray(Math.max(1, words));
+    this.bitSize = (long) bits.length() << 6;
+    this.hashCount = Math.max(1, (int) Math.round((double) bitSize / n * Math.log(2)));
+  }
+
+  void put(String value) {
+    long hash = hash(value);
+    int h1 = (int) hash;
+    int h2 = (int) (hash >>> 32);
+    for (int i = 1; i <= hashCount; i++) {
+      long index = indexOf(h1 + i * h2);
+      int word = (int) (index >>> 6);
+      long mask = 1L << index;
+      long current;
+      do {
+        current = bits.get(word);
+        if ((current & mask) != 0) {
+          break;
+        }
+      } while (!bits.compareAndSet(word, current, current | mask));
+    }
+  }
+
+  boolean mightContain(String value) {
+    long hash = hash(value);
+    int h1 = (int) hash;
+    int h2 = (int) (hash >>> 32);
+    for (int i = 1; i <= hashCount; i++) {
+      long index = indexOf(h1 + i * h2);
+      if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private long indexOf(int combinedHash) {
+    return (combinedHash & 0x7fffffffL) % bitSize;
+  }
+
+  // UTF-8 바이트에 대한 FNV-1a 64bit 해시를 murmur3 finalizer 로 섞는다.
+  private static long hash(String value) {
+    long hash = 0xcbf29ce484222325L;
+    for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+      hash ^= b & 0xff;
+      hash *= 0x100000001b3L;
+    }
+    hash ^= hash >>> 33;
+    hash *= 0xff51afd7ed558ccdL;
+    hash ^= hash >>> 33;
+    hash *= 0xc4ceb3fe1a85ec53L;
+    hash ^= hash >>> 33;
+    return hash;
+  }
+}
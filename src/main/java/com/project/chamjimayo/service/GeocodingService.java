@@ -0,0 +1,96 @@
+package com.project.chamjimayo.service;
+
+import com.project.chamjimayo.controller.config.CacheConfig;
+import com.project.chamjimayo.controller.config.RestroomProperties;
+import com.project.chamjimayo.service.client.NaverGeocodingClient;
+import com.project.chamjimayo.service.exception.AddressNotFoundException;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.PreDestroy;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+
+/**
+ * 주소를 좌표로 바꾼다.
+ * 같은 주소는 캐시된 좌표를 쓰고, 여러 주소는 정해진 수의 스레드로 동시에 조회한다.
+ */
+@Service
+public class GeocodingService {
+
+  private final NaverGeocodingClient naverGeocodingClient;
+  private final Cache cache;
+  private final ExecutorService executor;
+
+  public GeocodingService(NaverGeocodingClient naverGeocodingClient, CacheManager cacheManager,
+      RestroomProperties restroomProperties) {
+    this.naverGeocodingClient = naverGeocodingClient;
+    this.cache = cacheManager.getCache(CacheConfig.GEOCODES);
+    AtomicInteger threadNumber = new AtomicInteger();
+    this.executor = Executors.newFixedThreadPool(restroomProperties.getGeocodingConcurrency(),
+        runnable -> {
+          Thread thread = new Thread(runnable, "geocoding-" + threadNumber.incrementAndGet());
+          thread.setDaemon(true);
+          return thread;
+        });
+  }
+
+  /**
+   * 주소의 좌표를 {경도, 위도} 순서로 반환
+   */
+  public double[] geocode(String address) {
+    double[] cached = cache.get(address, double[].class);
+    if (cached != null) {
+      return cached.clone();
+    }
+
+    //네이버 cloud platform GeoCoding 사용
+    Map<String, Object> responseMap = naverGeocodingClient.geocode(address).get(0);
+    if (responseMap.isEmpty()) {
+      throw new AddressNotFoundException("잘못된 주소입니다");
+    }
+    double[] longAndLat = {Double.parseDouble((String) responseMap.get("x")),
+        Double.parseDouble((String) responseMap.get("y"))};
+    cache.put(address, longAndLat);
+    return longAndLat.clone();
+  }
+
+  /**
+   * 여러 주소의 좌표를 동시에 조회해서 주소별로 반환.
+   * 하나라도 실패하면 그 예외를 그대로 던진다.
+   */
+  public Map<String, double[]> geocodeAll(Collection<String> addresses) {
+    Set<String> distinctAddresses = new LinkedHashSet<>(addresses);
+    Map<String, CompletableFuture<double[]>> futures = new LinkedHashMap<>();
+    for (String address : distinctAddresses) {
+      futures.put(address, CompletableFuture.supplyAsync(() -> geocode(address), executor));
+    }
+
+    Map<String, double[]> result = new LinkedHashMap<>();
+    try {
+      for (Map.Entry<String, CompletableFuture<double[]>> entry : futures.entrySet()) {
+        result.put(entry.getKey(), entry.getValue().join());
+      }
+    } catch (CompletionException e) {
+      futures.values().forEach(future -> future.cancel(false));
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw e;
+    }
+    return result;
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    executor.shutdownNow();
+  }
+}
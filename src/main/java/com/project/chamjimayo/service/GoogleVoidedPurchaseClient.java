@@ -0,0 +1,40 @@
+package com.project.chamjimayo.service;
+
+import com.google.api.services.androidpublisher.AndroidPublisher;
+import com.google.api.services.androidpublisher.AndroidPublisher.Purchases.Voidedpurchases;
+import com.google.api.services.androidpublisher.model.VoidedPurchasesListResponse;
+import com.project.chamjimayo.controller.config.GoogleProperties;
+import com.project.chamjimayo.controller.config.RefundProperties;
+import com.project.chamjimayo.service.exception.IoException;
+import java.io.IOException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class GoogleVoidedPurchaseClient implements VoidedPurchaseClient {
+
+  private final AndroidPublisher androidPublisher;
+  private final GoogleProperties googleProperties;
+  private final RefundProperties refundProperties;
+
+  @Override
+  public VoidedPurchasesListResponse list(String pageToken, Long startTimeMillis) {
+    try {
+      Voidedpurchases.List request = androidPublisher
+          .purchases().voidedpurchases()
+          .list(googleProperties.getGoogleApplicationPackageName())
+          .setMaxResults(refundProperties.getPageSize());
+
+      if (startTimeMillis != null) {
+        request.setStartTime(startTimeMillis);
+      }
+      if (pageToken != null) {
+        request.setToken(pageToken);
+      }
+      return request.execute();
+    } catch (IOException e) {
+      throw new IoException("패키지명 입출력 오류");
+    }
+  }
+}
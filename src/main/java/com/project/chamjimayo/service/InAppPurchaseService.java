@@ -17,6 +17,11 @@ public class InAppPurchaseService {
 
   @Transactional
   public PointDto verifyPurchase(Long userId, GoogleInAppPurchaseDto dto) {
+    // 이미 처리된 구매 토큰(클라이언트 재시도 등)은 구글 api 를 호출하지 않고 현재 포인트를 돌려준다.
+    if (orderService.existsOrder(dto.getToken())) {
+      return userService.getPoints(userId);
+    }
+
     if (receiptValidationService.validateReceipt(dto)) {
       Integer point = Product.pointsFromProductId(dto.getProductId());
       PointDto pointDto = userService.chargePoints(userId, PointDto.create(point));
@@ -2,8 +2,10 @@ package com.project.chamjimayo.service;
 
 import com.project.chamjimayo.repository.InAppOrderJpaRepository;
 import com.project.chamjimayo.repository.domain.entity.InAppOrder;
+import com.project.chamjimayo.service.exception.PurchaseVerificationException;
 import javax.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -12,7 +14,16 @@ import org.springframework.stereotype.Service;
 public class OrderService {
   private final InAppOrderJpaRepository inAppOrderJpaRepository;
 
+  public boolean existsOrder(String purchaseToken) {
+    return inAppOrderJpaRepository.existsById(purchaseToken);
+  }
+
   public void createOrder(String purchaseToken, Long userId, Integer point) {
-    inAppOrderJpaRepository.save(InAppOrder.create(purchaseToken, userId, point));
+    try {
+      // 동시에 같은 토큰으로 주문이 들어오면 PK 중복으로 한 쪽만 성공한다.
+      inAppOrderJpaRepository.saveAndFlush(InAppOrder.create(purchaseToken, userId, point));
+    } catch (DataIntegrityViolationException e) {
+      throw new PurchaseVerificationException("이미 처리된 결제입니다.");
+    }
   }
 }
@@ -0,0 +1,65 @@
+package com.project.chamjimayo.service;
+
+import com.project.chamjimayo.repository.RestroomJdbcRepository;
+import com.project.chamjimayo.repository.RestroomJpaRepository;
+import com.project.chamjimayo.service.dto.RestroomNameDto;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * paid_restroom_name 컬럼이 생기기 전에 저장된 유료 화장실의 이름을 서버 시작 시 채운다.
+ * 채우지 않으면 기존 유료 화장실 이름이 유니크 제약과 Bloom filter 에 잡히지 않아 같은 이름으로 다시 등록될 수 있다.
+ * 이미 같은 이름이 여러 개 있으면 id 가 가장 작은 화장실만 채우고 나머지는 로그로 남긴다.
+ * Bloom filter 가 채워진 이름까지 읽도록 PaidRestroomNameFilter 보다 먼저 실행된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "restroom", name = "paid-name-backfill-enabled",
+    havingValue = "true", matchIfMissing = true)
+public class PaidRestroomNameBackfillRunner {
+
+  private final RestroomJpaRepository restroomJpaRepository;
+  private final RestroomJdbcRepository restroomJdbcRepository;
+
+  @Order(Ordered.HIGHEST_PRECEDENCE)
+  @EventListener(ApplicationReadyEvent.class)
+  public void backfill() {
+    List<RestroomNameDto> restrooms = restroomJpaRepository.findPaidRestroomsWithoutPaidName();
+    if (restrooms.isEmpty()) {
+      return;
+    }
+
+    Set<String> taken = new HashSet<>(restroomJpaRepository.findAllPaidRestroomNames());
+    Map<Long, String> paidRestroomNames = new LinkedHashMap<>();
+    List<Long> duplicated = new ArrayList<>();
+    for (RestroomNameDto restroom : restrooms) {
+      if (taken.add(restroom.getRestroomName())) {
+        paidRestroomNames.put(restroom.getRestroomId(), restroom.getRestroomName());
+      } else {
+        duplicated.add(restroom.getRestroomId());
+      }
+    }
+
+    if (!paidRestroomNames.isEmpty()) {
+      restroomJdbcRepository.updatePaidRestroomNames(paidRestroomNames);
+    }
+    if (!duplicated.isEmpty()) {
+      log.warn("이름이 중복된 유료 화장실은 paid_restroom_name 을 채우지 않았습니다: {}", duplicated);
+    }
+    log.info("유료 화장실 이름 backfill: 대상 {}개 중 {}개 채움", restrooms.size(),
+        paidRestroomNames.size());
+  }
+}
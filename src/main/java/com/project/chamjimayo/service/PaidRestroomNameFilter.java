@@ -0,0 +1,61 @@
+package com.project.chamjimayo.service;
+
+import com.project.chamjimayo.controller.config.RestroomProperties;
+import com.project.chamjimayo.repository.RestroomJpaRepository;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이미 등록된 유료 화장실 이름을 담아둔 Bloom filter.
+ * 대부분의 등록 요청은 새 이름이라, 여기서 없다고 나오면 중복 확인 쿼리를 건너뛴다.
+ * 있다고 나오는 경우(실제 중복 또는 false positive)만 DB에 확인한다.
+ * 최종적인 중복 방지는 uk_restroom_paid_name 유니크 제약이 맡는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PaidRestroomNameFilter {
+
+  private final RestroomJpaRepository restroomJpaRepository;
+  private final RestroomProperties restroomProperties;
+
+  // 로딩 전에는 null 이고, 그동안은 모든 이름을 중복 후보로 본다.
+  private volatile BloomFilter filter;
+
+  // PaidRestroomNameBackfillRunner 가 기존 유료 화장실 이름을 채운 뒤에 읽는다.
+  @Order(Ordered.HIGHEST_PRECEDENCE + 1)
+  @EventListener(ApplicationReadyEvent.class)
+  public void load() {
+    List<String> names = restroomJpaRepository.findAllPaidRestroomNames();
+    BloomFilter loaded = new BloomFilter(
+        Math.max(restroomProperties.getNameFilterExpectedInsertions(), names.size() * 2L),
+        restroomProperties.getNameFilterFalsePositiveRate());
+    names.forEach(loaded::put);
+    filter = loaded;
+    log.info("유료 화장실 이름 {}개로 Bloom filter 를 만들었습니다.", names.size());
+  }
+
+  public boolean mightContain(String restroomName) {
+    BloomFilter current = filter;
+    return current == null || current.mightContain(restroomName);
+  }
+
+  public List<String> filterMightContain(Collection<String> restroomNames) {
+    return restroomNames.stream().filter(this::mightContain).collect(Collectors.toList());
+  }
+
+  public void put(String restroomName) {
+    BloomFilter current = filter;
+    if (current != null) {
+      current.put(restroomName);
+    }
+  }
+}
@@ -0,0 +1,91 @@
+package com.project.chamjimayo.service;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.project.chamjimayo.controller.config.SearchProperties;
+import com.project.chamjimayo.repository.SearchRepository;
+import com.project.chamjimayo.service.client.TmapClient;
+import com.project.chamjimayo.service.client.TmapPoi;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.text.Normalizer;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+/**
+ * 검색어별 티맵 POI 검색 결과 캐시.
+ * 띄어쓰기/대소문자만 다른 검색어는 같은 key 로 보고, 같은 검색어에 대한 동시 요청은 하나의 호출을 같이 기다린다.
+ * 실패한 호출은 캐시에 남지 않는다.
+ */
+@Slf4j
+@Component
+public class PoiSearchCache {
+
+  private static final String CACHE_NAME = "poiSearch";
+
+  private final TmapClient tmapClient;
+  private final SearchRepository searchRepository;
+  private final SearchProperties searchProperties;
+  private final AsyncCache<String, List<TmapPoi>> cache;
+
+  public PoiSearchCache(TmapClient tmapClient, SearchRepository searchRepository,
+      SearchProperties searchProperties, MeterRegistry meterRegistry) {
+    this.tmapClient = tmapClient;
+    this.searchRepository = searchRepository;
+    this.searchProperties = searchProperties;
+    this.cache = Caffeine.newBuilder()
+        .maximumSize(searchProperties.getCacheMaximumSize())
+        .expireAfterWrite(searchProperties.getCacheExpireAfterWrite())
+        .recordStats()
+        .buildAsync();
+
+    // cache.gets{result=hit|miss}, cache.evictions 등 지표
+    CaffeineCacheMetrics.monitor(meterRegistry, cache.synchronous(), CACHE_NAME);
+  }
+
+  public CompletableFuture<List<TmapPoi>> search(String searchWord) {
+    String keyword = normalize(searchWord);
+    return cache.get(keyword,
+        (key, executor) -> tmapClient.searchPois(key, searchProperties.getResultCount()));
+  }
+
+  /**
+   * 검색 기록에서 자주 검색된 검색어를 하나씩 차례로 조회해서 캐시에 올린다.
+   * 티맵에 요청이 몰리지 않도록 앞의 호출이 끝난 뒤에 다음 호출을 보낸다.
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public void warmUp() {
+    if (searchProperties.getWarmUpSize() <= 0) {
+      return;
+    }
+
+    List<String> searchWords = searchRepository.findTopSearchWords(
+        PageRequest.of(0, searchProperties.getWarmUpSize()));
+
+    CompletableFuture<Void> chain = CompletableFuture.completedFuture(null);
+    for (String searchWord : searchWords) {
+      chain = chain.thenCompose(ignored -> search(searchWord)
+          .handle((pois, throwable) -> {
+            if (throwable != null) {
+              log.warn("failed to warm up poi search cache. searchWord: {}", searchWord);
+            }
+            return null;
+          }));
+    }
+    chain.thenRun(() -> log.info("warmed up poi search cache with {} search words",
+        searchWords.size()));
+  }
+
+  static String normalize(String searchWord) {
+    return Normalizer.normalize(searchWord, Normalizer.Form.NFC)
+        .trim()
+        .replaceAll("\\s+", " ")
+        .toLowerCase(Locale.ROOT);
+  }
+}
@@ -3,36 +3,72 @@ package com.project.chamjimayo.service;
 import com.google.api.services.androidpublisher.AndroidPublisher;
 import com.google.api.services.androidpublisher.AndroidPublisher.Purchases.Products;
 import com.google.api.services.androidpublisher.model.ProductPurchase;
+import com.project.chamjimayo.controller.config.CacheConfig;
 import com.project.chamjimayo.controller.config.GoogleProperties;
 import com.project.chamjimayo.service.dto.GoogleInAppPurchaseDto;
 import com.project.chamjimayo.service.exception.GoogleClientRequestException;
 import com.project.chamjimayo.service.exception.PurchaseVerificationException;
 import java.io.IOException;
-import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.stereotype.Service;
 
 @Service
-@RequiredArgsConstructor
 public class ReceiptValidationService {
+  private static final Integer PURCHASE_COMPLETE = 0;
   private static final Integer PURCHASE_CANCEL = 1;
   private static final Integer PURCHASE_PENDING = 2;
 
   private final AndroidPublisher androidPublisher;
   private final GoogleProperties googleProperties;
-  
+
+  // 결제 완료로 확인된 영수증 (key: 상품 id + 구매 토큰)
+  private final Cache receiptCache;
+
+  // 같은 영수증에 대한 동시 검증 요청은 구글 api 를 한 번만 호출한다.
+  private final SingleFlight<String, Integer> singleFlight = new SingleFlight<>();
+
+  public ReceiptValidationService(AndroidPublisher androidPublisher,
+      GoogleProperties googleProperties, CacheManager cacheManager) {
+    this.androidPublisher = androidPublisher;
+    this.googleProperties = googleProperties;
+    this.receiptCache = cacheManager.getCache(CacheConfig.PURCHASE_RECEIPTS);
+  }
+
   public boolean validateReceipt(GoogleInAppPurchaseDto dto) {
-    Products products = androidPublisher.purchases().products();
+    // 다른 상품 id 로 같은 토큰을 재사용하지 못하도록 상품 id 도 key 에 포함한다.
+    String key = dto.getProductId() + ":" + dto.getToken();
 
-    ProductPurchase purchase = getProductPurchase(dto, products);
+    Integer purchaseState = receiptCache.get(key, Integer.class);
+    if (purchaseState == null) {
+      purchaseState = singleFlight.execute(key, () -> fetchPurchaseState(key, dto));
+    }
 
-    if (purchase.getPurchaseState().equals(PURCHASE_CANCEL) || 
-        purchase.getPurchaseState().equals(PURCHASE_PENDING)) {
+    if (purchaseState.equals(PURCHASE_CANCEL) ||
+        purchaseState.equals(PURCHASE_PENDING)) {
       throw new PurchaseVerificationException("결제가 완료되지 않았습니다.");
     }
 
     return true;
   }
 
+  private Integer fetchPurchaseState(String key, GoogleInAppPurchaseDto dto) {
+    // 앞선 호출이 방금 끝났다면 캐시된 결과를 사용한다.
+    Integer cached = receiptCache.get(key, Integer.class);
+    if (cached != null) {
+      return cached;
+    }
+
+    Integer purchaseState = getProductPurchase(dto, androidPublisher.purchases().products())
+        .getPurchaseState();
+
+    // 대기 중인 결제는 나중에 완료될 수 있으므로 완료된 결과만 캐시한다.
+    if (PURCHASE_COMPLETE.equals(purchaseState)) {
+      receiptCache.put(key, purchaseState);
+    }
+    return purchaseState;
+  }
+
   private ProductPurchase getProductPurchase(GoogleInAppPurchaseDto dto,
       Products products) {
     ProductPurchase purchase;
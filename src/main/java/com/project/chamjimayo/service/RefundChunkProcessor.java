@@ -0,0 +1,83 @@
+package com.project.chamjimayo.service;
+
+import com.google.api.services.androidpublisher.model.VoidedPurchase;
+import com.project.chamjimayo.controller.dto.response.RefundResponse;
+import com.project.chamjimayo.repository.InAppOrderJpaRepository;
+import com.project.chamjimayo.repository.UserJpaRepository;
+import com.project.chamjimayo.repository.domain.entity.InAppOrder;
+import com.project.chamjimayo.repository.domain.entity.User;
+import com.project.chamjimayo.service.event.UserChangedEvent;
+import com.project.chamjimayo.service.exception.UserNotFoundException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 무효화된 구매 내역 한 묶음(chunk)을 한 트랜잭션으로 환불 처리한다.
+ * 묶음마다 커밋하기 때문에 대량 환불 중 실패해도 이미 처리된 묶음은 유지된다.
+ */
+@Service
+@RequiredArgsConstructor
+public class RefundChunkProcessor {
+
+  private final InAppOrderJpaRepository inAppOrderJpaRepository;
+  private final UserJpaRepository userJpaRepository;
+  private final ApplicationEventPublisher eventPublisher;
+
+  @Transactional(propagation = Propagation.REQUIRES_NEW)
+  public List<RefundResponse> process(List<VoidedPurchase> voidedPurchases) {
+    Set<String> purchaseTokens = voidedPurchases.stream()
+        .map(VoidedPurchase::getPurchaseToken)
+        .collect(Collectors.toSet());
+
+    // 환불 처리되지 않은 주문만 잠금을 걸고 한 번에 조회
+    List<InAppOrder> orders = inAppOrderJpaRepository
+        .findAllByPurchaseTokenInAndAlreadyRefundFalse(purchaseTokens);
+    if (orders.isEmpty()) {
+      return List.of();
+    }
+
+    // 포인트를 차감하기 전에 환불 완료로 먼저 바꾼다.
+    // 잠금으로 막지 못한 경우에도 이 트랜잭션이 바꾸지 못한 주문이 있으면 전체를 롤백해서 두 번 차감하지 않는다.
+    int refunded = inAppOrderJpaRepository.markAlreadyRefund(orders.stream()
+        .map(InAppOrder::getPurchaseToken)
+        .collect(Collectors.toList()));
+    if (refunded != orders.size()) {
+      throw new IllegalStateException("이미 다른 곳에서 환불 처리된 주문이 있습니다");
+    }
+
+    Map<Long, User> users = userJpaRepository.findAllByUserIdIn(orders.stream()
+            .map(InAppOrder::getUserId)
+            .collect(Collectors.toSet()))
+        .stream()
+        .collect(Collectors.toMap(User::getUserId, Function.identity()));
+
+    // 유저별로 환불 포인트를 합쳐서 한 번만 차감
+    Map<Long, Integer> deductions = new LinkedHashMap<>();
+    List<RefundResponse> refundResponseList = new ArrayList<>();
+    for (InAppOrder order : orders) {
+      if (!users.containsKey(order.getUserId())) {
+        throw new UserNotFoundException("해당 유저를 찾을 수 없습니다");
+      }
+      deductions.merge(order.getUserId(), order.getPoint(), Integer::sum);
+      refundResponseList.add(new RefundResponse(order.getUserId(), order.getPoint()));
+    }
+
+    //포인트 환불, 이미 사용했다면 보유 포인트 마이너스
+    deductions.forEach((userId, point) -> {
+      users.get(userId).deductPoint(point);
+      eventPublisher.publishEvent(UserChangedEvent.create(userId));
+    });
+
+    return refundResponseList;
+  }
+}
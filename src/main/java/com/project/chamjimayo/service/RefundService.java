@@ -1,73 +1,128 @@
 package com.project.chamjimayo.service;
 
-import com.google.api.services.androidpublisher.AndroidPublisher;
 import com.google.api.services.androidpublisher.model.VoidedPurchase;
 import com.google.api.services.androidpublisher.model.VoidedPurchasesListResponse;
-import com.project.chamjimayo.controller.config.GoogleProperties;
+import com.project.chamjimayo.controller.config.RefundProperties;
 import com.project.chamjimayo.controller.dto.response.RefundResponse;
-import com.project.chamjimayo.repository.InAppOrderJpaRepository;
-import com.project.chamjimayo.repository.UserJpaRepository;
-import com.project.chamjimayo.repository.domain.entity.InAppOrder;
-import com.project.chamjimayo.repository.domain.entity.User;
-import com.project.chamjimayo.service.exception.IoException;
-import com.project.chamjimayo.service.exception.UserNotFoundException;
-import com.project.chamjimayo.service.exception.VoidedPurchaseNotFoundException;
-import java.io.IOException;
-import java.util.ArrayList;
+import com.project.chamjimayo.controller.dto.response.RefundResultResponse;
+import java.time.Clock;
+import java.time.Duration;
 import java.util.List;
-import lombok.RequiredArgsConstructor;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class RefundService {
 
-  private final InAppOrderJpaRepository inAppOrderJpaRepository;
-  private final UserJpaRepository userJpaRepository;
-  private final AndroidPublisher androidPublisher;
-  private final GoogleProperties googleProperties;
+  static final String REFUND_CHECKPOINT = "voided-purchase";
 
-  @Transactional
-  public List<RefundResponse> processRefund() {
-    List<VoidedPurchase> voidedPurchases = getVoidedPurchases();
+  // voided purchase api 는 30일 이전 내역을 조회할 수 없다.
+  private static final Duration MAX_LOOK_BACK = Duration.ofDays(30);
 
-    List<RefundResponse> refundResponseList = new ArrayList<>();
-    for (VoidedPurchase voidedPurchase : voidedPurchases) {
-      InAppOrder inAppOrder = inAppOrderJpaRepository.findOrderByPurchaseToken(voidedPurchase.getPurchaseToken());
-      if (!inAppOrder.isAlreadyRefund()) { //환불 처리된게 아니라면 환불 처리
-        refund(refundResponseList, inAppOrder);
-      }
-    }
-    return refundResponseList;
+  private final VoidedPurchaseClient voidedPurchaseClient;
+  private final RefundChunkProcessor refundChunkProcessor;
+  private final RefundProperties refundProperties;
+  private final SyncCheckpointService syncCheckpointService;
+  private final Clock clock;
+  private final ReentrantLock lock = new ReentrantLock();
+
+  @Autowired
+  public RefundService(VoidedPurchaseClient voidedPurchaseClient,
+      RefundChunkProcessor refundChunkProcessor, RefundProperties refundProperties,
+      SyncCheckpointService syncCheckpointService) {
+    this(voidedPurchaseClient, refundChunkProcessor, refundProperties, syncCheckpointService,
+        Clock.systemUTC());
   }
 
-  private void refund(List<RefundResponse> refundResponseList, InAppOrder inAppOrder) {
-    User user = userJpaRepository.findUserByUserId(inAppOrder.getUserId())
-        .orElseThrow(() -> new UserNotFoundException("해당 유저를 찾을 수 없습니다"));
-    //포인트 환불, 이미 사용했다면 보유 포인트 마이너스
-    user.deductPoint(inAppOrder.getPoint());
-    // 환불 처리 목록에 추가
-    refundResponseList.add(new RefundResponse(user.getUserId(), inAppOrder.getPoint()));
-    inAppOrder.alreadyRefund(); // order 테이블에서 이미 처리된 환불 요청으로 변경
+  RefundService(VoidedPurchaseClient voidedPurchaseClient,
+      RefundChunkProcessor refundChunkProcessor, RefundProperties refundProperties,
+      SyncCheckpointService syncCheckpointService, Clock clock) {
+    this.voidedPurchaseClient = voidedPurchaseClient;
+    this.refundChunkProcessor = refundChunkProcessor;
+    this.refundProperties = refundProperties;
+    this.syncCheckpointService = syncCheckpointService;
+    this.clock = clock;
   }
 
-  private List<VoidedPurchase> getVoidedPurchases() {
-    VoidedPurchasesListResponse response;
+  /**
+   * 마지막으로 처리한 무효화 시각(에서 checkpointOverlap 을 뺀 시각) 이후의 내역만 조회해서 chunk 단위로 환불 처리한다.
+   * 이미 처리한 내역이 다시 조회되어도 이미 환불된 주문은 건너뛰기 때문에 여러 번 실행해도 안전하다.
+   * 다른 곳에서 이미 실행 중이면 아무것도 하지 않는다.
+   * 처리한 내역을 모아두지 않고 chunk 마다 건수와 포인트만 더해서 돌려준다.
+   */
+  public RefundResultResponse processRefund() {
+    if (!lock.tryLock()) {
+      log.info("refund sync is already running");
+      return new RefundResultResponse(0, 0L);
+    }
     try {
-      response = androidPublisher
-          .purchases().voidedpurchases()
-          .list(googleProperties.getGoogleApplicationPackageName())
-          .execute();
-    } catch (IOException e) {
-      throw new IoException("패키지명 입출력 오류");
+      return syncRefunds();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private RefundResultResponse syncRefunds() {
+    Long watermark = syncCheckpointService.getCheckpoint(REFUND_CHECKPOINT).orElse(null);
+    Long startTime = getStartTime(watermark);
+
+    int refundCount = 0;
+    long refundPoint = 0L;
+    long lastVoidedTime = watermark == null ? 0L : watermark;
+    String pageToken = null;
+
+    do {
+      VoidedPurchasesListResponse response = voidedPurchaseClient.list(pageToken, startTime);
+
+      List<VoidedPurchase> voidedPurchases = response.getVoidedPurchases();
+      if (voidedPurchases != null && !voidedPurchases.isEmpty()) {
+        int chunkSize = refundProperties.getChunkSize();
+        for (int from = 0; from < voidedPurchases.size(); from += chunkSize) {
+          int to = Math.min(from + chunkSize, voidedPurchases.size());
+          List<RefundResponse> refunds =
+              refundChunkProcessor.process(voidedPurchases.subList(from, to));
+          refundCount += refunds.size();
+          refundPoint += refunds.stream().mapToLong(RefundResponse::getPoint).sum();
+        }
+        lastVoidedTime = Math.max(lastVoidedTime, getLastVoidedTime(voidedPurchases));
+      }
+
+      pageToken = getNextPageToken(response);
+    } while (pageToken != null);
+
+    // 모든 페이지를 처리한 뒤에만 watermark 를 옮긴다. (중간에 실패하면 다음 실행에서 다시 조회)
+    if (watermark == null || lastVoidedTime > watermark) {
+      syncCheckpointService.saveCheckpoint(REFUND_CHECKPOINT, lastVoidedTime);
     }
+    return new RefundResultResponse(refundCount, refundPoint);
+  }
 
-    List<VoidedPurchase> result = response.getVoidedPurchases();
-    if (result == null) {
-      throw new VoidedPurchaseNotFoundException("무효화된 거래 내역이 없습니다");
+  private Long getStartTime(Long watermark) {
+    if (watermark == null) {
+      return null;
     }
+    long oldestAllowed = clock.millis() - MAX_LOOK_BACK.toMillis() + Duration.ofMinutes(1).toMillis();
+    return Math.max(watermark - refundProperties.getCheckpointOverlap().toMillis(), oldestAllowed);
+  }
 
-    return result;
+  private long getLastVoidedTime(List<VoidedPurchase> voidedPurchases) {
+    long lastVoidedTime = 0L;
+    for (VoidedPurchase voidedPurchase : voidedPurchases) {
+      if (voidedPurchase.getVoidedTimeMillis() != null) {
+        lastVoidedTime = Math.max(lastVoidedTime, voidedPurchase.getVoidedTimeMillis());
+      }
+    }
+    return lastVoidedTime;
+  }
+
+  private String getNextPageToken(VoidedPurchasesListResponse response) {
+    if (response.getTokenPagination() == null) {
+      return null;
+    }
+    String nextPageToken = response.getTokenPagination().getNextPageToken();
+    return (nextPageToken == null || nextPageToken.isEmpty()) ? null : nextPageToken;
   }
 }
@@ -0,0 +1,35 @@
+package com.project.chamjimayo.service;
+
+import com.project.chamjimayo.controller.dto.response.RefundResultResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 새로 무효화된 구매 내역을 주기적으로 가져와 환불 처리한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "refund", name = "sync-enabled", havingValue = "true",
+    matchIfMissing = true)
+public class RefundSyncScheduler {
+
+  private final RefundService refundService;
+
+  @Scheduled(fixedDelayString = "${refund.sync-interval-ms:600000}",
+      initialDelayString = "${refund.sync-initial-delay-ms:60000}")
+  public void syncRefunds() {
+    try {
+      RefundResultResponse result = refundService.processRefund();
+      if (result.getRefundCount() > 0) {
+        log.info("refunded {} voided purchases ({} points)", result.getRefundCount(),
+            result.getRefundPoint());
+      }
+    } catch (RuntimeException e) {
+      log.error("failed to sync voided purchases", e);
+    }
+  }
+}
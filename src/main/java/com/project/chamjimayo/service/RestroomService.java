@@ -1,15 +1,29 @@
 package com.project.chamjimayo.service;
 
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.chamjimayo.controller.config.RestroomProperties;
 import com.project.chamjimayo.controller.dto.PageDto;
+import com.project.chamjimayo.repository.RestroomJdbcRepository;
+import com.project.chamjimayo.service.client.PublicRestroomDataClient;
 import com.project.chamjimayo.service.dto.EndOfUsingRestroomDto;
 import com.project.chamjimayo.service.dto.EnrollRestroomDto;
+import com.project.chamjimayo.service.dto.EquipmentReportDto;
 import com.project.chamjimayo.service.dto.PointDto;
 import com.project.chamjimayo.service.dto.RestroomDetailDto;
 import com.project.chamjimayo.service.dto.UsingRestroomDto;
+import com.project.chamjimayo.service.equipment.EquipmentAvailabilityService;
+import com.project.chamjimayo.service.event.RestroomChangedEvent;
+import com.project.chamjimayo.service.event.UserChangedEvent;
+import com.project.chamjimayo.service.nearby.NearByCandidates;
+import com.project.chamjimayo.service.nearby.NearByFilter;
+import com.project.chamjimayo.service.nearby.NearByPage;
+import com.project.chamjimayo.service.nearby.RestroomAttributes;
+import com.project.chamjimayo.service.nearby.RestroomSnapshot;
+import com.project.chamjimayo.service.nearby.RestroomSnapshotStore;
+import com.project.chamjimayo.service.operatinghour.OperatingHours;
+import com.project.chamjimayo.service.walking.WalkingDistanceService;
 import com.project.chamjimayo.service.exception.PageOutOfRangeException;
+import com.project.chamjimayo.controller.dto.response.NearByLiteResponse;
 import com.project.chamjimayo.controller.dto.response.NearByResponse;
 import com.project.chamjimayo.service.dto.RestroomNearByDto;
 import com.project.chamjimayo.controller.dto.response.RestroomResponse;
@@ -17,9 +31,7 @@ import com.project.chamjimayo.repository.domain.entity.Restroom;
 import com.project.chamjimayo.repository.domain.entity.RestroomPhoto;
 import com.project.chamjimayo.repository.domain.entity.UsedRestroom;
 import com.project.chamjimayo.repository.domain.entity.User;
-import com.project.chamjimayo.service.exception.AddressNotFoundException;
-import com.project.chamjimayo.service.exception.FileNotFoundException;
-import com.project.chamjimayo.service.exception.IoException;
+import com.project.chamjimayo.service.exception.IndexException;
 import com.project.chamjimayo.service.exception.PointLackException;
 import com.project.chamjimayo.service.exception.RestroomNameDuplicateException;
 import com.project.chamjimayo.service.exception.RestroomNotFoundException;
@@ -29,35 +41,43 @@ import com.project.chamjimayo.repository.RestroomPhotoRepository;
 import com.project.chamjimayo.repository.UsedRestroomRepository;
 import com.project.chamjimayo.repository.UserJpaRepository;
 import com.project.chamjimayo.service.exception.UsingRestroomException;
-import java.io.IOException;
-import java.io.InputStream;
+import java.sql.SQLException;
 import java.util.ArrayList;
-import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
-import org.springframework.core.env.Environment;
-import org.springframework.core.io.Resource;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpMethod;
-import org.springframework.http.ResponseEntity;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.client.RestTemplate;
 
 @Service
 @RequiredArgsConstructor
 public class RestroomService {
 
+  private static final String SORT_BY_WALKING = "walking";
+
   private final RestroomJpaRepository restroomJpaRepository;
   private final UserJpaRepository userJpaRepository;
   private final UsedRestroomRepository usedRestroomRepository;
   private final RestroomPhotoRepository restroomPhotoRespository;
-  private final Environment env;
+  private final PublicRestroomDataClient publicRestroomDataClient;
+  private final RestroomJdbcRepository restroomJdbcRepository;
+  private final GeocodingService geocodingService;
+  private final RestroomProperties restroomProperties;
+  private final PaidRestroomNameFilter paidRestroomNameFilter;
+  private final EquipmentAvailabilityService equipmentAvailabilityService;
+  private final RestroomSnapshotStore restroomSnapshotStore;
+  private final WalkingDistanceService walkingDistanceService;
   private final UserService userService;
+  private final ApplicationEventPublisher eventPublisher;
 
   /*공공화장실 데이터가 담긴 json 파일 읽어오기*/
   public ArrayList<Map> readJson() {
@@ -74,44 +94,12 @@ public class RestroomService {
         */
 
     /* 구글 드라이브에 공유된 파일 사용*/
-    RestTemplate restTemplate = new RestTemplate();
-    ResponseEntity<Resource> response = restTemplate.exchange(
-        "https://drive.google.com/uc?id=1t0hgQV9Ud4MDYYFj2z11EdwxyPd1265W&export=download",
-        HttpMethod.GET,
-        null,
-        Resource.class
-    );
-    Resource resource = response.getBody(); // Resource객체 추출, Resource는 추상화된 리소스를 다루는 인터페이스임
-    if (resource.exists() == false) {
-      throw new FileNotFoundException("파일을 찾을 수 없습니다");
-    }
-
-    /*(Resource) 객체에서 InputStream을 얻어옴. InputStream은 파일의 내용을 바이트 스트림 형태로 읽어오는데 사용*/
-    try (InputStream inputStream = resource.getInputStream()) {
-      /*JSON 데이터를 파싱하기 위한 ObjectMapper 객체를 생성*/
-      ObjectMapper objectMapper = new ObjectMapper();
-      /* ObjectMapper를 사용해 ArrayList<Map> 형태의 자바 객체로 변환 */
-      ArrayList<Map> dataObject = objectMapper.readValue(inputStream,
-          new TypeReference<ArrayList<Map>>() {
-          });
-      return dataObject;
-    } catch (IOException e) {
-      throw new IoException("입출력 오류 발생");
-    }
+    return publicRestroomDataClient.fetchRestrooms();
   }
 
   /*특정 주소의 좌표를 검색*/
   public double[] getLongNLat(String address) {
-    String apiUrl = "https://naveropenapi.apigw.ntruss.com/map-geocode/v2/geocode?query="
-        + address; //네이버 cloud platform GeoCoding 사용
-    ArrayList<Map> responseArrayList = geocoding(apiUrl);
-    Map responseMap = responseArrayList.get(0);
-    if (responseMap.isEmpty()) {
-      throw new AddressNotFoundException("잘못된 주소입니다");
-    }
-    double longAndLat[] = {Double.parseDouble((String) responseMap.get("x")),
-        Double.parseDouble((String) responseMap.get("y"))};
-    return longAndLat;
+    return geocodingService.geocode(address);
   }
 
   /*남여공용 화장실인지 확인*/
@@ -133,27 +121,6 @@ public class RestroomService {
     }
   }
 
-  /*apiUrl을 받아서 geocoding 결과를 반환해주는 func*/
-  public ArrayList<Map> geocoding(String apiUrl) {
-    RestTemplate restTemplate = new RestTemplate();
-    HttpHeaders httpHeaders = new HttpHeaders();
-    String client_Id = env.getProperty("naver.client-id");
-    String client_Secret = env.getProperty("naver.client-secret");
-    httpHeaders.add("X-NCP-APIGW-API-KEY-ID", client_Id);
-    httpHeaders.add("X-NCP-APIGW-API-KEY", client_Secret);
-    ResponseEntity<Map> response = restTemplate.exchange(
-        apiUrl,
-        HttpMethod.GET,
-        new HttpEntity(httpHeaders),
-        Map.class
-    );
-    ArrayList<Map> responseArrayList = (ArrayList<Map>) response.getBody().get("addresses");
-    if (responseArrayList.isEmpty()) {
-      throw new AddressNotFoundException("유효하지 않은 주소입니다 다시 확인해주세요!");
-    }
-    return responseArrayList;
-  }
-
   /* 공공 화장실 데이터 저장 */
   public List<RestroomResponse> importRestroom() {
     ArrayList<Map> restroomList = null;
@@ -171,6 +138,7 @@ public class RestroomService {
           //restroomManager 차후개발
           .address((String) restroom_info.get("소재지주소"))
           .operatingHour((String) restroom_info.get("개방시간"))
+          .operatingHourBitmap(OperatingHours.parse((String) restroom_info.get("개방시간")))
           .equipmentExistenceProbability(0)//차후개발
           .publicOrPaid("public")
           .accessibleToiletExistence(true) // 이용 가능 상태 default로 true
@@ -191,17 +159,110 @@ public class RestroomService {
       restroomPhoto.createImage(restroom);
       restroomPhotoRespository.save(restroomPhoto);
     }
+    eventPublisher.publishEvent(RestroomChangedEvent.all());
     return response;
   }
 
-  /* 유료 화장실 등록 */
+  /* 유료 화장실 등록
+   * 이름 중복은 uk_restroom_paid_name 유니크 제약으로 막는다.
+   * Bloom filter 에 이미 있을 수도 있는 이름만 geocoding 전에 DB로 한 번 더 확인한다. */
   public EnrollRestroomDto enrollRestroom(EnrollRestroomDto dto) {
-    if (restroomJpaRepository.existsRestroomByRestroomName(
-        dto.getRestroomName())) {
+    if (isPaid(dto) && paidRestroomNameFilter.mightContain(dto.getRestroomName())
+        && restroomJpaRepository.existsRestroomByPaidRestroomName(dto.getRestroomName())) {
       throw new RestroomNameDuplicateException("중복되는 화장실 명입니다.");
     }
     double[] longNLat = getLongNLat(dto.getAddress());
-    Restroom restroom = Restroom.builder()
+    Restroom restroom = createPaidRestroom(dto, longNLat);
+    try {
+      dto.setRestroomId(restroomJpaRepository.save(restroom).getRestroomId());
+    } catch (DataIntegrityViolationException e) {
+      throw translatePaidNameDuplicate(e);
+    }
+    if (isPaid(dto)) {
+      paidRestroomNameFilter.put(dto.getRestroomName());
+    }
+    //화장실 이미지 추가
+    for (String imgUrl : dto.getImageUrl()) {
+      RestroomPhoto restroomPhoto = new RestroomPhoto();
+      restroomPhoto.createImage(restroom, imgUrl);
+      restroomPhotoRespository.save(restroomPhoto);
+    }
+
+    eventPublisher.publishEvent(RestroomChangedEvent.create(dto.getRestroomId()));
+    return dto;
+  }
+
+  /* 유료 화장실 일괄 등록
+   * Bloom filter 에 있을 수도 있는 이름만 IN 쿼리 한 번으로 확인하고, 좌표는 동시에 조회한 뒤
+   * 화장실과 사진을 각각 batch insert 한다.
+   * geocoding 을 기다리는 동안 커넥션을 잡지 않도록 저장할 때만 트랜잭션을 연다. */
+  public List<EnrollRestroomDto> enrollRestrooms(List<EnrollRestroomDto> dtos) {
+    if (dtos.isEmpty() || dtos.size() > restroomProperties.getEnrollBatchMaxSize()) {
+      throw new IndexException(
+          "한 번에 1~" + restroomProperties.getEnrollBatchMaxSize() + "개의 화장실만 등록할 수 있습니다.");
+    }
+
+    Set<String> paidRestroomNames = new HashSet<>();
+    for (EnrollRestroomDto dto : dtos) {
+      if (isPaid(dto) && !paidRestroomNames.add(dto.getRestroomName())) {
+        throw new RestroomNameDuplicateException(
+            "중복되는 화장실 명입니다. (" + dto.getRestroomName() + ")");
+      }
+    }
+    List<String> candidateNames = paidRestroomNameFilter.filterMightContain(paidRestroomNames);
+    if (!candidateNames.isEmpty()) {
+      List<String> duplicatedNames = restroomJpaRepository.findPaidRestroomNamesIn(candidateNames);
+      if (!duplicatedNames.isEmpty()) {
+        throw new RestroomNameDuplicateException(
+            "중복되는 화장실 명입니다. " + duplicatedNames);
+      }
+    }
+
+    Map<String, double[]> longNLats = geocodingService.geocodeAll(
+        dtos.stream().map(EnrollRestroomDto::getAddress).collect(Collectors.toList()));
+
+    List<Restroom> restrooms = new ArrayList<>(dtos.size());
+    List<List<String>> imageUrls = new ArrayList<>(dtos.size());
+    for (EnrollRestroomDto dto : dtos) {
+      restrooms.add(createPaidRestroom(dto, longNLats.get(dto.getAddress())));
+      imageUrls.add(dto.getImageUrl() == null ? List.of() : dto.getImageUrl());
+    }
+
+    List<Long> restroomIds;
+    try {
+      restroomIds = restroomJdbcRepository.insertAll(restrooms, imageUrls);
+    } catch (DataIntegrityViolationException e) {
+      throw translatePaidNameDuplicate(e);
+    }
+    paidRestroomNames.forEach(paidRestroomNameFilter::put);
+    for (int i = 0; i < dtos.size(); i++) {
+      dtos.get(i).setRestroomId(restroomIds.get(i));
+    }
+    eventPublisher.publishEvent(RestroomChangedEvent.create(restroomIds));
+    return dtos;
+  }
+
+  private boolean isPaid(EnrollRestroomDto dto) {
+    return Restroom.PAID.equals(dto.getPublicOrPaid());
+  }
+
+  /* 유료 화장실 이름 유니크 제약 위반만 이름 중복으로 바꾸고, NOT NULL 이나 길이 같은 다른 제약 위반은 그대로 던진다.
+   * JPA 로 저장하면 hibernate 가 제약 이름을 알려주고, JdbcTemplate 으로 넣으면 드라이버 메시지에만 제약 이름이 있다.
+   * (MySQL 은 "restroom.uk_restroom_paid_name" 처럼 테이블 이름을 붙여서 알려준다) */
+  private RuntimeException translatePaidNameDuplicate(DataIntegrityViolationException e) {
+    for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+      String constraintName = cause instanceof ConstraintViolationException
+          ? ((ConstraintViolationException) cause).getConstraintName()
+          : cause instanceof SQLException ? cause.getMessage() : null;
+      if (constraintName != null && constraintName.contains(Restroom.PAID_NAME_CONSTRAINT)) {
+        return new RestroomNameDuplicateException("중복되는 화장실 명입니다.");
+      }
+    }
+    return e;
+  }
+
+  private Restroom createPaidRestroom(EnrollRestroomDto dto, double[] longNLat) {
+    return Restroom.builder()
         .restroomName(dto.getRestroomName())
         .locationLatitude(longNLat[1])
         .locationLongitude(longNLat[0])
@@ -211,6 +272,7 @@ public class RestroomService {
 //                enrollRestroomRequest.getRestroomManagerId())) //restroomManager 차후개발
         .address(dto.getAddress())
         .operatingHour(dto.getOperatingHour())
+        .operatingHourBitmap(OperatingHours.parse(dto.getOperatingHour()))
         .equipmentExistenceProbability(0)
         .publicOrPaid(dto.getPublicOrPaid())
         .accessibleToiletExistence(true)
@@ -220,106 +282,91 @@ public class RestroomService {
         .availableMaleToiletCount(dto.getMaleToiletCount())
         .price(dto.getPrice())
         .build();
-    dto.setRestroomId(restroomJpaRepository.save(restroom).getRestroomId());
-    //화장실 이미지 추가
-    for (String imgUrl : dto.getImageUrl()) {
-      RestroomPhoto restroomPhoto = new RestroomPhoto();
-      restroomPhoto.createImage(restroom, imgUrl);
-      restroomPhotoRespository.save(restroomPhoto);
-    }
-
-    return dto;
-  }
-
-  public double calculateDistance(RestroomNearByDto req, Restroom restroom) {
-    final double EARTH_RADIUS_KM = 6371.0;
-    double lat1 = req.getLatitude();
-    double lon1 = req.getLongitude();
-    double lat2 = restroom.getLocationLatitude();
-    double lon2 = restroom.getLocationLongitude();
-    // 각도를 라디안으로 변환
-    double lat1Rad = Math.toRadians(lat1);
-    double lon1Rad = Math.toRadians(lon1);
-    double lat2Rad = Math.toRadians(lat2);
-    double lon2Rad = Math.toRadians(lon2);
-
-    // 위도 및 경도의 차이 계산
-    double deltaLat = lat2Rad - lat1Rad;
-    double deltaLon = lon2Rad - lon1Rad;
-
-    // Haversine 공식 계산
-    double a = Math.sin(deltaLat / 2) * Math.sin(deltaLat / 2) +
-        Math.cos(lat1Rad) * Math.cos(lat2Rad) *
-            Math.sin(deltaLon / 2) * Math.sin(deltaLon / 2);
-    double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
-    double distance = EARTH_RADIUS_KM * c;
-
-    return distance * 1000;
   }
 
-  /* 주어진 좌표 주변 유/무료 화장실 검색 후 리스트 반환*/
+  /* 주어진 좌표 주변 유/무료 화장실 검색 후 리스트 반환
+   * 후보 검색, 필터, 정렬, 페이징은 스냅샷 배열에서 하고 결과 페이지의 화장실만 엔티티로 읽는다. */
   @Transactional(readOnly = true)
   public List<NearByResponse> nearBy(RestroomNearByDto nearByDto, PageDto pageDto) {
-    Optional<List<Restroom>> restroomList;
-    if (nearByDto.getPublicOrPaidOrEntire().equals("entire")) {
-      restroomList = Optional.of(restroomJpaRepository.findAll());
-    } else {
-      restroomList = restroomJpaRepository.findPublicOrPaid(
-          nearByDto.getPublicOrPaidOrEntire());
-    }
-    List<NearByResponse> nearByList = new ArrayList<>();
-    if (restroomList.isEmpty()) {
-      throw new RestroomNotFoundException("근처 화장실을 찾을 수 없습니다");
+    NearByPage page = searchNearBy(nearByDto, pageDto);
+
+    List<Long> restroomIds = new ArrayList<>(page.size());
+    for (int i = 0; i < page.size(); i++) {
+      restroomIds.add(page.restroomId(i));
     }
-    for (Restroom restroom : restroomList.get()) {
-      double distance = calculateDistance(nearByDto, restroom);
-      if (distance <= nearByDto.getDistance()) {
-        restroom.getReviews().size(); // lazy initialize 문제 때문에 추가
-        NearByResponse responseDto = new NearByResponse();
-        responseDto = responseDto.makeDto(restroom, distance);
-        nearByList.add(responseDto);
+    Map<Long, Restroom> restrooms = restroomJpaRepository.findAllWithManagerByIdIn(restroomIds)
+        .stream()
+        .collect(Collectors.toMap(Restroom::getRestroomId, Function.identity()));
+
+    List<NearByResponse> nearByList = new ArrayList<>(restroomIds.size());
+    for (int i = 0; i < page.size(); i++) {
+      Restroom restroom = restrooms.get(restroomIds.get(i));
+      if (restroom == null) {
+        continue;
       }
+      NearByResponse responseDto = new NearByResponse().makeDto(restroom, page.distance(i));
+      Double walkingDistance = page.walkingDistance(i);
+      if (walkingDistance != null) {
+        responseDto.updateWalkingDistance(walkingDistance);
+      }
+      responseDto.updateEquipmentProbability(
+          equipmentAvailabilityService.restroomProbability(restroom.getRestroomId()),
+          equipmentAvailabilityService::equipmentProbability);
+      nearByList.add(responseDto);
     }
-    List<NearByResponse> sortedList = sortList(nearByList, nearByDto.getSortBy());
-    //default page값이 들어온 경우는 페이징 처리 X
-    if (pageDto.getPage() == -1) {
-      return sortedList;
-    } else {
-      return getPagedList(sortedList, pageDto.getPage(), pageDto.getSize());
-    }
+    return nearByList;
   }
 
-  public List<NearByResponse> getPagedList(List<NearByResponse> sortedList, int page, int size) {
-    int startIndex = (page - 1) * size;
-    int endIndex = Math.min(startIndex + size, sortedList.size());
+  /* 주어진 좌표 주변 유/무료 화장실 검색 후 지도 핀에 필요한 필드만 반환
+   * 스냅샷에 있는 값만 쓰므로 DB 를 읽지 않는다. */
+  public List<NearByLiteResponse> nearByLite(RestroomNearByDto nearByDto, PageDto pageDto) {
+    NearByPage page = searchNearBy(nearByDto, pageDto);
+    RestroomSnapshot snapshot = page.snapshot();
 
-    if (startIndex >= endIndex) {
-      throw new PageOutOfRangeException("페이지 범위가 벗어났습니다");
+    List<NearByLiteResponse> nearByList = new ArrayList<>(page.size());
+    for (int i = 0; i < page.size(); i++) {
+      int index = page.index(i);
+      int attributes = snapshot.attributes(index);
+      nearByList.add(new NearByLiteResponse(snapshot.id(index), snapshot.latitude(index),
+          snapshot.longitude(index), page.distance(i), page.walkingDistance(i),
+          (attributes & RestroomAttributes.PAID) != 0 ? Restroom.PAID : "public",
+          snapshot.price(index), snapshot.rating(index),
+          snapshot.availableMaleToiletCount(index), snapshot.availableFemaleToiletCount(index),
+          (attributes & RestroomAttributes.UNISEX) != 0,
+          (attributes & RestroomAttributes.ACCESSIBLE) != 0));
     }
-
-    return sortedList.subList(startIndex, endIndex);
+    return nearByList;
   }
 
-  public List<NearByResponse> sortList(List<NearByResponse> nearByList, String sortBy) {
-    List<NearByResponse> sortedList;
-    // 별점순 정렬
-    if (sortBy.equals("rating_des")) {
-      sortedList = nearByList.stream()
-          .sorted(Comparator.comparingDouble(NearByResponse::getReviewRating).reversed())
-          .collect(Collectors.toList());
-    }
-    else if(sortBy.equals("rating_asc")){
-      sortedList = nearByList.stream()
-          .sorted(Comparator.comparingDouble(NearByResponse::getReviewRating))
-          .collect(Collectors.toList());
+  // 후보 검색, 필터, 정렬, 페이징
+  private NearByPage searchNearBy(RestroomNearByDto nearByDto, PageDto pageDto) {
+    RestroomSnapshot snapshot = restroomSnapshotStore.getSnapshot();
+    // 개방 시간 필터는 해당 시각의 비트 하나만 확인한다. 개방 시간을 해석할 수 없는 화장실은 제외
+    int openSlot = nearByDto.getOpenAt() == null ? -1
+        : OperatingHours.slotOf(nearByDto.getOpenAt());
+    NearByFilter filter = nearByDto.getFilter()
+        .withPublicOrPaid(nearByDto.getPublicOrPaidOrEntire());
+
+    NearByCandidates candidates = snapshot.findNearBy(nearByDto.getLatitude(),
+        nearByDto.getLongitude(), nearByDto.getDistance(), openSlot, filter);
+    int[] order = candidates.order(nearByDto.getSortBy(), snapshot);
+    double[] walkingDistances = null;
+    if (SORT_BY_WALKING.equals(nearByDto.getSortBy())) {
+      walkingDistances = walkingDistanceService.rankByWalkingDistance(nearByDto.getLatitude(),
+          nearByDto.getLongitude(), snapshot, candidates, order);
     }
-    // 거리순 정렬
-    else {
-      sortedList = nearByList.stream()
-          .sorted(Comparator.comparingDouble(NearByResponse::getDistance))
-          .collect(Collectors.toList());
+
+    //default page값이 들어온 경우는 페이징 처리 X
+    int startIndex = 0;
+    int endIndex = order.length;
+    if (pageDto.getPage() != -1) {
+      startIndex = (pageDto.getPage() - 1) * pageDto.getSize();
+      endIndex = Math.min(startIndex + pageDto.getSize(), order.length);
+      if (startIndex >= endIndex) {
+        throw new PageOutOfRangeException("페이지 범위가 벗어났습니다");
+      }
     }
-    return sortedList;
+    return new NearByPage(snapshot, candidates, order, walkingDistances, startIndex, endIndex);
   }
 
   /* 화장실 Id를 통해 화장실 세부 정보 검색 */
@@ -333,6 +380,52 @@ public class RestroomService {
     restroomOp.get().getRestroomPhotos().size();// lazy initialize 문제 때문에 추가
     restroomOp.get().getReviews().size(); // lazy initialize 문제 때문에 추가
     restroomOp.get().getEquipments().size(); // lazy initialize 문제 때문에 추가
+    dto.setEquipmentProbability(
+        equipmentAvailabilityService.restroomProbability(restroom.getRestroomId()),
+        equipmentAvailabilityService::equipmentProbability);
+    return dto;
+  }
+
+  /* 여러 화장실 세부 정보를 한 번에 검색
+   * 화장실과 관리자를 IN 쿼리 하나로 읽고, 사진, 비품, 리뷰는 @BatchSize 로 종류마다 IN 쿼리 하나씩 읽는다.
+   * 없는 화장실 Id 는 결과에서 빠진다. */
+  @Transactional(readOnly = true)
+  public List<RestroomDetailDto> restroomDetails(List<Long> restroomIds) {
+    Set<Long> ids = new LinkedHashSet<>(restroomIds);
+    if (ids.isEmpty() || ids.size() > restroomProperties.getDetailBatchMaxSize()) {
+      throw new IndexException(
+          "한 번에 1~" + restroomProperties.getDetailBatchMaxSize() + "개의 화장실만 조회할 수 있습니다.");
+    }
+    Map<Long, Restroom> restrooms = restroomJpaRepository.findAllWithManagerByIdIn(ids)
+        .stream()
+        .collect(Collectors.toMap(Restroom::getRestroomId, Function.identity()));
+
+    List<RestroomDetailDto> dtos = new ArrayList<>(restrooms.size());
+    for (Long restroomId : ids) {
+      Restroom restroom = restrooms.get(restroomId);
+      if (restroom == null) {
+        continue;
+      }
+      RestroomDetailDto dto = new RestroomDetailDto(restroomId);
+      dto.setRestroom(restroom);
+      dto.setEquipmentProbability(equipmentAvailabilityService.restroomProbability(restroomId),
+          equipmentAvailabilityService::equipmentProbability);
+      dtos.add(dto);
+    }
+    // 트랜잭션 안에서 응답을 만들 수 있도록 지연 로딩 컬렉션을 미리 읽는다.
+    dtos.forEach(dto -> {
+      dto.getRestroom().getRestroomPhotos().size();
+      dto.getRestroom().getEquipments().size();
+      dto.getRestroom().getReviews().size();
+    });
+    return dtos;
+  }
+
+  /* 비품 신고 */
+  public EquipmentReportDto reportEquipment(EquipmentReportDto dto) {
+    dto.setExistenceProbability(
+        equipmentAvailabilityService.report(dto.getUserId(), dto.getEquipmentId(),
+            dto.isPresent()));
     return dto;
   }
 
@@ -349,6 +442,8 @@ public class RestroomService {
     userService.deductPoints(user.get().getUserId(), PointDto.create(restroom.get().getPrice())); // 포인트 차감
     restroom.get().useRestroom(user.get().getGender()); // 이용가능 변기 수 차감
     user.get().useRestroom(restroom.get().getRestroomId()); // 현재 사용자에게 사용중 화장실 표시
+    eventPublisher.publishEvent(RestroomChangedEvent.create(restroom.get().getRestroomId()));
+    eventPublisher.publishEvent(UserChangedEvent.create(user.get().getUserId()));
     UsedRestroom usedRestroom = UsedRestroom.builder().user(user.get()).restroomId(dto.getRestroomId())
         .build(); // 사용한 화장실 엔티티 생성
     usedRestroomRepository.save(usedRestroom); // 화장실 이용 내역을 DB에 저장
@@ -368,6 +463,8 @@ public class RestroomService {
             .orElseThrow(() -> new RestroomNotFoundException("화장실을 찾을 수 없습니다")));
     restroom.get().endOfUseRestroom(user.get().getGender()); // 이용가능 변기 수 차증
     user.get().endOfUseRestroom(); // 현재 사용자에게 사용중 화장실 삭제
+    eventPublisher.publishEvent(RestroomChangedEvent.create(restroom.get().getRestroomId()));
+    eventPublisher.publishEvent(UserChangedEvent.create(user.get().getUserId()));
     dto.setRestroomId(restroom.get().getRestroomId());
     return dto;
   }
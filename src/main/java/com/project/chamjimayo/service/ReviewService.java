@@ -10,6 +10,7 @@ import com.project.chamjimayo.repository.domain.entity.Review;
 import com.project.chamjimayo.repository.domain.entity.UsedRestroom;
 import com.project.chamjimayo.repository.domain.entity.User;
 import com.project.chamjimayo.service.dto.ReviewDto;
+import com.project.chamjimayo.service.event.RestroomChangedEvent;
 import com.project.chamjimayo.service.exception.AllReadyReviewedException;
 import com.project.chamjimayo.service.exception.RestroomNotFoundException;
 import com.project.chamjimayo.service.exception.ReviewNotFoundException;
@@ -21,6 +22,7 @@ import java.util.Optional;
 import java.util.stream.Collectors;
 import javax.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -32,6 +34,7 @@ public class ReviewService {
   private final RestroomJpaRepository restroomJpaRepository;
   private final UserJpaRepository userJpaRepository;
   private final UsedRestroomRepository usedRestroomRepository;
+  private final ApplicationEventPublisher eventPublisher;
 
   /**
    * 리뷰 등록
@@ -201,6 +204,7 @@ public class ReviewService {
     // 해당 restroom의 averageRating에 업데이트
     Restroom updateRestroom = restroom.get();
     updateRestroom.updateRating(averageRating);
+    eventPublisher.publishEvent(RestroomChangedEvent.create(restroomId));
   }
 
   /**
@@ -1,31 +1,23 @@
 package com.project.chamjimayo.service;
 
-import com.jayway.jsonpath.JsonPath;
+import com.project.chamjimayo.controller.config.SearchProperties;
 import com.project.chamjimayo.controller.dto.response.SearchResponse;
 import com.project.chamjimayo.controller.exception.SearchHistoryNotFoundException;
 import com.project.chamjimayo.repository.SearchRepository;
 import com.project.chamjimayo.repository.UserJpaRepository;
 import com.project.chamjimayo.repository.domain.entity.Search;
-import com.project.chamjimayo.repository.domain.entity.User;
-import com.project.chamjimayo.service.exception.ApiNotFoundException;
+import com.project.chamjimayo.service.autocomplete.PoiAutocompleteService;
+import com.project.chamjimayo.service.client.TmapPoi;
+import com.project.chamjimayo.service.dto.PoiClickCountDto;
 import com.project.chamjimayo.service.exception.UserNotFoundException;
-import java.net.URI;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
-import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpMethod;
-import org.springframework.http.MediaType;
-import org.springframework.http.RequestEntity;
-import org.springframework.http.ResponseEntity;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.client.HttpClientErrorException;
-import org.springframework.web.client.RestTemplate;
-import org.springframework.web.util.UriComponentsBuilder;
 
 @Service
 @RequiredArgsConstructor
@@ -33,180 +25,55 @@ public class SearchService {
 
   private final UserJpaRepository userJpaRepository;
   private final SearchRepository searchRepository;
-
-  // application-local.yml에 저장된 t-map AppKey
-  @Value("${tmap.appKey}")
-  private String tmapApikey;
+  private final PoiSearchCache poiSearchCache;
+  private final PoiAutocompleteService poiAutocompleteService;
+  private final SearchProperties searchProperties;
 
 
   /**
    * 검색어에 대한 주소 검색을 수행하고, 검색 결과를 반환
+   * Tmap 응답을 기다리지 않고 바로 반환하며, 응답이 오면 결과를 만들어 완료한다.
    */
-  @Transactional
-  public List<SearchResponse> searchAddress(String searchWord, Long userId) {
-    // 검색 결과 가져올 개수와 검색어 설정
-    int count = 10;
-
-    // Tmap API 호출을 위한 URI 설정
-    URI uri = UriComponentsBuilder.fromUriString("https://apis.openapi.sk.com")
-        .path("/tmap/pois").queryParam("version", 1).queryParam("searchKeyword", searchWord)
-        .queryParam("count", count).build().encode().toUri();
-
-    // RestTemplate을 사용하여 API 호출
-    RestTemplate restTemplate = new RestTemplate();
-
-    HttpHeaders headers = new HttpHeaders();
-    headers.set("appKey", tmapApikey);
-    headers.set(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE);
-
-    RequestEntity<Void> requestEntity = new RequestEntity<>(headers, HttpMethod.GET, uri);
-
-    ResponseEntity<String> responseEntity;
-    try {
-      responseEntity = restTemplate.exchange(requestEntity, String.class);
-    } catch (HttpClientErrorException e) {
-      throw new ApiNotFoundException("Api 응답이 올바르지 않습니다.");
-    }
-
-    // Json 파일이 제대로 도착했는지 확인
-    String responseBody = responseEntity.getBody();
-    if (responseBody == null || responseBody.isEmpty()) {
-      throw new ApiNotFoundException("Api 응답이 올바르지 않습니다.");
-    }
-
-    // 사용자 정보 가져오기
-    User user = userJpaRepository.findById(userId)
-        .orElseThrow(() -> new UserNotFoundException("유저를 찾지 못했습니다."));
-
-    // API 응답에서 주소, 이름 리스트 추출
-    List<String> fullAddressRoadList = extractFullAddressRoad(responseEntity.getBody());
-    List<String> lotNumberAddressList = extractLotNumberAddress(responseEntity.getBody());
-    List<String> nameList = extractName(responseEntity.getBody());
-    List<Double> latitudeList = extractLatitude(responseEntity.getBody());
-    List<Double> longitudeList = extractLongitude(responseEntity.getBody());
-
-    List<SearchResponse> searchResponseList = new ArrayList<>();
-
-    // 검색 리시트를 각 주소마다 분리해서 Search 엔티티로 저장
-    for (int i = 0; i < fullAddressRoadList.size(); i++) {
-      String fullAddressRoad = fullAddressRoadList.get(i);
-      String lotNumberAddress = lotNumberAddressList.get(i);
-      String name = nameList.get(i);
-      Double latitude = latitudeList.get(i);
-      Double longitude = longitudeList.get(i);
-
-      // 검색 결과 DTO 생성 및 추가
-      SearchResponse responseDTO = SearchResponse.create(searchWord, fullAddressRoad,
-          lotNumberAddress, name, latitude, longitude);
-      searchResponseList.add(responseDTO);
+  public CompletableFuture<List<SearchResponse>> searchAddress(String searchWord, Long userId) {
+    // 사용자 확인은 요청 스레드에서 먼저 끝낸다.
+    if (!userJpaRepository.existsById(userId)) {
+      throw new UserNotFoundException("유저를 찾지 못했습니다.");
     }
-    return searchResponseList;
-  }
 
-  /**
-   * API 응답에서 도로명 주소를 추출하여 리스트로 반환
-   */
-  private List<String> extractFullAddressRoad(String responseBody) {
-    /**
-     * JSON 문자열에서 fullAddressRoad 추출하여 리스트로 반환
-     * searchPoiInfo의 pois의 poi의 모든 요소 중
-     * newAddressList의 newAddress의 모든 요소 중
-     * fullyAddressRoad 값을 반환한다.
-     */
-    return JsonPath.read(responseBody,
-        "$.searchPoiInfo.pois.poi[*].newAddressList.newAddress[*].fullAddressRoad");
+    // 캐시에 없는 검색어만 Tmap API 호출 (응답이 비어있거나 실패하면 예외로 완료)
+    return poiSearchCache.search(searchWord)
+        .thenApply(pois -> toSearchResponses(searchWord, pois));
   }
 
   /**
-   * API 응답에서 지번 주소를 추출하여 리스트로 반환
+   * 입력 중인 검색어로 자동완성 결과를 반환
+   * 검색 기록으로 만든 색인에서 먼저 찾고, 없을 때만 Tmap 검색 결과를 사용한다.
    */
-  private List<String> extractLotNumberAddress(String responseBody) {
-    List<String> upperAddrNameList = JsonPath.read(responseBody,
-        "$.searchPoiInfo.pois.poi[*].upperAddrName");
-    List<String> middleAddrNameList = JsonPath.read(responseBody,
-        "$.searchPoiInfo.pois.poi[*].middleAddrName");
-    List<String> lowerAddrNameList = JsonPath.read(responseBody,
-        "$.searchPoiInfo.pois.poi[*].lowerAddrName");
-    List<String> firstNoList = JsonPath.read(responseBody,
-        "$.searchPoiInfo.pois.poi[*].firstNo");
-    List<String> secondNoList = JsonPath.read(responseBody,
-        "$.searchPoiInfo.pois.poi[*].secondNo");
-
-    // 위에서 추출한 각 리스트들을 하나씩 받아서 모두 더해서 지번 주소 만들기
-    List<String> lotNumberAddressList = new ArrayList<>();
-    for (int i = 0; i < upperAddrNameList.size(); i++) {
-      String upperAddrName = upperAddrNameList.get(i);
-      String middleAddrName = middleAddrNameList.get(i);
-      String lowerAddrName = lowerAddrNameList.get(i);
-      String firstNo = firstNoList.get(i);
-      String secondNo = secondNoList.get(i);
-
-      StringBuilder lotNumberAddress = new StringBuilder();
-      lotNumberAddress.append(upperAddrName).append(" ").append(middleAddrName).append(" ")
-          .append(lowerAddrName).append(" ").append(firstNo);
-
-      // secondNo가 없거나 0이면 없이 지번 주소 완성
-      if ((secondNo != null) && (!secondNo.isEmpty()) && (!secondNo.equals("0"))) {
-        lotNumberAddress.append(" ").append(secondNo);
+  public CompletableFuture<List<SearchResponse>> autocomplete(String keyword) {
+    List<PoiClickCountDto> pois = poiAutocompleteService.search(keyword);
+    if (!pois.isEmpty()) {
+      List<SearchResponse> searchResponseList = new ArrayList<>();
+      for (PoiClickCountDto poi : pois) {
+        searchResponseList.add(SearchResponse.create(keyword, poi.getRoadAddress(),
+            poi.getLotNumberAddress(), poi.getName(), poi.getLatitude(), poi.getLongitude()));
       }
-
-      lotNumberAddressList.add(lotNumberAddress.toString());
+      return CompletableFuture.completedFuture(searchResponseList);
     }
-    return lotNumberAddressList;
-  }
-
-  /**
-   * API 응답에서 가게 이름을 추출하여 리스트로 반환
-   */
-  private List<String> extractName(String responseBody) {
-    // searchPoiInfo의 pois의 poi의 모든 요소 중 name 값 반환
-    return JsonPath.read(responseBody, "$.searchPoiInfo.pois.poi[*].name");
-  }
-
-  /**
-   * API 응답에서 위도를 추출하여 반환
-   */
-  private List<Double> extractLatitude(String responseBody) {
-    List<Double> latitudeList = new ArrayList<>();
-
-    // JSON 응답에서 frontLat와 noorLat 추출하여 평균 계산
-    List<String> frontLatList = JsonPath.read(responseBody,
-        "$.searchPoiInfo.pois.poi[*].frontLat");
-    List<String> noorLatList = JsonPath.read(responseBody,
-        "$.searchPoiInfo.pois.poi[*].noorLat");
 
-    for (int i = 0; i < frontLatList.size(); i++) {
-      double frontLat = Double.parseDouble(frontLatList.get(i));
-      double noorLat = Double.parseDouble(noorLatList.get(i));
-      double averageLat = (frontLat + noorLat) / 2.0;
-      // 소수점 7번째까지
-      averageLat = Math.round(averageLat * 10000000) / 10000000.0;
-      latitudeList.add(averageLat);
-    }
-    return latitudeList;
+    return poiSearchCache.search(keyword)
+        .thenApply(tmapPois -> toSearchResponses(keyword, tmapPois));
   }
 
-  /**
-   * API 응답에서 경도를 추출하여 반환
-   */
-  private List<Double> extractLongitude(String responseBody) {
-    List<Double> longitudeList = new ArrayList<>();
-
-    // 평균 계산
-    List<String> frontLonList = JsonPath.read(responseBody,
-        "$.searchPoiInfo.pois.poi[*].frontLon");
-    List<String> noorLonList = JsonPath.read(responseBody,
-        "$.searchPoiInfo.pois.poi[*].noorLon");
+  private List<SearchResponse> toSearchResponses(String searchWord, List<TmapPoi> pois) {
+    List<SearchResponse> searchResponseList = new ArrayList<>();
 
-    for (int i = 0; i < frontLonList.size(); i++) {
-      double frontLon = Double.parseDouble(frontLonList.get(i));
-      double noorL0n = Double.parseDouble(noorLonList.get(i));
-      double averageLon = (frontLon + noorL0n) / 2.0;
-      // 소수점 7번째까지
-      averageLon = Math.round(averageLon * 10000000) / 10000000.0;
-      longitudeList.add(averageLon);
+    // 검색 결과를 각 POI 마다 분리해서 검색 결과 DTO 생성 및 추가
+    for (TmapPoi poi : pois) {
+      SearchResponse responseDTO = SearchResponse.create(searchWord, poi.getFullAddressRoad(),
+          poi.getLotNumberAddress(), poi.getName(), poi.getLatitude(), poi.getLongitude());
+      searchResponseList.add(responseDTO);
     }
-    return longitudeList;
+    return searchResponseList;
   }
 
   /**
@@ -214,37 +81,29 @@ public class SearchService {
    */
   @Transactional
   public void clickAddress(Long userId, SearchResponse searchResponse) {
+    if (!userJpaRepository.existsById(userId)) {
+      throw new UserNotFoundException("유저를 찾지 못했습니다.");
+    }
 
-    // userRepository 에서 userId를 통해 user 객체를 가져옴
-    User user = userJpaRepository.findById(userId)
-        .orElseThrow(() -> new UserNotFoundException("유저를 찾지 못했습니다."));
-    String searchWord = searchResponse.getSearchWord();
-    String roadAddress = searchResponse.getRoadAddress();
-    String lotNumberAddress = searchResponse.getLotNumberAddress();
-    String name = searchResponse.getName();
-    Double latitude = searchResponse.getLatitude();
-    Double longitude = searchResponse.getLongitude();
-
-    Search search = Search.create(user, searchWord, roadAddress, lotNumberAddress, name,
-        latitude, longitude);
+    // 처음 클릭한 가게면 저장하고, 이미 있으면 클릭 시간을 최신화한다. - 가게 이름(유저별 고유)으로 구분
+    searchRepository.upsert(userId, searchResponse.getSearchWord(),
+        searchResponse.getRoadAddress(), searchResponse.getLotNumberAddress(),
+        searchResponse.getName(), searchResponse.getLatitude(), searchResponse.getLongitude(),
+        LocalDateTime.now());
 
-    // 이전에 클릭하지 않은 경우 (db에 저장되지 않은 경우)만 저장한다. - 가게 이름(고유)으로 검증
-    Optional<Search> existingSearch = searchRepository.findByUserAndName(user, name);
-    // 값이 존재하는 경우, 삭제하고 다시 저장 (최신화를 위해)
-    if (existingSearch.isPresent()) {
-      searchRepository.delete(existingSearch.get());
-    }
-    searchRepository.save(search);
+    // 최근 기록만 남기고 오래된 기록은 같은 트랜잭션에서 삭제
+    searchRepository.deleteAllExceptRecent(userId, searchProperties.getHistorySize());
   }
 
   /**
    * 최근 검색 기록 삭제 (가게 이름으로 삭제)
    */
   @Transactional
-  public void deleteSearchHistoryByName(String name) {
-    Search existingSearch = searchRepository.findByName(name)
-        .orElseThrow(() -> new SearchHistoryNotFoundException("검색 기록을 찾을 수 없습니다."));
-    searchRepository.delete(existingSearch);
+  public void deleteSearchHistoryByName(Long userId, String name) {
+    // 해당 유저의 기록만 삭제 (user_id, name 인덱스 사용)
+    if (searchRepository.deleteByUserIdAndName(userId, name) == 0) {
+      throw new SearchHistoryNotFoundException("검색 기록을 찾을 수 없습니다.");
+    }
   }
 
   /**
@@ -252,21 +111,25 @@ public class SearchService {
    */
   @Transactional
   public void deleteRecentSearchHistoryAll(Long userId) {
-    User user = userJpaRepository.findById(userId)
-        .orElseThrow(() -> new UserNotFoundException("유저를 찾지 못했습니다. ID: " + userId));
-    searchRepository.deleteAllByUser(user);
+    if (!userJpaRepository.existsById(userId)) {
+      throw new UserNotFoundException("유저를 찾지 못했습니다. ID: " + userId);
+    }
+    // 기록을 불러오지 않고 한 번의 DELETE 로 삭제
+    searchRepository.deleteAllByUserId(userId);
   }
 
   /**
    * 해당 유저의 최근 검색 기록 리스트 반환
    */
+  @Transactional(readOnly = true)
   public List<SearchResponse> getUserSearchHistory(Long userId) {
-    // userRepository 에서 userId를 통해 user 객체를 가져옴
-    User user = userJpaRepository.findById(userId)
-        .orElseThrow(() -> new UserNotFoundException("유저를 찾지 못했습니다."));
+    if (!userJpaRepository.existsById(userId)) {
+      throw new UserNotFoundException("유저를 찾지 못했습니다.");
+    }
 
-    // userId에 해당하는 모든 검색 기록 반환
-    List<Search> searchList = searchRepository.findAllByUser(user);
+    // 최근에 클릭한 순서대로 정해진 개수만 가져옴
+    List<Search> searchList = searchRepository.findRecentByUserId(userId,
+        PageRequest.of(0, searchProperties.getHistorySize()));
 
     List<SearchResponse> searchResponseList = new ArrayList<>();
 
@@ -283,7 +146,6 @@ public class SearchService {
           lotNumberAddress, name, latitude, longitude);
       searchResponseList.add(searchResponse);
     }
-    Collections.reverse(searchResponseList);
     return searchResponseList;
   }
 }
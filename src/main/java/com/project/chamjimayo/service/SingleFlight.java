@@ -0,0 +1,63 @@
+package com.project.chamjimayo.service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * 같은 key 로 동시에 들어온 요청을 하나의 호출로 합친다.
+ * 먼저 들어온 요청만 실제로 호출하고, 나머지는 그 결과(또는 예외)를 기다렸다가 같이 돌려받는다.
+ * 호출이 끝나면 key 를 지우기 때문에 결과를 보관하지는 않는다.
+ */
+class SingleFlight<K, V> {
+
+  private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+  // 진행 중인 호출에 합류할 때마다 불린다. (테스트에서 합류 시점을 맞추는 용도)
+  private final Runnable onJoin;
+
+  SingleFlight() {
+    this(() -> {
+    });
+  }
+
+  SingleFlight(Runnable onJoin) {
+    this.onJoin = onJoin;
+  }
+
+  V execute(K key, Supplier<V> supplier) {
+    CompletableFuture<V> future = new CompletableFuture<>();
+    CompletableFuture<V> existing = inFlight.putIfAbsent(key, future);
+    if (existing != null) {
+      onJoin.run();
+      return await(existing);
+    }
+
+    try {
+      V value = supplier.get();
+      future.complete(value);
+      return value;
+    } catch (RuntimeException | Error e) {
+      future.completeExceptionally(e);
+      throw e;
+    } finally {
+      inFlight.remove(key, future);
+    }
+  }
+
+  private V await(CompletableFuture<V> future) {
+    try {
+      return future.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      if (e.getCause() instanceof Error) {
+        throw (Error) e.getCause();
+      }
+      throw e;
+    }
+  }
+}
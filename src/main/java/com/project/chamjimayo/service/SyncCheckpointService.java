@@ -0,0 +1,30 @@
+package com.project.chamjimayo.service;
+
+import com.project.chamjimayo.repository.SyncCheckpointRepository;
+import com.project.chamjimayo.repository.domain.entity.SyncCheckpoint;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class SyncCheckpointService {
+
+  private final SyncCheckpointRepository syncCheckpointRepository;
+
+  @Transactional(readOnly = true)
+  public Optional<Long> getCheckpoint(String checkpointName) {
+    return syncCheckpointRepository.findById(checkpointName)
+        .map(SyncCheckpoint::getCheckpointValue);
+  }
+
+  public void saveCheckpoint(String checkpointName, Long checkpointValue) {
+    syncCheckpointRepository.findById(checkpointName)
+        .ifPresentOrElse(
+            checkpoint -> checkpoint.changeCheckpointValue(checkpointValue),
+            () -> syncCheckpointRepository.save(
+                SyncCheckpoint.create(checkpointName, checkpointValue)));
+  }
+}
@@ -0,0 +1,32 @@
+package com.project.chamjimayo.service;
+
+import com.project.chamjimayo.controller.config.CacheConfig;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+/**
+ * DB에 없는 것으로 확인된 refresh token 해시를 기억해서
+ * 같은 토큰으로 반복되는 갱신 요청이 매번 DB를 조회하지 않도록 한다.
+ */
+@Component
+public class UnknownRefreshTokenCache {
+
+  private final Cache cache;
+
+  public UnknownRefreshTokenCache(CacheManager cacheManager) {
+    this.cache = cacheManager.getCache(CacheConfig.UNKNOWN_REFRESH_TOKENS);
+  }
+
+  public boolean contains(String refreshTokenHash) {
+    return cache.get(refreshTokenHash) != null;
+  }
+
+  public void add(String refreshTokenHash) {
+    cache.put(refreshTokenHash, Boolean.TRUE);
+  }
+
+  public void remove(String refreshTokenHash) {
+    cache.evict(refreshTokenHash);
+  }
+}
@@ -11,14 +11,17 @@ import com.project.chamjimayo.service.dto.RestroomSummaryDto;
 import com.project.chamjimayo.service.dto.SignUpDto;
 import com.project.chamjimayo.service.dto.UserAttributeChangeDto;
 import com.project.chamjimayo.service.dto.UserDetailsDto;
+import com.project.chamjimayo.service.event.UserChangedEvent;
 import com.project.chamjimayo.service.exception.PointLackException;
 import com.project.chamjimayo.service.exception.UserDuplicateException;
 import com.project.chamjimayo.service.exception.UserNickNameDuplicateException;
 import com.project.chamjimayo.service.exception.UserNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
@@ -29,6 +32,7 @@ public class UserService {
   private final UserJpaRepository userJpaRepository;
   private final UserQueryRepository userQueryRepository;
   private final RestroomQueryRepository restroomQueryRepository;
+  private final ApplicationEventPublisher eventPublisher;
 
   public String saveUser(SignUpDto dto) {
     validateDuplicateUser(dto.getAuthId(), dto.getNickname());
@@ -59,7 +63,10 @@ public class UserService {
     return DuplicateCheckDto.create(userJpaRepository.existsUserByNickname(nickname));
   }
 
-  @Transactional(readOnly = true)
+  /**
+   * 캐시에 있는 경우 트랜잭션(커넥션)을 열지 않도록 SUPPORTS 로 조회
+   */
+  @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
   public UserDetailsDto getUserDetails(Long id) {
     return userQueryRepository.findUserDetailsById(id)
         .orElseThrow(() -> new UserNotFoundException("사용자를 찾지 못했습니다."));
@@ -75,6 +82,14 @@ public class UserService {
     return restroomQueryRepository.findUsedRestroomDtosByUserIdAndPageable(id, pageable);
   }
 
+  /**
+   * 해당 유저의 현재 포인트를 조회합니다.
+   */
+  @Transactional(readOnly = true)
+  public PointDto getPoints(Long userId) {
+    return PointDto.create(getUser(userId).getPoint());
+  }
+
   /**
    * 해당 유저의 포인트를 충전합니다. (반환값 : 충전 후 포인트)
    */
@@ -89,6 +104,7 @@ public class UserService {
     Integer newPoint = pointDto.getPoint();
 
     user.addPoint(newPoint);
+    eventPublisher.publishEvent(UserChangedEvent.create(userId));
 
     return PointDto.create(user.getPoint());
   }
@@ -111,6 +127,7 @@ public class UserService {
     }
 
     user.deductPoint(deductionPoint);
+    eventPublisher.publishEvent(UserChangedEvent.create(userId));
 
     return PointDto.create(user.getPoint());
   }
@@ -134,6 +151,7 @@ public class UserService {
     User user = getUser(id);
 
     user.changeNickname(dto.getAttribute());
+    eventPublisher.publishEvent(UserChangedEvent.create(id));
 
     return UserAttributeChangeDto.create(user.getNickname());
   }
@@ -146,6 +164,7 @@ public class UserService {
     User user = getUser(id);
 
     user.changeUserProfile(dto.getAttribute());
+    eventPublisher.publishEvent(UserChangedEvent.create(id));
 
     return UserAttributeChangeDto.create(user.getUserProfile());
   }
@@ -0,0 +1,15 @@
+package com.project.chamjimayo.service;
+
+import com.google.api.services.androidpublisher.model.VoidedPurchasesListResponse;
+
+/**
+ * 무효화된(환불/취소) 구매 내역을 페이지 단위로 가져온다.
+ */
+public interface VoidedPurchaseClient {
+
+  /**
+   * @param pageToken 이전 응답의 nextPageToken, 첫 페이지는 null
+   * @param startTimeMillis 이 시각 이후에 무효화된 내역만 조회, null 이면 api 기본값(30일 전)
+   */
+  VoidedPurchasesListResponse list(String pageToken, Long startTimeMillis);
+}
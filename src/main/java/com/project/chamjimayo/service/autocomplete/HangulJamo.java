@@ -0,0 +1,96 @@
+package com.project.chamjimayo.service.autocomplete;
+
+import java.util.Locale;
+
+/**
+ * 한글 음절을 자모 단위로 풀어서 입력 중인 글자도 비교할 수 있게 한다.
+ * ex. "강남" -> "ㄱㅏㅇㄴㅏㅁ", 입력 중인 "강나" -> "ㄱㅏㅇㄴㅏ" 는 "강남" 의 접두어가 된다.
+ * 겹모음(ㅘ)과 겹받침(ㄺ)은 입력 순서대로 두 글자로 푼다. 공백은 지우고 영문은 소문자로 바꾼다.
+ */
+final class HangulJamo {
+
+  private static final char SYLLABLE_BEGIN = '가';
+  private static final char SYLLABLE_END = '힣';
+
+  private static final String[] CHOSUNG = {
+      "ㄱ", "ㄲ", "ㄴ", "ㄷ", "ㄸ", "ㄹ", "ㅁ", "ㅂ", "ㅃ", "ㅅ",
+      "ㅆ", "ㅇ", "ㅈ", "ㅉ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"};
+
+  private static final String[] JUNGSUNG = {
+      "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ",
+      "ㅗㅐ", "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"};
+
+  private static final String[] JONGSUNG = {
+      "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ",
+      "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ",
+      "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"};
+
+  private HangulJamo() {
+  }
+
+  /**
+   * 자모 단위로 푼 문자열
+   */
+  static String decompose(String text) {
+    StringBuilder result = new StringBuilder(text.length() * 3);
+    for (int i = 0; i < text.length(); i++) {
+      char c = text.charAt(i);
+      if (isSyllable(c)) {
+        int index = c - SYLLABLE_BEGIN;
+        result.append(CHOSUNG[index / 588])
+            .append(JUNGSUNG[(index % 588) / 28])
+            .append(JONGSUNG[index % 28]);
+      } else if (!Character.isWhitespace(c)) {
+        result.append(splitCompatibilityJamo(c));
+      }
+    }
+    return result.toString();
+  }
+
+  /**
+   * 음절마다 초성만 모은 문자열 (ex. "스타벅스" -> "ㅅㅌㅂㅅ")
+   */
+  static String chosung(String text) {
+    StringBuilder result = new StringBuilder(text.length());
+    for (int i = 0; i < text.length(); i++) {
+      char c = text.charAt(i);
+      if (isSyllable(c)) {
+        result.append(CHOSUNG[(c - SYLLABLE_BEGIN) / 588]);
+      } else if (!Character.isWhitespace(c)) {
+        result.append(splitCompatibilityJamo(c));
+      }
+    }
+    return result.toString();
+  }
+
+  private static boolean isSyllable(char c) {
+    return c >= SYLLABLE_BEGIN && c <= SYLLABLE_END;
+  }
+
+  /**
+   * 따로 입력된 겹모음, 겹받침 자모를 푼다. 나머지 문자는 소문자로 바꾼다.
+   */
+  private static String splitCompatibilityJamo(char c) {
+    switch (c) {
+      case 'ㅘ': return "ㅗㅏ";
+      case 'ㅙ': return "ㅗㅐ";
+      case 'ㅚ': return "ㅗㅣ";
+      case 'ㅝ': return "ㅜㅓ";
+      case 'ㅞ': return "ㅜㅔ";
+      case 'ㅟ': return "ㅜㅣ";
+      case 'ㅢ': return "ㅡㅣ";
+      case 'ㄳ': return "ㄱㅅ";
+      case 'ㄵ': return "ㄴㅈ";
+      case 'ㄶ': return "ㄴㅎ";
+      case 'ㄺ': return "ㄹㄱ";
+      case 'ㄻ': return "ㄹㅁ";
+      case 'ㄼ': return "ㄹㅂ";
+      case 'ㄽ': return "ㄹㅅ";
+      case 'ㄾ': return "ㄹㅌ";
+      case 'ㄿ': return "ㄹㅍ";
+      case 'ㅀ': return "ㄹㅎ";
+      case 'ㅄ': return "ㅂㅅ";
+      default: return String.valueOf(c).toLowerCase(Locale.ROOT);
+    }
+  }
+}
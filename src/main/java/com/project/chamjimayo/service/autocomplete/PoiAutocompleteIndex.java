@@ -0,0 +1,199 @@
+package com.project.chamjimayo.service.autocomplete;
+
+import com.project.chamjimayo.service.dto.PoiClickCountDto;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 클릭된 POI 의 가게 이름, 도로명 주소, 지번 주소로 만든 자동완성 색인. 만든 뒤에는 바뀌지 않는다.
+ * 각 문자열을 단어가 시작하는 위치마다 잘라 자모로 푼 key 와, 가게 이름의 초성 key 를
+ * 정렬된 배열에 넣고 이진 탐색으로 접두어가 같은 key 를 찾는다.
+ * POI 는 클릭 횟수 순으로 정렬해 두어서 POI index 가 작을수록 먼저 보여준다.
+ * 접두어가 같은 key 가 maxScan 개보다 많으면 (짧은 접두어) 만들 때 상위 POI 를 미리 골라둔다.
+ */
+public class PoiAutocompleteIndex {
+
+  private static final PoiAutocompleteIndex EMPTY = new PoiAutocompleteIndex(List.of(), 0, 0);
+
+  private final PoiClickCountDto[] pois;
+  private final String[] keys;
+  private final int[] poiIndexes;
+  private final int maxSize;
+  private final int maxScan;
+
+  // key 가 maxScan 개보다 많은 접두어 -> 클릭 순 상위 maxSize 개의 POI index
+  private final Map<String, int[]> topByWidePrefix = new HashMap<>();
+
+  /**
+   * @param maxSize 한 번에 돌려줄 최대 POI 수
+   * @param maxScan 조회할 때 접두어가 같은 key 를 최대 몇 개까지 훑을지 (더 많으면 미리 골라둔다)
+   */
+  public PoiAutocompleteIndex(List<PoiClickCountDto> pois, int maxSize, int maxScan) {
+    this.pois = pois.stream()
+        .sorted(Comparator.comparingLong(PoiClickCountDto::getClickCount).reversed())
+        .toArray(PoiClickCountDto[]::new);
+    this.maxSize = maxSize;
+    this.maxScan = maxScan;
+
+    List<Entry> entries = new ArrayList<>();
+    for (int i = 0; i < this.pois.length; i++) {
+      PoiClickCountDto poi = this.pois[i];
+      addWordSuffixes(entries, poi.getName(), i);
+      addWordSuffixes(entries, poi.getRoadAddress(), i);
+      addWordSuffixes(entries, poi.getLotNumberAddress(), i);
+      if (poi.getName() != null) {
+        entries.add(new Entry(HangulJamo.chosung(poi.getName()), i));
+      }
+    }
+    entries.sort(Comparator.comparing((Entry entry) -> entry.key)
+        .thenComparingInt(entry -> entry.poiIndex));
+
+    this.keys = new String[entries.size()];
+    this.poiIndexes = new int[entries.size()];
+    for (int i = 0; i < entries.size(); i++) {
+      keys[i] = entries.get(i).key;
+      poiIndexes[i] = entries.get(i).poiIndex;
+    }
+    indexWidePrefixes(0, keys.length, 0);
+  }
+
+  public static PoiAutocompleteIndex empty() {
+    return EMPTY;
+  }
+
+  public List<PoiClickCountDto> search(String prefix, int size) {
+    String key = HangulJamo.decompose(prefix);
+    int limit = Math.min(size, maxSize);
+    if (key.isEmpty() || limit < 1) {
+      return List.of();
+    }
+
+    int[] top = topByWidePrefix.get(key);
+    if (top == null) {
+      // 미리 골라두지 않은 접두어는 같은 key 가 maxScan 개 이하라서 전부 훑는다.
+      TopPoiIndexes candidates = new TopPoiIndexes(maxSize);
+      for (int i = lowerBound(key); i < keys.length && keys[i].startsWith(key); i++) {
+        candidates.offer(poiIndexes[i]);
+      }
+      top = candidates.toArray();
+    }
+
+    List<PoiClickCountDto> result = new ArrayList<>(Math.min(limit, top.length));
+    for (int i = 0; i < top.length && i < limit; i++) {
+      result.add(pois[top[i]]);
+    }
+    return result;
+  }
+
+  public int size() {
+    return pois.length;
+  }
+
+  private int lowerBound(String key) {
+    int index = Arrays.binarySearch(keys, key);
+    if (index < 0) {
+      return -index - 1;
+    }
+    // 같은 key 가 여러 개면 첫 번째로 이동
+    while (index > 0 && keys[index - 1].equals(key)) {
+      index--;
+    }
+    return index;
+  }
+
+  /**
+   * keys[from, to) 는 앞 depth 글자가 같다. 이 범위가 maxScan 보다 넓으면 상위 POI 를 골라두고,
+   * 다음 글자로 나눠서 더 긴 접두어도 같은 방식으로 확인한다.
+   */
+  private void indexWidePrefixes(int from, int to, int depth) {
+    if (to - from <= maxScan) {
+      return;
+    }
+    if (depth > 0) {
+      TopPoiIndexes top = new TopPoiIndexes(maxSize);
+      for (int i = from; i < to; i++) {
+        top.offer(poiIndexes[i]);
+      }
+      topByWidePrefix.put(keys[from].substring(0, depth), top.toArray());
+    }
+
+    // 접두어와 길이가 같은 key 는 범위의 맨 앞에 모여 있다.
+    int i = from;
+    while (i < to && keys[i].length() == depth) {
+      i++;
+    }
+    while (i < to) {
+      char next = keys[i].charAt(depth);
+      int start = i;
+      while (i < to && keys[i].charAt(depth) == next) {
+        i++;
+      }
+      indexWidePrefixes(start, i, depth + 1);
+    }
+  }
+
+  /**
+   * 단어(공백으로 나뉜)가 시작하는 위치마다 뒷부분 전체를 key 로 넣는다.
+   * ex. "스타벅스 강남역점" -> "스타벅스강남역점", "강남역점"
+   */
+  private static void addWordSuffixes(List<Entry> entries, String text, int poiIndex) {
+    if (text == null || text.isBlank()) {
+      return;
+    }
+    boolean wordStart = true;
+    for (int i = 0; i < text.length(); i++) {
+      boolean whitespace = Character.isWhitespace(text.charAt(i));
+      if (wordStart && !whitespace) {
+        entries.add(new Entry(HangulJamo.decompose(text.substring(i)), poiIndex));
+      }
+      wordStart = whitespace;
+    }
+  }
+
+  /**
+   * 가장 작은 (클릭 횟수가 많은) POI index 를 중복 없이 정해진 개수만큼 오름차순으로 모은다.
+   */
+  private static class TopPoiIndexes {
+
+    private final int[] indexes;
+    private int count;
+
+    private TopPoiIndexes(int size) {
+      this.indexes = new int[size];
+    }
+
+    private void offer(int poiIndex) {
+      if (count == indexes.length && (count == 0 || poiIndex >= indexes[count - 1])) {
+        return;
+      }
+      int position = Arrays.binarySearch(indexes, 0, count, poiIndex);
+      if (position >= 0) {
+        return;
+      }
+      position = -position - 1;
+      // 가득 찼으면 마지막(가장 큰) index 를 밀어낸다.
+      int end = count == indexes.length ? count - 1 : count++;
+      System.arraycopy(indexes, position, indexes, position + 1, end - position);
+      indexes[position] = poiIndex;
+    }
+
+    private int[] toArray() {
+      return Arrays.copyOf(indexes, count);
+    }
+  }
+
+  private static class Entry {
+
+    private final String key;
+    private final int poiIndex;
+
+    private Entry(String key, int poiIndex) {
+      this.key = key;
+      this.poiIndex = poiIndex;
+    }
+  }
+}
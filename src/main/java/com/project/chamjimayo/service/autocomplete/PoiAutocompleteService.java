@@ -0,0 +1,45 @@
+package com.project.chamjimayo.service.autocomplete;
+
+import com.project.chamjimayo.controller.config.SearchProperties;
+import com.project.chamjimayo.repository.SearchRepository;
+import com.project.chamjimayo.service.dto.PoiClickCountDto;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 검색 기록으로 만든 자동완성 색인을 들고 있다가 주기적으로 새로 만든다.
+ * 색인을 만드는 동안에도 이전 색인으로 조회한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PoiAutocompleteService {
+
+  private final SearchRepository searchRepository;
+  private final SearchProperties searchProperties;
+
+  private volatile PoiAutocompleteIndex index = PoiAutocompleteIndex.empty();
+
+  public List<PoiClickCountDto> search(String prefix) {
+    return index.search(prefix, searchProperties.getAutocompleteSize());
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  @Scheduled(fixedDelayString = "${search.autocomplete-refresh-interval-ms:600000}",
+      initialDelayString = "${search.autocomplete-refresh-interval-ms:600000}")
+  public void rebuild() {
+    try {
+      List<PoiClickCountDto> pois = searchRepository.findPoiClickCounts();
+      index = new PoiAutocompleteIndex(pois, searchProperties.getAutocompleteSize(),
+          searchProperties.getAutocompleteMaxScan());
+      log.info("rebuilt poi autocomplete index with {} pois", pois.size());
+    } catch (RuntimeException e) {
+      log.error("failed to rebuild poi autocomplete index", e);
+    }
+  }
+}
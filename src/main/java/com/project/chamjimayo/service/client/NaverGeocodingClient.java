@@ -0,0 +1,88 @@
+package com.project.chamjimayo.service.client;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.chamjimayo.controller.config.HttpClientProperties;
+import com.project.chamjimayo.service.exception.AddressNotFoundException;
+import com.project.chamjimayo.service.exception.IoException;
+import com.project.chamjimayo.service.exception.UpstreamErrorException;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.util.List;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 네이버 cloud platform GeoCoding api
+ */
+@Component
+public class NaverGeocodingClient {
+
+  private static final String GEOCODE_PATH = "/map-geocode/v2/geocode";
+
+  private final UpstreamClient upstreamClient;
+  private final ObjectMapper objectMapper;
+  private final String clientId;
+  private final String clientSecret;
+
+  public NaverGeocodingClient(HttpClient httpClient, HttpClientProperties httpClientProperties,
+      MeterRegistry meterRegistry, ObjectMapper objectMapper,
+      @Value("${naver.client-id:}") String clientId,
+      @Value("${naver.client-secret:}") String clientSecret) {
+    this.upstreamClient = new UpstreamClient("naver", httpClient,
+        httpClientProperties.getNaver(), meterRegistry);
+    this.objectMapper = objectMapper;
+    this.clientId = clientId;
+    this.clientSecret = clientSecret;
+  }
+
+  /**
+   * 주소를 검색해서 geocoding 결과(addresses)를 반환
+   */
+  public List<Map<String, Object>> geocode(String address) {
+    URI uri = upstreamClient.uri(GEOCODE_PATH).queryParam("query", address)
+        .build().encode().toUri();
+
+    HttpRequest.Builder request = HttpRequest.newBuilder(uri)
+        .header("X-NCP-APIGW-API-KEY-ID", clientId)
+        .header("X-NCP-APIGW-API-KEY", clientSecret)
+        .GET();
+
+    HttpResponse<InputStream> response = upstreamClient.send(request, GEOCODE_PATH,
+        BodyHandlers.ofInputStream());
+
+    GeocodeResponse body;
+    try (InputStream inputStream = response.body()) {
+      // 할당량 초과, 5xx 등은 주소 문제가 아니라 외부 api 장애로 처리
+      if (response.statusCode() < 200 || response.statusCode() >= 300) {
+        throw new UpstreamErrorException(
+            "naver geocoding 응답 오류 (status " + response.statusCode() + ")");
+      }
+      body = objectMapper.readValue(inputStream, GeocodeResponse.class);
+    } catch (IOException e) {
+      throw new IoException("geocoding 응답을 읽지 못했습니다.");
+    }
+
+    if (body.getAddresses() == null || body.getAddresses().isEmpty()) {
+      throw new AddressNotFoundException("유효하지 않은 주소입니다 다시 확인해주세요!");
+    }
+    return body.getAddresses();
+  }
+
+  @Getter
+  @Setter
+  @JsonIgnoreProperties(ignoreUnknown = true)
+  static class GeocodeResponse {
+
+    private List<Map<String, Object>> addresses;
+  }
+}
@@ -0,0 +1,61 @@
+package com.project.chamjimayo.service.client;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.chamjimayo.controller.config.HttpClientProperties;
+import com.project.chamjimayo.service.exception.FileNotFoundException;
+import com.project.chamjimayo.service.exception.IoException;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.util.ArrayList;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 구글 드라이브에 공유된 공공 화장실 데이터(json) 다운로드
+ */
+@Component
+public class PublicRestroomDataClient {
+
+  private static final String DOWNLOAD_PATH = "/uc";
+
+  private final UpstreamClient upstreamClient;
+  private final ObjectMapper objectMapper;
+  private final String fileId;
+
+  public PublicRestroomDataClient(HttpClient httpClient,
+      HttpClientProperties httpClientProperties, MeterRegistry meterRegistry,
+      ObjectMapper objectMapper,
+      @Value("${public-restroom.file-id:1t0hgQV9Ud4MDYYFj2z11EdwxyPd1265W}") String fileId) {
+    this.upstreamClient = new UpstreamClient("public-restroom", httpClient,
+        httpClientProperties.getPublicRestroom(), meterRegistry);
+    this.objectMapper = objectMapper;
+    this.fileId = fileId;
+  }
+
+  public ArrayList<Map> fetchRestrooms() {
+    URI uri = upstreamClient.uri(DOWNLOAD_PATH).queryParam("id", fileId)
+        .queryParam("export", "download").build().encode().toUri();
+
+    HttpResponse<InputStream> response = upstreamClient.send(
+        HttpRequest.newBuilder(uri).GET(), DOWNLOAD_PATH, BodyHandlers.ofInputStream());
+
+    /* 응답 본문을 메모리에 모두 올리지 않고 스트림으로 바로 파싱 */
+    try (InputStream inputStream = response.body()) {
+      if (response.statusCode() != 200) {
+        throw new FileNotFoundException("파일을 찾을 수 없습니다");
+      }
+      return objectMapper.readValue(inputStream, new TypeReference<ArrayList<Map>>() {
+      });
+    } catch (IOException e) {
+      throw new IoException("입출력 오류 발생");
+    }
+  }
+}
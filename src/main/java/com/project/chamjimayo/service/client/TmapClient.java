@@ -0,0 +1,74 @@
+package com.project.chamjimayo.service.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.chamjimayo.controller.config.HttpClientProperties;
+import com.project.chamjimayo.service.exception.ApiNotFoundException;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+/**
+ * 티맵 POI 검색 api
+ */
+@Component
+public class TmapClient {
+
+  private static final String POI_PATH = "/tmap/pois";
+
+  private final UpstreamClient upstreamClient;
+  private final TmapPoiParser tmapPoiParser;
+
+  // application-local.yml에 저장된 t-map AppKey
+  private final String tmapApikey;
+
+  public TmapClient(HttpClient httpClient, HttpClientProperties httpClientProperties,
+      MeterRegistry meterRegistry, ObjectMapper objectMapper,
+      @Value("${tmap.appKey}") String tmapApikey) {
+    this.upstreamClient = new UpstreamClient("tmap", httpClient,
+        httpClientProperties.getTmap(), meterRegistry);
+    this.tmapPoiParser = new TmapPoiParser(objectMapper);
+    this.tmapApikey = tmapApikey;
+  }
+
+  /**
+   * 검색어로 POI 를 검색해서 반환.
+   * 응답을 기다리는 동안 호출한 스레드를 붙잡지 않는다.
+   */
+  public CompletableFuture<List<TmapPoi>> searchPois(String searchWord, int count) {
+    URI uri = upstreamClient.uri(POI_PATH).queryParam("version", 1)
+        .queryParam("searchKeyword", searchWord)
+        .queryParam("count", count).build().encode().toUri();
+
+    HttpRequest.Builder request = HttpRequest.newBuilder(uri)
+        .header("appKey", tmapApikey)
+        .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
+        .GET();
+
+    return upstreamClient.sendAsync(request, POI_PATH, BodyHandlers.ofByteArray())
+        .thenApply(this::parsePois);
+  }
+
+  private List<TmapPoi> parsePois(HttpResponse<byte[]> response) {
+    // Json 파일이 제대로 도착했는지 확인
+    byte[] responseBody = response.body();
+    if (response.statusCode() != 200 || responseBody == null || responseBody.length == 0) {
+      throw new ApiNotFoundException("Api 응답이 올바르지 않습니다.");
+    }
+
+    try {
+      return tmapPoiParser.parse(responseBody);
+    } catch (IOException e) {
+      throw new ApiNotFoundException("Api 응답이 올바르지 않습니다.");
+    }
+  }
+}
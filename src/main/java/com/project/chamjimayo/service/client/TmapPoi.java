@@ -0,0 +1,101 @@
+package com.project.chamjimayo.service.client;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import java.util.List;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 티맵 POI 검색 응답(searchPoiInfo.pois.poi[*])의 한 항목. 사용하는 필드만 바인딩한다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class TmapPoi {
+
+  private String name;
+
+  private String upperAddrName;
+
+  private String middleAddrName;
+
+  private String lowerAddrName;
+
+  private String firstNo;
+
+  private String secondNo;
+
+  private String frontLat;
+
+  private String frontLon;
+
+  private String noorLat;
+
+  private String noorLon;
+
+  private NewAddressList newAddressList;
+
+  /**
+   * 도로명 주소 (여러 개면 첫 번째, 없으면 null)
+   */
+  public String getFullAddressRoad() {
+    if (newAddressList == null || newAddressList.getNewAddress() == null
+        || newAddressList.getNewAddress().isEmpty()) {
+      return null;
+    }
+    return newAddressList.getNewAddress().get(0).getFullAddressRoad();
+  }
+
+  /**
+   * 지번 주소 (시/도 구/군 동 본번 부번), 부번이 없거나 0이면 생략
+   */
+  public String getLotNumberAddress() {
+    StringBuilder lotNumberAddress = new StringBuilder();
+    lotNumberAddress.append(upperAddrName).append(" ").append(middleAddrName).append(" ")
+        .append(lowerAddrName).append(" ").append(firstNo);
+
+    if ((secondNo != null) && (!secondNo.isEmpty()) && (!secondNo.equals("0"))) {
+      lotNumberAddress.append(" ").append(secondNo);
+    }
+    return lotNumberAddress.toString();
+  }
+
+  /**
+   * 위도 (frontLat 와 noorLat 의 평균, 소수점 7번째까지)
+   */
+  public Double getLatitude() {
+    return average(frontLat, noorLat);
+  }
+
+  /**
+   * 경도 (frontLon 과 noorLon 의 평균, 소수점 7번째까지)
+   */
+  public Double getLongitude() {
+    return average(frontLon, noorLon);
+  }
+
+  private static Double average(String front, String noor) {
+    double average = (Double.parseDouble(front) + Double.parseDouble(noor)) / 2.0;
+    return Math.round(average * 10000000) / 10000000.0;
+  }
+
+  @Getter
+  @Setter
+  @NoArgsConstructor
+  @JsonIgnoreProperties(ignoreUnknown = true)
+  public static class NewAddressList {
+
+    private List<NewAddress> newAddress;
+  }
+
+  @Getter
+  @Setter
+  @NoArgsConstructor
+  @JsonIgnoreProperties(ignoreUnknown = true)
+  public static class NewAddress {
+
+    private String fullAddressRoad;
+  }
+}
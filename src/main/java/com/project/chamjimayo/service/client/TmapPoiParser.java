@@ -0,0 +1,60 @@
+package com.project.chamjimayo.service.client;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 티맵 POI 검색 응답을 한 번만 읽으면서 searchPoiInfo.pois.poi 배열의 항목을 바로 TmapPoi 로 바인딩한다.
+ * 나머지 필드는 트리로 만들지 않고 건너뛴다.
+ */
+public class TmapPoiParser {
+
+  private final ObjectMapper objectMapper;
+  private final ObjectReader poiReader;
+
+  public TmapPoiParser(ObjectMapper objectMapper) {
+    this.objectMapper = objectMapper;
+    this.poiReader = objectMapper.readerFor(TmapPoi.class);
+  }
+
+  public List<TmapPoi> parse(byte[] responseBody) throws IOException {
+    try (JsonParser parser = objectMapper.getFactory().createParser(responseBody)) {
+      if (parser.nextToken() != JsonToken.START_OBJECT
+          || !moveToField(parser, "searchPoiInfo")
+          || !moveToField(parser, "pois")
+          || !moveToField(parser, "poi")
+          || parser.currentToken() != JsonToken.START_ARRAY) {
+        return List.of();
+      }
+
+      List<TmapPoi> pois = new ArrayList<>();
+      while (parser.nextToken() == JsonToken.START_OBJECT) {
+        pois.add(poiReader.readValue(parser));
+      }
+      return pois;
+    }
+  }
+
+  /**
+   * 현재 객체 안에서 fieldName 을 찾아 그 값의 시작 토큰으로 이동한다. 값이 객체가 아니거나 없으면 false
+   */
+  private boolean moveToField(JsonParser parser, String fieldName) throws IOException {
+    if (parser.currentToken() != JsonToken.START_OBJECT) {
+      return false;
+    }
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String currentName = parser.getCurrentName();
+      parser.nextToken();
+      if (fieldName.equals(currentName)) {
+        return true;
+      }
+      parser.skipChildren();
+    }
+    return false;
+  }
+}
@@ -0,0 +1,125 @@
+package com.project.chamjimayo.service.client;
+
+import com.project.chamjimayo.controller.config.HttpClientProperties.Upstream;
+import com.project.chamjimayo.service.exception.IoException;
+import com.project.chamjimayo.service.exception.UpstreamTimeoutException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandler;
+import java.net.http.HttpTimeoutException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import org.springframework.web.util.UriComponentsBuilder;
+
+/**
+ * 하나의 외부 api(upstream)에 대한 호출 도우미.
+ * 공유 HttpClient 로 요청을 보내면서 upstream 별 응답 시간 제한을 걸고,
+ * 호출 결과를 http.client.requests 지표(clientName, method, uri, status, outcome)로 남긴다.
+ */
+public class UpstreamClient {
+
+  private static final String METRIC_NAME = "http.client.requests";
+
+  private final String name;
+  private final HttpClient httpClient;
+  private final Upstream upstream;
+  private final MeterRegistry meterRegistry;
+
+  public UpstreamClient(String name, HttpClient httpClient, Upstream upstream,
+      MeterRegistry meterRegistry) {
+    this.name = name;
+    this.httpClient = httpClient;
+    this.upstream = upstream;
+    this.meterRegistry = meterRegistry;
+  }
+
+  public UriComponentsBuilder uri(String path) {
+    return UriComponentsBuilder.fromUriString(upstream.getBaseUrl()).path(path);
+  }
+
+  /**
+   * @param uriTemplate 지표에 남길 경로 (query 를 제외한 경로, ex. /tmap/pois)
+   */
+  public <T> HttpResponse<T> send(HttpRequest.Builder requestBuilder, String uriTemplate,
+      BodyHandler<T> bodyHandler) {
+    HttpRequest request = requestBuilder.timeout(upstream.getReadTimeout()).build();
+
+    Timer.Sample sample = Timer.start(meterRegistry);
+    try {
+      HttpResponse<T> response = httpClient.send(request, bodyHandler);
+      record(sample, request, uriTemplate, String.valueOf(response.statusCode()),
+          outcome(response.statusCode()));
+      return response;
+    } catch (HttpTimeoutException e) {
+      record(sample, request, uriTemplate, "CLIENT_ERROR", "TIMEOUT");
+      throw new UpstreamTimeoutException(name + " 응답 시간이 초과되었습니다.");
+    } catch (IOException e) {
+      record(sample, request, uriTemplate, "IO_ERROR", "UNKNOWN");
+      throw new IoException(name + " 호출 중 입출력 오류 발생");
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      record(sample, request, uriTemplate, "IO_ERROR", "UNKNOWN");
+      throw new IoException(name + " 호출이 중단되었습니다.");
+    }
+  }
+
+  /**
+   * 요청을 보내고 응답을 기다리지 않고 바로 반환한다. 응답은 HttpClient 의 executor 에서 완료된다.
+   * 실패하면 send 와 같은 예외(UpstreamTimeoutException, IoException)로 완료된다.
+   */
+  public <T> CompletableFuture<HttpResponse<T>> sendAsync(HttpRequest.Builder requestBuilder,
+      String uriTemplate, BodyHandler<T> bodyHandler) {
+    HttpRequest request = requestBuilder.timeout(upstream.getReadTimeout()).build();
+
+    Timer.Sample sample = Timer.start(meterRegistry);
+    return httpClient.sendAsync(request, bodyHandler)
+        .handle((response, throwable) -> {
+          if (throwable == null) {
+            record(sample, request, uriTemplate, String.valueOf(response.statusCode()),
+                outcome(response.statusCode()));
+            return response;
+          }
+
+          Throwable cause = throwable instanceof CompletionException
+              && throwable.getCause() != null ? throwable.getCause() : throwable;
+          if (cause instanceof HttpTimeoutException) {
+            record(sample, request, uriTemplate, "CLIENT_ERROR", "TIMEOUT");
+            throw new UpstreamTimeoutException(name + " 응답 시간이 초과되었습니다.");
+          }
+          record(sample, request, uriTemplate, "IO_ERROR", "UNKNOWN");
+          throw new IoException(name + " 호출 중 입출력 오류 발생");
+        });
+  }
+
+  private void record(Timer.Sample sample, HttpRequest request, String uriTemplate,
+      String status, String outcome) {
+    sample.stop(Timer.builder(METRIC_NAME)
+        .tag("clientName", name)
+        .tag("method", request.method())
+        .tag("uri", uriTemplate)
+        .tag("status", status)
+        .tag("outcome", outcome)
+        .register(meterRegistry));
+  }
+
+  private String outcome(int statusCode) {
+    if (statusCode >= 200 && statusCode < 300) {
+      return "SUCCESS";
+    }
+    if (statusCode >= 300 && statusCode < 400) {
+      return "REDIRECTION";
+    }
+    if (statusCode >= 400 && statusCode < 500) {
+      return "CLIENT_ERROR";
+    }
+    return "SERVER_ERROR";
+  }
+
+  public String getName() {
+    return name;
+  }
+}
@@ -0,0 +1,174 @@
+package com.project.chamjimayo.service.cluster;
+
+import com.project.chamjimayo.controller.dto.response.RestroomClusterResponse;
+import com.project.chamjimayo.service.nearby.RestroomSnapshot;
+import com.project.chamjimayo.service.nearby.WebMercator;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 줌 레벨별로 화장실을 격자 칸 단위로 묶어 둔 집계.
+ * 격자는 웹 메르카토르(지도 타일과 같은 좌표계) 기준으로, 줌 z 에서 한 변이 2^(z + 2) 칸이다.
+ * (256px 타일 한 장을 64px 칸 4 x 4 로 나눈 크기)
+ * 레벨마다 칸 번호 순으로 정렬된 primitive 배열에 칸별 개수, 평균 좌표, 최저 요금, 최고 별점을 담고,
+ * 조회할 때는 화면 범위에 걸친 칸 행마다 이분 탐색으로 구간만 읽는다.
+ */
+public final class ClusterGrid {
+
+  public static final int MAX_ZOOM = 16;
+
+  // 한 변의 칸 수 = 2^(zoom + CELL_SHIFT)
+  private static final int CELL_SHIFT = 2;
+
+  private static final int INDEX_BITS = 27;
+
+  private final Level[] levels;
+
+  private ClusterGrid(Level[] levels) {
+    this.levels = levels;
+  }
+
+  public static ClusterGrid of(RestroomSnapshot snapshot) {
+    int size = snapshot.size();
+    if (size >= 1 << INDEX_BITS) {
+      throw new IllegalArgumentException("too many restrooms: " + size);
+    }
+    double[] xs = new double[size];
+    double[] ys = new double[size];
+    for (int i = 0; i < size; i++) {
+      xs[i] = WebMercator.x(snapshot.longitude(i));
+      ys[i] = WebMercator.y(snapshot.latitude(i));
+    }
+
+    Level[] levels = new Level[MAX_ZOOM + 1];
+    long[] keys = new long[size];
+    for (int zoom = 0; zoom <= MAX_ZOOM; zoom++) {
+      int bits = zoom + CELL_SHIFT;
+      for (int i = 0; i < size; i++) {
+        keys[i] = (cellKey(cell(ys[i], bits), cell(xs[i], bits), bits) << INDEX_BITS) | i;
+      }
+      Arrays.sort(keys);
+      levels[zoom] = Level.of(keys, snapshot);
+    }
+    return new ClusterGrid(levels);
+  }
+
+  /**
+   * 화면 범위에 걸친 칸의 집계. 줌이 MAX_ZOOM 보다 크면 MAX_ZOOM 기준으로 묶는다.
+   * 화면 범위에 걸친 칸이 maxCells 개보다 많으면 줌을 낮춰서 (칸을 키워서) 읽는 칸 행과 응답 크기를 제한한다.
+   */
+  public List<RestroomClusterResponse> clusters(double minLatitude, double minLongitude,
+      double maxLatitude, double maxLongitude, int zoom, long maxCells) {
+    double left = WebMercator.x(minLongitude);
+    double right = WebMercator.x(maxLongitude);
+    // 메르카토르 y 는 북쪽이 작다.
+    double top = WebMercator.y(maxLatitude);
+    double bottom = WebMercator.y(minLatitude);
+
+    int level = Math.max(0, Math.min(zoom, MAX_ZOOM));
+    while (true) {
+      int bits = level + CELL_SHIFT;
+      long minX = cell(left, bits);
+      long maxX = cell(right, bits);
+      long minY = cell(top, bits);
+      long maxY = cell(bottom, bits);
+      if (level == 0 || (maxX - minX + 1) * (maxY - minY + 1) <= maxCells) {
+        return levels[level].clusters(minX, maxX, minY, maxY, bits);
+      }
+      level--;
+    }
+  }
+
+  private static long cell(double coordinate, int bits) {
+    long cells = 1L << bits;
+    return Math.max(0, Math.min(cells - 1, (long) Math.floor(coordinate * cells)));
+  }
+
+  private static long cellKey(long y, long x, int bits) {
+    return (y << bits) | x;
+  }
+
+  // 한 줌 레벨의 칸별 집계
+  private static final class Level {
+
+    private final long[] cellKeys;
+    private final int[] counts;
+    private final double[] latitudes;
+    private final double[] longitudes;
+    private final int[] minPrices;
+    private final float[] maxRatings;
+    private final long[] restroomIds;
+
+    private Level(int size) {
+      this.cellKeys = new long[size];
+      this.counts = new int[size];
+      this.latitudes = new double[size];
+      this.longitudes = new double[size];
+      this.minPrices = new int[size];
+      this.maxRatings = new float[size];
+      this.restroomIds = new long[size];
+    }
+
+    // keys: (칸 번호 << INDEX_BITS | 스냅샷 위치) 를 정렬한 배열
+    static Level of(long[] keys, RestroomSnapshot snapshot) {
+      int cellCount = 0;
+      for (int i = 0; i < keys.length; i++) {
+        if (i == 0 || (keys[i] >>> INDEX_BITS) != (keys[i - 1] >>> INDEX_BITS)) {
+          cellCount++;
+        }
+      }
+
+      Level level = new Level(cellCount);
+      int cell = -1;
+      for (int i = 0; i < keys.length; i++) {
+        long cellKey = keys[i] >>> INDEX_BITS;
+        int index = (int) (keys[i] & ((1L << INDEX_BITS) - 1));
+        if (cell < 0 || level.cellKeys[cell] != cellKey) {
+          cell++;
+          level.cellKeys[cell] = cellKey;
+          level.minPrices[cell] = Integer.MAX_VALUE;
+          level.maxRatings[cell] = Float.NEGATIVE_INFINITY;
+          level.restroomIds[cell] = snapshot.id(index);
+        }
+        level.counts[cell]++;
+        level.latitudes[cell] += snapshot.latitude(index);
+        level.longitudes[cell] += snapshot.longitude(index);
+        level.minPrices[cell] = Math.min(level.minPrices[cell], snapshot.price(index));
+        level.maxRatings[cell] = Math.max(level.maxRatings[cell], snapshot.rating(index));
+      }
+      for (int i = 0; i < cellCount; i++) {
+        level.latitudes[i] /= level.counts[i];
+        level.longitudes[i] /= level.counts[i];
+      }
+      return level;
+    }
+
+    List<RestroomClusterResponse> clusters(long minX, long maxX, long minY, long maxY, int bits) {
+      List<RestroomClusterResponse> clusters = new ArrayList<>();
+      for (long y = minY; y <= maxY; y++) {
+        long last = cellKey(y, maxX, bits);
+        for (int i = lowerBound(cellKey(y, minX, bits)); i < cellKeys.length && cellKeys[i] <= last;
+            i++) {
+          clusters.add(new RestroomClusterResponse(latitudes[i], longitudes[i], counts[i],
+              minPrices[i], maxRatings[i], counts[i] == 1 ? restroomIds[i] : null));
+        }
+      }
+      return clusters;
+    }
+
+    private int lowerBound(long cellKey) {
+      int low = 0;
+      int high = cellKeys.length;
+      while (low < high) {
+        int middle = (low + high) >>> 1;
+        if (cellKeys[middle] < cellKey) {
+          low = middle + 1;
+        } else {
+          high = middle;
+        }
+      }
+      return low;
+    }
+  }
+}
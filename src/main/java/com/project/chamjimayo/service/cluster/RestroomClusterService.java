@@ -0,0 +1,135 @@
+package com.project.chamjimayo.service.cluster;
+
+import com.project.chamjimayo.controller.config.RestroomProperties;
+import com.project.chamjimayo.controller.dto.response.RestroomClusterResponse;
+import com.project.chamjimayo.service.event.RestroomSnapshotChangedEvent;
+import com.project.chamjimayo.service.exception.IndexException;
+import com.project.chamjimayo.service.nearby.RestroomSnapshot;
+import com.project.chamjimayo.service.nearby.RestroomSnapshotStore;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+/**
+ * 줌 아웃된 지도에서 쓰는 화장실 묶음(클러스터) 조회.
+ * 집계는 주변 검색 스냅샷에서 만들고, 스냅샷이 바뀌면 별도 스레드에서 다시 만든다.
+ * 다시 만드는 동안에는 이전 집계로 응답한다.
+ * 집계는 위치, 요금, 별점만 쓰기 때문에 이용 가능한 변기 수만 바뀐 경우는 다시 만들지 않는다.
+ */
+@Slf4j
+@Service
+public class RestroomClusterService {
+
+  private final RestroomSnapshotStore restroomSnapshotStore;
+  private final RestroomProperties restroomProperties;
+  private final ExecutorService builder;
+  private final AtomicBoolean scheduled = new AtomicBoolean();
+
+  // 집계를 만든 스냅샷과 그 집계 (둘을 같이 바꾼다)
+  private volatile Built built;
+
+  public RestroomClusterService(RestroomSnapshotStore restroomSnapshotStore,
+      RestroomProperties restroomProperties) {
+    this.restroomSnapshotStore = restroomSnapshotStore;
+    this.restroomProperties = restroomProperties;
+    this.builder = Executors.newSingleThreadExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "restroom-cluster");
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
+  public List<RestroomClusterResponse> clusters(double minLatitude, double minLongitude,
+      double maxLatitude, double maxLongitude, int zoom) {
+    if (minLatitude > maxLatitude || minLongitude > maxLongitude) {
+      throw new IndexException("지도 범위가 올바르지 않습니다.");
+    }
+    return grid().clusters(minLatitude, minLongitude, maxLatitude, maxLongitude, zoom,
+        restroomProperties.getClusterMaxCells());
+  }
+
+  @EventListener
+  public void onSnapshotChanged(RestroomSnapshotChangedEvent event) {
+    Built current = built;
+    if (current != null && !event.isAll() && current.snapshot == event.getPrevious()
+        && !affectsClusters(event)) {
+      built = new Built(event.getCurrent(), current.grid);
+      return;
+    }
+    if (scheduled.compareAndSet(false, true)) {
+      builder.execute(this::rebuild);
+    }
+  }
+
+  private ClusterGrid grid() {
+    Built current = built;
+    if (current != null) {
+      return current.grid;
+    }
+    // 첫 집계가 만들어지기 전에 들어온 요청만 직접 만든다.
+    synchronized (this) {
+      current = built;
+      if (current == null) {
+        RestroomSnapshot snapshot = restroomSnapshotStore.getSnapshot();
+        current = new Built(snapshot, ClusterGrid.of(snapshot));
+        built = current;
+      }
+      return current.grid;
+    }
+  }
+
+  private void rebuild() {
+    // 만드는 도중에 바뀐 스냅샷은 다음 번에 반영하도록 먼저 풀어둔다.
+    scheduled.set(false);
+    try {
+      RestroomSnapshot snapshot = restroomSnapshotStore.getSnapshot();
+      built = new Built(snapshot, ClusterGrid.of(snapshot));
+    } catch (RuntimeException e) {
+      log.error("failed to rebuild restroom clusters", e);
+    }
+  }
+
+  // 바뀐 화장실 중 추가, 삭제되었거나 위치, 요금, 별점이 바뀐 화장실이 있는지
+  private boolean affectsClusters(RestroomSnapshotChangedEvent event) {
+    RestroomSnapshot previous = event.getPrevious();
+    RestroomSnapshot current = event.getCurrent();
+    for (Long restroomId : event.getRestroomIds()) {
+      int before = previous.indexOf(restroomId);
+      int after = current.indexOf(restroomId);
+      if (before < 0 || after < 0) {
+        if (before != after) {
+          return true;
+        }
+        continue;
+      }
+      if (previous.latitude(before) != current.latitude(after)
+          || previous.longitude(before) != current.longitude(after)
+          || previous.price(before) != current.price(after)
+          || previous.rating(before) != current.rating(after)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    builder.shutdownNow();
+  }
+
+  private static final class Built {
+
+    private final RestroomSnapshot snapshot;
+    private final ClusterGrid grid;
+
+    private Built(RestroomSnapshot snapshot, ClusterGrid grid) {
+      this.snapshot = snapshot;
+      this.grid = grid;
+    }
+  }
+}
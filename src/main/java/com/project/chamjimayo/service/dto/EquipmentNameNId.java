@@ -10,4 +10,7 @@ public class EquipmentNameNId {
   String equipmentName;
 
   long id;
+
+  // 비품이 있을 확률
+  double existenceProbability;
 }
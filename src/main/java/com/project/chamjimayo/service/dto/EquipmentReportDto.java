@@ -0,0 +1,35 @@
+package com.project.chamjimayo.service.dto;
+
+import com.project.chamjimayo.controller.dto.response.EquipmentReportResponse;
+import lombok.Getter;
+
+@Getter
+public class EquipmentReportDto {
+
+  private long userId;
+
+  private long equipmentId;
+
+  private boolean present;
+
+  // 신고를 반영한 뒤의 비품이 있을 확률
+  private double existenceProbability;
+
+  private EquipmentReportDto(long userId, long equipmentId, boolean present) {
+    this.userId = userId;
+    this.equipmentId = equipmentId;
+    this.present = present;
+  }
+
+  public static EquipmentReportDto create(long userId, long equipmentId, boolean present) {
+    return new EquipmentReportDto(userId, equipmentId, present);
+  }
+
+  public void setExistenceProbability(double existenceProbability) {
+    this.existenceProbability = existenceProbability;
+  }
+
+  public EquipmentReportResponse toResponse() {
+    return new EquipmentReportResponse(equipmentId, existenceProbability);
+  }
+}
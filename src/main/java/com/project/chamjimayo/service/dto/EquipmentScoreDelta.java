@@ -0,0 +1,17 @@
+package com.project.chamjimayo.service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 아직 DB에 반영하지 않은 비품 신고 점수
+ */
+@Getter
+@AllArgsConstructor
+public class EquipmentScoreDelta {
+
+  private final long equipmentId;
+  private final long restroomId;
+  private final double present;
+  private final double absent;
+}
@@ -0,0 +1,26 @@
+package com.project.chamjimayo.service.dto;
+
+import java.time.LocalDateTime;
+import lombok.Getter;
+
+/**
+ * DB에 반영된 비품 신고 점수
+ */
+@Getter
+public class EquipmentScoreDto {
+
+  private final long equipmentId;
+  private final long restroomId;
+  private final double presentScore;
+  private final double absentScore;
+  private final LocalDateTime scoreUpdatedDate;
+
+  public EquipmentScoreDto(Long equipmentId, Long restroomId, Double presentScore,
+      Double absentScore, LocalDateTime scoreUpdatedDate) {
+    this.equipmentId = equipmentId;
+    this.restroomId = restroomId;
+    this.presentScore = presentScore == null ? 0 : presentScore;
+    this.absentScore = absentScore == null ? 0 : absentScore;
+    this.scoreUpdatedDate = scoreUpdatedDate;
+  }
+}
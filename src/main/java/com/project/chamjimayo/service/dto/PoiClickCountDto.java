@@ -0,0 +1,27 @@
+package com.project.chamjimayo.service.dto;
+
+import lombok.Getter;
+
+/**
+ * 검색 기록에서 클릭된 POI 와 클릭 횟수
+ */
+@Getter
+public class PoiClickCountDto {
+
+  private final String name;
+  private final String roadAddress;
+  private final String lotNumberAddress;
+  private final Double latitude;
+  private final Double longitude;
+  private final long clickCount;
+
+  public PoiClickCountDto(String name, String roadAddress, String lotNumberAddress,
+      Double latitude, Double longitude, Long clickCount) {
+    this.name = name;
+    this.roadAddress = roadAddress;
+    this.lotNumberAddress = lotNumberAddress;
+    this.latitude = latitude;
+    this.longitude = longitude;
+    this.clickCount = clickCount == null ? 0L : clickCount;
+  }
+}
@@ -0,0 +1,18 @@
+package com.project.chamjimayo.service.dto;
+
+import lombok.Getter;
+
+/**
+ * 화장실 변경 기록 한 줄 (변경 번호, 화장실 id)
+ */
+@Getter
+public class RestroomChangeDto {
+
+  private final long changeSeq;
+  private final long restroomId;
+
+  public RestroomChangeDto(Long changeSeq, Long restroomId) {
+    this.changeSeq = changeSeq;
+    this.restroomId = restroomId;
+  }
+}
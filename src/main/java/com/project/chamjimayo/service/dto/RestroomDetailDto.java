@@ -2,6 +2,7 @@ package com.project.chamjimayo.service.dto;
 
 import com.project.chamjimayo.controller.dto.response.RestroomDetailResponse;
 import com.project.chamjimayo.repository.domain.entity.Restroom;
+import java.util.function.LongToDoubleFunction;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
@@ -9,6 +10,8 @@ import lombok.Getter;
 public class RestroomDetailDto {
   private long restroomId;
   private Restroom restroom;
+  private double equipmentExistenceProbability;
+  private LongToDoubleFunction equipmentProbability;
 
   public RestroomDetailDto(long restroomId){
     this.restroomId = restroomId;
@@ -18,7 +21,17 @@ public class RestroomDetailDto {
     this.restroom = restroom;
   }
 
+  public void setEquipmentProbability(double equipmentExistenceProbability,
+      LongToDoubleFunction equipmentProbability) {
+    this.equipmentExistenceProbability = equipmentExistenceProbability;
+    this.equipmentProbability = equipmentProbability;
+  }
+
   public RestroomDetailResponse toResponse(){
-    return new RestroomDetailResponse(restroom);
+    RestroomDetailResponse response = new RestroomDetailResponse(restroom);
+    if (equipmentProbability != null) {
+      response.updateEquipmentProbability(equipmentExistenceProbability, equipmentProbability);
+    }
+    return response;
   }
 }
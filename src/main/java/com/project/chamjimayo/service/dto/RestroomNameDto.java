@@ -0,0 +1,15 @@
+package com.project.chamjimayo.service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 화장실 id 와 이름
+ */
+@Getter
+@AllArgsConstructor
+public class RestroomNameDto {
+
+  private final Long restroomId;
+  private final String restroomName;
+}
@@ -1,5 +1,7 @@
 package com.project.chamjimayo.service.dto;
 
+import com.project.chamjimayo.service.nearby.NearByFilter;
+import java.time.LocalDateTime;
 import lombok.Getter;
 
 @Getter
@@ -15,13 +17,26 @@ public class RestroomNearByDto {
 
   String sortBy;
 
+  // 이 시각(서울 시간)에 열려 있는 화장실만 찾는다. null 이면 개방 시간으로 거르지 않음
+  LocalDateTime openAt;
+
+  // 속성(공용, 장애인, 요금, 별점, 이용 가능 대변기) 필터
+  NearByFilter filter;
+
 
   public RestroomNearByDto(double longitude, double latitude, String publicOrPaidOrEntire,
       double distance, String sortBy) {
+    this(longitude, latitude, publicOrPaidOrEntire, distance, sortBy, null, NearByFilter.none());
+  }
+
+  public RestroomNearByDto(double longitude, double latitude, String publicOrPaidOrEntire,
+      double distance, String sortBy, LocalDateTime openAt, NearByFilter filter) {
     this.longitude = longitude;
     this.latitude = latitude;
     this.publicOrPaidOrEntire = publicOrPaidOrEntire;
     this.distance = distance;
     this.sortBy = sortBy;
+    this.openAt = openAt;
+    this.filter = filter;
   }
 }
@@ -0,0 +1,15 @@
+package com.project.chamjimayo.service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 화장실의 개방 시간 원문
+ */
+@Getter
+@AllArgsConstructor
+public class RestroomOperatingHourDto {
+
+  private final Long restroomId;
+  private final String operatingHour;
+}
@@ -0,0 +1,46 @@
+package com.project.chamjimayo.service.dto;
+
+import lombok.Getter;
+
+/**
+ * 주변 화장실 검색용 스냅샷에 담는 화장실 한 건
+ */
+@Getter
+public class RestroomSnapshotRow {
+
+  private final long restroomId;
+  private final double latitude;
+  private final double longitude;
+  private final float averageRating;
+  private final int price;
+  private final int availableMaleToiletCount;
+  private final int availableFemaleToiletCount;
+  private final Boolean unisex;
+  private final Boolean accessibleToiletExistence;
+  private final String publicOrPaid;
+  private final Integer maleToiletCount;
+  private final Integer femaleToiletCount;
+  private final byte[] operatingHourBitmap;
+
+  public RestroomSnapshotRow(Long restroomId, Double latitude, Double longitude,
+      Float averageRating, Integer price, Integer availableMaleToiletCount,
+      Integer availableFemaleToiletCount, Boolean unisex, Boolean accessibleToiletExistence,
+      String publicOrPaid, Integer maleToiletCount, Integer femaleToiletCount,
+      byte[] operatingHourBitmap) {
+    this.restroomId = restroomId;
+    this.latitude = latitude;
+    this.longitude = longitude;
+    this.averageRating = averageRating == null ? 0 : averageRating;
+    this.price = price == null ? 0 : price;
+    this.availableMaleToiletCount =
+        availableMaleToiletCount == null ? 0 : availableMaleToiletCount;
+    this.availableFemaleToiletCount =
+        availableFemaleToiletCount == null ? 0 : availableFemaleToiletCount;
+    this.unisex = unisex;
+    this.accessibleToiletExistence = accessibleToiletExistence;
+    this.publicOrPaid = publicOrPaid;
+    this.maleToiletCount = maleToiletCount;
+    this.femaleToiletCount = femaleToiletCount;
+    this.operatingHourBitmap = operatingHourBitmap;
+  }
+}
@@ -0,0 +1,195 @@
+package com.project.chamjimayo.service.equipment;
+
+import com.project.chamjimayo.controller.config.EquipmentProperties;
+import com.project.chamjimayo.repository.EquipmentJdbcRepository;
+import com.project.chamjimayo.repository.EquipmentRepository;
+import com.project.chamjimayo.service.dto.EquipmentScoreDelta;
+import com.project.chamjimayo.service.dto.EquipmentScoreDto;
+import com.project.chamjimayo.service.exception.EquipmentNotFoundException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import javax.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 사용자의 비품 신고로 비품이 있을 확률을 계산한다.
+ * 신고는 메모리의 점수에 바로 반영하고, DB에는 주기적으로 모아서 반영한다.
+ * 반영한 뒤에는 DB 점수를 다시 읽어서 다른 서버가 받은 신고도 메모리 점수에 합친다.
+ * 주변 화장실/세부 정보 조회는 요청마다 집계하지 않고 메모리의 점수를 읽는다.
+ * 한 유저가 같은 비품을 신고하면 일정 시간 동안은 한 번만 반영한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EquipmentAvailabilityService {
+
+  private final EquipmentRepository equipmentRepository;
+  private final EquipmentJdbcRepository equipmentJdbcRepository;
+  private final EquipmentProperties equipmentProperties;
+  private final EquipmentReporterCache equipmentReporterCache;
+
+  private final ConcurrentMap<Long, EquipmentScore> scores = new ConcurrentHashMap<>();
+  private final ConcurrentMap<Long, List<EquipmentScore>> scoresByRestroom =
+      new ConcurrentHashMap<>();
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void load() {
+    List<EquipmentScoreDto> loaded = equipmentRepository.findAllScores();
+    loaded.forEach(this::register);
+    log.info("비품 {}개의 신고 점수를 불러왔습니다.", loaded.size());
+  }
+
+  /**
+   * 비품 신고를 반영하고 반영 후의 확률을 반환.
+   * 같은 유저가 최근에 이미 신고한 비품이면 반영하지 않고 현재 확률만 반환한다.
+   */
+  public double report(long userId, long equipmentId, boolean present) {
+    EquipmentScore score = scores.get(equipmentId);
+    if (score == null) {
+      score = equipmentRepository.findScoreById(equipmentId)
+          .map(this::register)
+          .orElseThrow(() -> new EquipmentNotFoundException("비품을 찾을 수 없습니다"));
+    }
+    long now = System.currentTimeMillis();
+    if (equipmentReporterCache.markReported(userId, equipmentId)) {
+      score.report(present, now);
+    }
+    return probability(score, now);
+  }
+
+  public double equipmentProbability(long equipmentId) {
+    EquipmentScore score = scores.get(equipmentId);
+    if (score == null) {
+      return priorProbability();
+    }
+    return probability(score, System.currentTimeMillis());
+  }
+
+  /**
+   * 화장실 비품들의 확률 평균. 등록된 비품이 없으면 0
+   */
+  public double restroomProbability(long restroomId) {
+    List<EquipmentScore> restroomScores = scoresByRestroom.get(restroomId);
+    if (restroomScores == null || restroomScores.isEmpty()) {
+      return 0;
+    }
+    long now = System.currentTimeMillis();
+    double sum = 0;
+    for (EquipmentScore score : restroomScores) {
+      sum += probability(score, now);
+    }
+    return sum / restroomScores.size();
+  }
+
+  /**
+   * 모아둔 신고 점수를 DB에 반영한 뒤 DB 점수를 다시 읽는다.
+   * 반영이 끝난 뒤에 읽어야 이 서버의 신고가 두 번 더해지거나 빠지지 않는다.
+   */
+  @Scheduled(fixedDelayString = "${equipment.flush-interval-ms:60000}")
+  public void sync() {
+    flush();
+    reload();
+  }
+
+  /**
+   * 모아둔 신고 점수를 DB에 반영한다. 실패하면 다음 주기에 다시 반영한다.
+   */
+  public void flush() {
+    long now = System.currentTimeMillis();
+    List<EquipmentScoreDelta> deltas = new ArrayList<>();
+    for (EquipmentScore score : scores.values()) {
+      EquipmentScoreDelta delta = score.drainPending(now);
+      if (delta != null) {
+        deltas.add(delta);
+      }
+    }
+    if (deltas.isEmpty()) {
+      return;
+    }
+
+    Map<Long, Double> restroomProbabilities = new HashMap<>();
+    for (EquipmentScoreDelta delta : deltas) {
+      restroomProbabilities.computeIfAbsent(delta.getRestroomId(), this::restroomProbability);
+    }
+
+    try {
+      equipmentJdbcRepository.applyScores(deltas,
+          LocalDateTime.ofInstant(Instant.ofEpochMilli(now), ZoneId.systemDefault()),
+          equipmentProperties.getReportHalfLife().toMillis() / 1000.0,
+          equipmentProperties.getPriorPresent(), equipmentProperties.getPriorAbsent(),
+          restroomProbabilities);
+    } catch (RuntimeException e) {
+      deltas.forEach(delta -> scores.get(delta.getEquipmentId()).restore(delta, now));
+      log.error("failed to flush {} equipment reports", deltas.size(), e);
+    }
+  }
+
+  /**
+   * 다른 서버가 반영한 신고를 합치기 위해 DB 점수로 메모리 점수를 다시 맞춘다.
+   * 새로 등록된 비품은 추가한다.
+   */
+  void reload() {
+    List<EquipmentScoreDto> loaded;
+    try {
+      loaded = equipmentRepository.findAllScores();
+    } catch (RuntimeException e) {
+      log.error("failed to reload equipment scores", e);
+      return;
+    }
+    for (EquipmentScoreDto dto : loaded) {
+      EquipmentScore score = scores.get(dto.getEquipmentId());
+      if (score == null) {
+        register(dto);
+      } else {
+        score.refresh(dto.getPresentScore(), dto.getAbsentScore(), updatedAt(dto));
+      }
+    }
+  }
+
+  @PreDestroy
+  public void flushOnShutdown() {
+    flush();
+  }
+
+  private EquipmentScore register(EquipmentScoreDto dto) {
+    EquipmentScore created = new EquipmentScore(dto.getEquipmentId(), dto.getRestroomId(),
+        dto.getPresentScore(), dto.getAbsentScore(), updatedAt(dto),
+        equipmentProperties.getReportHalfLife().toMillis());
+
+    EquipmentScore existing = scores.putIfAbsent(dto.getEquipmentId(), created);
+    if (existing != null) {
+      return existing;
+    }
+    scoresByRestroom.computeIfAbsent(dto.getRestroomId(), id -> new CopyOnWriteArrayList<>())
+        .add(created);
+    return created;
+  }
+
+  private long updatedAt(EquipmentScoreDto dto) {
+    return dto.getScoreUpdatedDate() == null ? System.currentTimeMillis()
+        : dto.getScoreUpdatedDate().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+  }
+
+  private double probability(EquipmentScore score, long now) {
+    return score.probability(now, equipmentProperties.getPriorPresent(),
+        equipmentProperties.getPriorAbsent());
+  }
+
+  private double priorProbability() {
+    return equipmentProperties.getPriorPresent()
+        / (equipmentProperties.getPriorPresent() + equipmentProperties.getPriorAbsent());
+  }
+}
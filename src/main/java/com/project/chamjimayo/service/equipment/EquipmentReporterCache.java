@@ -0,0 +1,27 @@
+package com.project.chamjimayo.service.equipment;
+
+import com.project.chamjimayo.controller.config.CacheConfig;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+/**
+ * 유저가 최근에 신고한 비품을 기억해서, 한 유저가 같은 비품을 반복 신고해 확률을 조작하지 못하게 한다.
+ * 기억하는 시간은 local-cache.specs.equipmentReporters.expire-after-write 로 바꿀 수 있다.
+ */
+@Component
+public class EquipmentReporterCache {
+
+  private final Cache cache;
+
+  public EquipmentReporterCache(CacheManager cacheManager) {
+    this.cache = cacheManager.getCache(CacheConfig.EQUIPMENT_REPORTERS);
+  }
+
+  /**
+   * 처음 신고하면 기억하고 true, 이미 신고한 적이 있으면 false
+   */
+  public boolean markReported(long userId, long equipmentId) {
+    return cache.putIfAbsent(userId + ":" + equipmentId, Boolean.TRUE) == null;
+  }
+}
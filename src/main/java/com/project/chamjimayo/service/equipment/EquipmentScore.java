@@ -0,0 +1,131 @@
+package com.project.chamjimayo.service.equipment;
+
+import com.project.chamjimayo.service.dto.EquipmentScoreDelta;
+
+/**
+ * 비품 하나의 '있음'/'없음' 신고 점수.
+ * 점수는 반감기마다 절반으로 줄어들어서 최근 신고일수록 확률에 크게 반영된다.
+ * 전체 점수(DB 값 + 이 서버가 받은 신고)와 아직 DB에 반영하지 않은 점수를 따로 들고 있다.
+ * 다른 서버가 반영한 신고는 주기적으로 DB 값을 다시 읽어서(refresh) 합친다.
+ */
+class EquipmentScore {
+
+  private final long equipmentId;
+  private final long restroomId;
+  private final double halfLifeMillis;
+
+  private double present;
+  private double absent;
+  private long updatedAt;
+
+  private double pendingPresent;
+  private double pendingAbsent;
+  private long pendingAt;
+  private boolean dirty;
+
+  EquipmentScore(long equipmentId, long restroomId, double present, double absent,
+      long updatedAt, double halfLifeMillis) {
+    this.equipmentId = equipmentId;
+    this.restroomId = restroomId;
+    this.present = present;
+    this.absent = absent;
+    this.updatedAt = updatedAt;
+    this.halfLifeMillis = halfLifeMillis;
+  }
+
+  long getEquipmentId() {
+    return equipmentId;
+  }
+
+  long getRestroomId() {
+    return restroomId;
+  }
+
+  synchronized void report(boolean isPresent, long now) {
+    double factor = decayFactor(now - updatedAt);
+    present *= factor;
+    absent *= factor;
+    updatedAt = Math.max(updatedAt, now);
+
+    if (dirty) {
+      double pendingFactor = decayFactor(now - pendingAt);
+      pendingPresent *= pendingFactor;
+      pendingAbsent *= pendingFactor;
+    }
+    pendingAt = Math.max(pendingAt, now);
+
+    if (isPresent) {
+      present++;
+      pendingPresent++;
+    } else {
+      absent++;
+      pendingAbsent++;
+    }
+    dirty = true;
+  }
+
+  /**
+   * 사전 점수를 더한 '있음' 비율. 신고가 없으면 사전 점수의 비율이 된다.
+   */
+  synchronized double probability(long now, double priorPresent, double priorAbsent) {
+    double factor = decayFactor(now - updatedAt);
+    return (present * factor + priorPresent)
+        / ((present + absent) * factor + priorPresent + priorAbsent);
+  }
+
+  /**
+   * DB에 반영하지 않은 점수를 now 시점으로 줄여서 꺼낸다. 없으면 null
+   */
+  synchronized EquipmentScoreDelta drainPending(long now) {
+    if (!dirty) {
+      return null;
+    }
+    double factor = decayFactor(now - pendingAt);
+    EquipmentScoreDelta delta = new EquipmentScoreDelta(equipmentId, restroomId,
+        pendingPresent * factor, pendingAbsent * factor);
+    pendingPresent = 0;
+    pendingAbsent = 0;
+    dirty = false;
+    return delta;
+  }
+
+  /**
+   * DB 반영에 실패한 점수를 되돌려 놓는다. (drainedAt 은 drainPending 에 넘긴 시간)
+   */
+  synchronized void restore(EquipmentScoreDelta delta, long drainedAt) {
+    if (dirty) {
+      double factor = decayFactor(pendingAt - drainedAt);
+      pendingPresent += delta.getPresent() * factor;
+      pendingAbsent += delta.getAbsent() * factor;
+    } else {
+      pendingPresent = delta.getPresent();
+      pendingAbsent = delta.getAbsent();
+      pendingAt = drainedAt;
+    }
+    dirty = true;
+  }
+
+  /**
+   * 전체 점수를 DB 값과 아직 DB에 반영하지 않은 점수의 합으로 다시 맞춘다.
+   * DB 값에는 다른 서버가 반영한 신고와 이 서버가 이미 반영한 신고가 모두 들어 있다.
+   */
+  synchronized void refresh(double dbPresent, double dbAbsent, long dbUpdatedAt) {
+    long reference = dirty ? Math.max(dbUpdatedAt, pendingAt) : dbUpdatedAt;
+    double dbFactor = decayFactor(reference - dbUpdatedAt);
+    present = dbPresent * dbFactor;
+    absent = dbAbsent * dbFactor;
+    if (dirty) {
+      double pendingFactor = decayFactor(reference - pendingAt);
+      present += pendingPresent * pendingFactor;
+      absent += pendingAbsent * pendingFactor;
+    }
+    updatedAt = reference;
+  }
+
+  private double decayFactor(long elapsedMillis) {
+    if (elapsedMillis <= 0) {
+      return 1;
+    }
+    return Math.pow(0.5, elapsedMillis / halfLifeMillis);
+  }
+}
@@ -0,0 +1,35 @@
+package com.project.chamjimayo.service.event;
+
+import java.util.Collection;
+import java.util.List;
+import lombok.Getter;
+
+/**
+ * 화장실 정보(등록, 좌표, 별점, 이용 가능 변기 수, 개방 시간 등)가 바뀌었을 때 발행하는 이벤트.
+ * restroomIds 가 비어 있으면 전체가 바뀐 것으로 본다.
+ */
+@Getter
+public class RestroomChangedEvent {
+
+  private final List<Long> restroomIds;
+
+  private RestroomChangedEvent(List<Long> restroomIds) {
+    this.restroomIds = restroomIds;
+  }
+
+  public static RestroomChangedEvent create(Long restroomId) {
+    return new RestroomChangedEvent(List.of(restroomId));
+  }
+
+  public static RestroomChangedEvent create(Collection<Long> restroomIds) {
+    return new RestroomChangedEvent(List.copyOf(restroomIds));
+  }
+
+  public static RestroomChangedEvent all() {
+    return new RestroomChangedEvent(List.of());
+  }
+
+  public boolean isAll() {
+    return restroomIds.isEmpty();
+  }
+}
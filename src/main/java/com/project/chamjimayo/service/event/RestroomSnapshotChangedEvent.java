@@ -0,0 +1,39 @@
+package com.project.chamjimayo.service.event;
+
+import com.project.chamjimayo.service.nearby.RestroomSnapshot;
+import java.util.Collection;
+import java.util.List;
+import lombok.Getter;
+
+/**
+ * 주변 검색 스냅샷을 새 스냅샷으로 교체한 뒤에 발행하는 이벤트.
+ * restroomIds 가 비어 있으면 전체를 다시 읽은 것으로 본다.
+ */
+@Getter
+public class RestroomSnapshotChangedEvent {
+
+  private final RestroomSnapshot previous;
+  private final RestroomSnapshot current;
+  private final List<Long> restroomIds;
+
+  private RestroomSnapshotChangedEvent(RestroomSnapshot previous, RestroomSnapshot current,
+      List<Long> restroomIds) {
+    this.previous = previous;
+    this.current = current;
+    this.restroomIds = restroomIds;
+  }
+
+  public static RestroomSnapshotChangedEvent create(RestroomSnapshot previous,
+      RestroomSnapshot current, Collection<Long> restroomIds) {
+    return new RestroomSnapshotChangedEvent(previous, current, List.copyOf(restroomIds));
+  }
+
+  public static RestroomSnapshotChangedEvent all(RestroomSnapshot previous,
+      RestroomSnapshot current) {
+    return new RestroomSnapshotChangedEvent(previous, current, List.of());
+  }
+
+  public boolean isAll() {
+    return restroomIds.isEmpty();
+  }
+}
@@ -0,0 +1,32 @@
+package com.project.chamjimayo.service.event;
+
+import com.project.chamjimayo.controller.config.CacheConfig;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 유저 정보가 바뀌면 커밋 이후에 유저 캐시를 비운다.
+ * 커밋 전에 비우면 동시에 들어온 조회가 이전 값을 다시 캐시에 올릴 수 있다.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserCacheEvictListener {
+
+  private final CacheManager cacheManager;
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void evictUserCaches(UserChangedEvent event) {
+    evict(CacheConfig.USER_DETAILS, String.valueOf(event.getUserId()));
+    evict(CacheConfig.USER_DETAILS_DTO, event.getUserId());
+  }
+
+  private void evict(String cacheName, Object key) {
+    Cache cache = cacheManager.getCache(cacheName);
+    if (cache != null) {
+      cache.evict(key);
+    }
+  }
+}
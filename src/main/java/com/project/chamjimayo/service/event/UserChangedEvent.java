@@ -0,0 +1,20 @@
+package com.project.chamjimayo.service.event;
+
+import lombok.Getter;
+
+/**
+ * 유저의 닉네임, 프로필, 포인트, 권한, 사용 중인 화장실 등이 바뀌었을 때 발행하는 이벤트
+ */
+@Getter
+public class UserChangedEvent {
+
+  private final Long userId;
+
+  private UserChangedEvent(Long userId) {
+    this.userId = userId;
+  }
+
+  public static UserChangedEvent create(Long userId) {
+    return new UserChangedEvent(userId);
+  }
+}
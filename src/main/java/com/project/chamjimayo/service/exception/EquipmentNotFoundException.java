@@ -0,0 +1,12 @@
+package com.project.chamjimayo.service.exception;
+
+public class EquipmentNotFoundException extends RuntimeException {
+
+  public EquipmentNotFoundException(String msg) {
+    super(msg);
+  }
+
+  public ErrorStatus toErrorCode() {
+    return ErrorStatus.EQUIPMENT_NOT_FOUND;
+  }
+}
@@ -34,12 +34,14 @@ public enum ErrorStatus {
   GOOGLE_CLIENT_REQUEST_EXCEPTION("25"),
   REFUND_EXCEPTION("26"),
   SECURITY_EXCEPTION("27"),
-  VOIDED_PURCHASE_NOT_FOUND("28"),
   INDEX_EXCEPTION("29"),
   PAGE_OUT_OF_RANGE("30"),
   USING_RESTROOM_EXCEPTION("31"),
   API_KEY_NOT_VALID_EXCEPTION("32"),
-  ALL_READY_REVIEW_EXCEPTION("33");
+  ALL_READY_REVIEW_EXCEPTION("33"),
+  UPSTREAM_TIMEOUT("34"),
+  EQUIPMENT_NOT_FOUND("35"),
+  UPSTREAM_ERROR("36");
   private final String code;
 
   ErrorStatus(String code) {
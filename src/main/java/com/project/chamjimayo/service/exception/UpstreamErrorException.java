@@ -0,0 +1,12 @@
+package com.project.chamjimayo.service.exception;
+
+public class UpstreamErrorException extends RuntimeException {
+
+  public UpstreamErrorException(String msg) {
+    super(msg);
+  }
+
+  public ErrorStatus toErrorCode() {
+    return ErrorStatus.UPSTREAM_ERROR;
+  }
+}
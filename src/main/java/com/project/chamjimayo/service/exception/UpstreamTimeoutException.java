@@ -0,0 +1,12 @@
+package com.project.chamjimayo.service.exception;
+
+public class UpstreamTimeoutException extends RuntimeException {
+
+  public UpstreamTimeoutException(String msg) {
+    super(msg);
+  }
+
+  public ErrorStatus toErrorCode() {
+    return ErrorStatus.UPSTREAM_TIMEOUT;
+  }
+}
@@ -0,0 +1,115 @@
+package com.project.chamjimayo.service.nearby;
+
+/**
+ * 한 지점에서 반경 안에 있는지와 거리를 빠르게 계산한다.
+ * 조회 지점의 라디안 좌표와 cos(위도)는 한 번만 계산하고, 후보의 라디안 좌표와 cos(위도)는
+ * 스냅샷에 미리 계산해 둔 값을 쓴다.
+ *
+ * 후보마다 삼각함수 없이 d² ≈ Δφ² + cosφ1·cosφ2·Δλ² (equirectangular 근사) 로 안/밖을 판단하고,
+ * 근사 오차가 결과를 바꿀 수 있는 경계 근처에서만 Haversine 으로 다시 계산한다.
+ * 근사의 상대 오차는 (d/R)² 정도라서 반경이 수십 km 이하면 경계 폭(0.01%) 안에 들어온다.
+ */
+public final class DistanceQuery {
+
+  // 근사 거리가 반경의 ±0.01% 안이면 Haversine 으로 다시 계산한다.
+  static final double BOUNDARY_RATIO = 1e-4;
+
+  // 이보다 큰 반경은 근사 오차가 경계 폭을 넘을 수 있어서 전부 Haversine 으로 계산한다.
+  static final double MAX_APPROXIMATE_RADIUS_METERS = 50_000;
+
+  // 극지방은 경도 차이가 커서 근사가 맞지 않는다.
+  static final double MAX_APPROXIMATE_LATITUDE = 80;
+
+  private final double latitude;
+  private final double longitude;
+  private final double radiusMeters;
+  private final double latitudeRad;
+  private final double longitudeRad;
+  private final double cosLatitude;
+  private final boolean approximate;
+  private final double maxDeltaLatitude;
+  private final double innerSquared;
+  private final double outerSquared;
+
+  public DistanceQuery(double latitude, double longitude, double radiusMeters) {
+    this.latitude = latitude;
+    this.longitude = longitude;
+    this.radiusMeters = radiusMeters;
+    this.latitudeRad = Math.toRadians(latitude);
+    this.longitudeRad = Math.toRadians(longitude);
+    this.cosLatitude = Math.cos(latitudeRad);
+    this.approximate = radiusMeters <= MAX_APPROXIMATE_RADIUS_METERS
+        && Math.abs(latitude) <= MAX_APPROXIMATE_LATITUDE;
+
+    double radiusRad = radiusMeters / GeoDistance.EARTH_RADIUS_METERS;
+    double inner = radiusRad * (1 - BOUNDARY_RATIO);
+    double outer = radiusRad * (1 + BOUNDARY_RATIO);
+    this.maxDeltaLatitude = outer;
+    this.innerSquared = inner * inner;
+    this.outerSquared = outer * outer;
+  }
+
+  /**
+   * 반경 안에 있으면 거리(m), 밖이면 -1
+   */
+  public double distanceIfWithin(double candidateLatitudeRad, double candidateLongitudeRad,
+      double candidateCosLatitude) {
+    if (!approximate) {
+      return exactIfWithin(candidateLatitudeRad, candidateLongitudeRad, candidateCosLatitude);
+    }
+
+    double deltaLatitude = candidateLatitudeRad - latitudeRad;
+    if (deltaLatitude > maxDeltaLatitude || deltaLatitude < -maxDeltaLatitude) {
+      return -1;
+    }
+    double deltaLongitude = candidateLongitudeRad - longitudeRad;
+    if (deltaLongitude > Math.PI) {
+      deltaLongitude -= 2 * Math.PI;
+    } else if (deltaLongitude < -Math.PI) {
+      deltaLongitude += 2 * Math.PI;
+    }
+
+    double squared = deltaLatitude * deltaLatitude
+        + cosLatitude * candidateCosLatitude * deltaLongitude * deltaLongitude;
+    if (squared > outerSquared) {
+      return -1;
+    }
+    if (squared < innerSquared) {
+      return Math.sqrt(squared) * GeoDistance.EARTH_RADIUS_METERS;
+    }
+    return exactIfWithin(candidateLatitudeRad, candidateLongitudeRad, candidateCosLatitude);
+  }
+
+  /**
+   * 배열 전체에서 반경 안에 있는 후보를 찾아 위치와 거리를 채운다.
+   *
+   * @return 찾은 후보 수
+   */
+  public int scan(double[] latitudesRad, double[] longitudesRad, double[] cosLatitudes, int size,
+      int[] outIndexes, double[] outDistances) {
+    int found = 0;
+    for (int i = 0; i < size; i++) {
+      double distance = distanceIfWithin(latitudesRad[i], longitudesRad[i], cosLatitudes[i]);
+      if (distance >= 0) {
+        outIndexes[found] = i;
+        outDistances[found] = distance;
+        found++;
+      }
+    }
+    return found;
+  }
+
+  /**
+   * Haversine 으로 계산한 정확한 거리(m)
+   */
+  public double exactDistance(double candidateLatitude, double candidateLongitude) {
+    return GeoDistance.haversine(latitude, longitude, candidateLatitude, candidateLongitude);
+  }
+
+  private double exactIfWithin(double candidateLatitudeRad, double candidateLongitudeRad,
+      double candidateCosLatitude) {
+    double distance = GeoDistance.haversineRadians(latitudeRad, longitudeRad, cosLatitude,
+        candidateLatitudeRad, candidateLongitudeRad, candidateCosLatitude);
+    return distance <= radiusMeters ? distance : -1;
+  }
+}
@@ -0,0 +1,32 @@
+package com.project.chamjimayo.service.nearby;
+
+/**
+ * 위경도 사이의 거리 계산 (단위: m)
+ */
+public final class GeoDistance {
+
+  public static final double EARTH_RADIUS_METERS = 6_371_000.0;
+
+  private GeoDistance() {
+  }
+
+  // Haversine 공식
+  public static double haversine(double lat1, double lon1, double lat2, double lon2) {
+    double lat1Rad = Math.toRadians(lat1);
+    double lat2Rad = Math.toRadians(lat2);
+    return haversineRadians(lat1Rad, Math.toRadians(lon1), Math.cos(lat1Rad),
+        lat2Rad, Math.toRadians(lon2), Math.cos(lat2Rad));
+  }
+
+  // 라디안 좌표와 cos(위도)를 미리 계산해 둔 경우의 Haversine 공식
+  public static double haversineRadians(double lat1Rad, double lon1Rad, double cosLat1,
+      double lat2Rad, double lon2Rad, double cosLat2) {
+    double sinHalfDeltaLat = Math.sin((lat2Rad - lat1Rad) / 2);
+    double sinHalfDeltaLon = Math.sin((lon2Rad - lon1Rad) / 2);
+
+    double a = sinHalfDeltaLat * sinHalfDeltaLat
+        + cosLat1 * cosLat2 * sinHalfDeltaLon * sinHalfDeltaLon;
+    double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+    return EARTH_RADIUS_METERS * c;
+  }
+}
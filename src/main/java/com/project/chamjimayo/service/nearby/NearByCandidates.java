@@ -0,0 +1,94 @@
+package com.project.chamjimayo.service.nearby;
+
+import java.util.Arrays;
+
+/**
+ * 주변 화장실 후보. 스냅샷의 위치(index)와 거리만 primitive 배열로 들고 있다.
+ */
+public final class NearByCandidates {
+
+  private int size;
+  private int[] indexes = new int[16];
+  private double[] distances = new double[16];
+
+  void add(int index, double distance) {
+    if (size == indexes.length) {
+      indexes = Arrays.copyOf(indexes, size * 2);
+      distances = Arrays.copyOf(distances, size * 2);
+    }
+    indexes[size] = index;
+    distances[size] = distance;
+    size++;
+  }
+
+  public int size() {
+    return size;
+  }
+
+  // 스냅샷에서의 위치
+  public int index(int candidate) {
+    return indexes[candidate];
+  }
+
+  public double distance(int candidate) {
+    return distances[candidate];
+  }
+
+  /**
+   * 정렬 기준에 따른 후보 순서.
+   * rating_des / rating_asc 는 별점 순(같으면 가까운 순), 그 외에는 가까운 순
+   * (walking 도 여기서는 가까운 순이고, 도보 거리 순 정렬은 WalkingDistanceService 가 한다)
+   * 정렬 키(상위 32비트)와 후보 번호(하위 32비트)를 long 하나에 담아 primitive 배열로 정렬한다.
+   * 키가 같으면 후보 번호, 즉 화장실 id 순이다.
+   */
+  public int[] order(String sortBy, RestroomSnapshot snapshot) {
+    boolean byRating = "rating_des".equals(sortBy) || "rating_asc".equals(sortBy);
+    boolean descending = "rating_des".equals(sortBy);
+
+    long[] keys = new long[size];
+    for (int candidate = 0; candidate < size; candidate++) {
+      int key = byRating ? ratingKey(snapshot.rating(indexes[candidate]), descending)
+          : distanceKey(candidate);
+      keys[candidate] = pack(key, candidate);
+    }
+    Arrays.sort(keys);
+
+    if (byRating) {
+      // 별점이 같은 구간은 가까운 순으로 다시 정렬
+      int from = 0;
+      for (int i = 1; i <= size; i++) {
+        if (i < size && (int) (keys[i] >>> 32) == (int) (keys[from] >>> 32)) {
+          continue;
+        }
+        if (i - from > 1) {
+          for (int j = from; j < i; j++) {
+            int candidate = (int) keys[j];
+            keys[j] = pack(distanceKey(candidate), candidate);
+          }
+          Arrays.sort(keys, from, i);
+        }
+        from = i;
+      }
+    }
+
+    int[] order = new int[size];
+    for (int i = 0; i < size; i++) {
+      order[i] = (int) keys[i];
+    }
+    return order;
+  }
+
+  // 음수가 아닌 float 의 비트는 값과 같은 순서라서 그대로 정렬 키로 쓴다.
+  private int distanceKey(int candidate) {
+    return Float.floatToIntBits((float) Math.max(0, distances[candidate]));
+  }
+
+  private static int ratingKey(float rating, boolean descending) {
+    int bits = Float.floatToIntBits(Math.max(0, rating));
+    return descending ? Integer.MAX_VALUE - bits : bits;
+  }
+
+  private static long pack(int key, int candidate) {
+    return ((long) key << 32) | candidate;
+  }
+}
@@ -0,0 +1,123 @@
+package com.project.chamjimayo.service.nearby;
+
+import com.project.chamjimayo.service.exception.IndexException;
+import java.util.Locale;
+import lombok.Getter;
+
+/**
+ * 주변 화장실 검색 조건.
+ * 속성 조건은 마스크로 미리 만들어 두고, 후보마다 primitive 값만 넘겨 비교한다.
+ */
+@Getter
+public class NearByFilter {
+
+  private static final NearByFilter NONE = new NearByFilter(0, 0, null, null, null);
+
+  private static final String MALE = "male";
+
+  private static final String FEMALE = "female";
+
+  // 있어야 하는 속성 비트
+  private final int requiredAttributes;
+
+  // 없어야 하는 속성 비트
+  private final int forbiddenAttributes;
+
+  private final Integer maxPrice;
+
+  private final Float minRating;
+
+  // 이용 가능한 대변기가 있어야 하는 성별 ("male" / "female"), null 이면 거르지 않음
+  private final String availableFor;
+
+  private NearByFilter(int requiredAttributes, int forbiddenAttributes, Integer maxPrice,
+      Float minRating, String availableFor) {
+    this.requiredAttributes = requiredAttributes;
+    this.forbiddenAttributes = forbiddenAttributes;
+    this.maxPrice = maxPrice;
+    this.minRating = minRating;
+    this.availableFor = availableFor;
+  }
+
+  public static NearByFilter none() {
+    return NONE;
+  }
+
+  /**
+   * null 인 조건은 거르지 않는다. availableFor 는 male / female 만 (대소문자 무시) 받는다.
+   */
+  public static NearByFilter create(Boolean unisex, Boolean accessible, Boolean free,
+      Integer maxPrice, Float minRating, String availableFor) {
+    int required = 0;
+    int forbidden = 0;
+    if (unisex != null) {
+      if (unisex) {
+        required |= RestroomAttributes.UNISEX;
+      } else {
+        forbidden |= RestroomAttributes.UNISEX;
+      }
+    }
+    if (accessible != null) {
+      if (accessible) {
+        required |= RestroomAttributes.ACCESSIBLE;
+      } else {
+        forbidden |= RestroomAttributes.ACCESSIBLE;
+      }
+    }
+    if (free != null) {
+      if (free) {
+        required |= RestroomAttributes.FREE;
+      } else {
+        forbidden |= RestroomAttributes.FREE;
+      }
+    }
+    String gender = null;
+    if (availableFor != null) {
+      gender = availableFor.trim().toLowerCase(Locale.ROOT);
+      if (MALE.equals(gender)) {
+        required |= RestroomAttributes.MALE_TOILET;
+      } else if (FEMALE.equals(gender)) {
+        required |= RestroomAttributes.FEMALE_TOILET;
+      } else {
+        throw new IndexException("availableFor 는 male 또는 female 이어야 합니다.");
+      }
+    }
+    return new NearByFilter(required, forbidden, maxPrice, minRating, gender);
+  }
+
+  /**
+   * 주변 화장실 경로의 public / paid / entire 조건을 더한 필터
+   */
+  public NearByFilter withPublicOrPaid(String publicOrPaidOrEntire) {
+    if ("paid".equals(publicOrPaidOrEntire)) {
+      return new NearByFilter(requiredAttributes | RestroomAttributes.PAID,
+          forbiddenAttributes, maxPrice, minRating, availableFor);
+    }
+    if ("public".equals(publicOrPaidOrEntire)) {
+      return new NearByFilter(requiredAttributes,
+          forbiddenAttributes | RestroomAttributes.PAID, maxPrice, minRating, availableFor);
+    }
+    return this;
+  }
+
+  public boolean matches(int attributes, int price, float rating,
+      int availableMaleToiletCount, int availableFemaleToiletCount) {
+    if ((attributes & requiredAttributes) != requiredAttributes
+        || (attributes & forbiddenAttributes) != 0) {
+      return false;
+    }
+    if (maxPrice != null && price > maxPrice) {
+      return false;
+    }
+    if (minRating != null && rating < minRating) {
+      return false;
+    }
+    if (MALE.equals(availableFor)) {
+      return availableMaleToiletCount > 0;
+    }
+    if (FEMALE.equals(availableFor)) {
+      return availableFemaleToiletCount > 0;
+    }
+    return true;
+  }
+}
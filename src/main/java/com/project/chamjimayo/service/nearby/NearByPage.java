@@ -0,0 +1,58 @@
+package com.project.chamjimayo.service.nearby;
+
+/**
+ * 정렬과 페이징을 마친 주변 화장실 검색 결과 한 페이지.
+ * position 은 페이지 안에서의 순서(0부터)다.
+ */
+public final class NearByPage {
+
+  private final RestroomSnapshot snapshot;
+  private final NearByCandidates candidates;
+  private final int[] order;
+  private final double[] walkingDistances;
+  private final int startIndex;
+  private final int endIndex;
+
+  /**
+   * @param walkingDistances 후보별 도보 거리 (계산하지 않았으면 null, 후보별로 없으면 음수)
+   */
+  public NearByPage(RestroomSnapshot snapshot, NearByCandidates candidates, int[] order,
+      double[] walkingDistances, int startIndex, int endIndex) {
+    this.snapshot = snapshot;
+    this.candidates = candidates;
+    this.order = order;
+    this.walkingDistances = walkingDistances;
+    this.startIndex = startIndex;
+    this.endIndex = endIndex;
+  }
+
+  public RestroomSnapshot snapshot() {
+    return snapshot;
+  }
+
+  public int size() {
+    return endIndex - startIndex;
+  }
+
+  // 스냅샷에서의 위치
+  public int index(int position) {
+    return candidates.index(order[startIndex + position]);
+  }
+
+  public long restroomId(int position) {
+    return snapshot.id(index(position));
+  }
+
+  public double distance(int position) {
+    return candidates.distance(order[startIndex + position]);
+  }
+
+  // 도보 거리, 없으면 null
+  public Double walkingDistance(int position) {
+    if (walkingDistances == null) {
+      return null;
+    }
+    double walkingDistance = walkingDistances[order[startIndex + position]];
+    return walkingDistance >= 0 ? walkingDistance : null;
+  }
+}
@@ -0,0 +1,61 @@
+package com.project.chamjimayo.service.nearby;
+
+import com.project.chamjimayo.repository.domain.entity.Restroom;
+
+/**
+ * 화장실의 변하지 않는 속성을 int 하나에 비트로 담는다.
+ * 주변 화장실 필터는 필요한 비트와 없어야 하는 비트를 마스크로 한 번에 비교한다.
+ */
+public final class RestroomAttributes {
+
+  // 남녀 공용
+  public static final int UNISEX = 1;
+
+  // 장애인 화장실
+  public static final int ACCESSIBLE = 1 << 1;
+
+  // 유료 화장실
+  public static final int PAID = 1 << 2;
+
+  // 이용 요금이 0원
+  public static final int FREE = 1 << 3;
+
+  // 남자 대변기가 있음
+  public static final int MALE_TOILET = 1 << 4;
+
+  // 여자 대변기가 있음
+  public static final int FEMALE_TOILET = 1 << 5;
+
+  private RestroomAttributes() {
+  }
+
+  public static int of(Restroom restroom) {
+    return of(restroom.getUnisex(), restroom.getAccessibleToiletExistence(),
+        restroom.getPublicOrPaid(), restroom.getPrice(), restroom.getMaleToiletCount(),
+        restroom.getFemaleToiletCount());
+  }
+
+  public static int of(Boolean unisex, Boolean accessibleToiletExistence, String publicOrPaid,
+      Integer price, Integer maleToiletCount, Integer femaleToiletCount) {
+    int attributes = 0;
+    if (Boolean.TRUE.equals(unisex)) {
+      attributes |= UNISEX;
+    }
+    if (Boolean.TRUE.equals(accessibleToiletExistence)) {
+      attributes |= ACCESSIBLE;
+    }
+    if (Restroom.PAID.equals(publicOrPaid)) {
+      attributes |= PAID;
+    }
+    if (price == null || price == 0) {
+      attributes |= FREE;
+    }
+    if (maleToiletCount != null && maleToiletCount > 0) {
+      attributes |= MALE_TOILET;
+    }
+    if (femaleToiletCount != null && femaleToiletCount > 0) {
+      attributes |= FEMALE_TOILET;
+    }
+    return attributes;
+  }
+}
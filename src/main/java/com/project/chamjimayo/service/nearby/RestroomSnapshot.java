@@ -0,0 +1,266 @@
+package com.project.chamjimayo.service.nearby;
+
+import com.project.chamjimayo.repository.domain.entity.Restroom;
+import com.project.chamjimayo.service.dto.RestroomSnapshotRow;
+import com.project.chamjimayo.service.operatinghour.OperatingHours;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 주변 화장실 검색용 읽기 전용 스냅샷.
+ * 화장실 정보를 id 순으로 정렬된 primitive 배열에 나눠 담아서
+ * 검색할 때 엔티티나 영속성 컨텍스트 없이 배열만 훑는다.
+ * 한 번 만든 스냅샷은 바꾸지 않고, 변경이 있으면 배열을 복사한 새 스냅샷을 만든다.
+ */
+public final class RestroomSnapshot {
+
+  private static final RestroomSnapshot EMPTY = new RestroomSnapshot(0);
+
+  private final int size;
+  private final long[] ids;
+  private final double[] latitudes;
+  private final double[] longitudes;
+  // 거리 계산용으로 미리 계산해 둔 라디안 좌표와 cos(위도)
+  private final double[] latitudesRad;
+  private final double[] longitudesRad;
+  private final double[] cosLatitudes;
+  private final float[] ratings;
+  private final int[] prices;
+  private final int[] availableMaleToiletCounts;
+  private final int[] availableFemaleToiletCounts;
+  private final int[] attributes;
+  private final byte[][] operatingHourBitmaps;
+
+  private RestroomSnapshot(int size) {
+    this.size = size;
+    this.ids = new long[size];
+    this.latitudes = new double[size];
+    this.longitudes = new double[size];
+    this.latitudesRad = new double[size];
+    this.longitudesRad = new double[size];
+    this.cosLatitudes = new double[size];
+    this.ratings = new float[size];
+    this.prices = new int[size];
+    this.availableMaleToiletCounts = new int[size];
+    this.availableFemaleToiletCounts = new int[size];
+    this.attributes = new int[size];
+    this.operatingHourBitmaps = new byte[size][];
+  }
+
+  private RestroomSnapshot(RestroomSnapshot source, int size) {
+    this.size = size;
+    this.ids = Arrays.copyOf(source.ids, size);
+    this.latitudes = Arrays.copyOf(source.latitudes, size);
+    this.longitudes = Arrays.copyOf(source.longitudes, size);
+    this.latitudesRad = Arrays.copyOf(source.latitudesRad, size);
+    this.longitudesRad = Arrays.copyOf(source.longitudesRad, size);
+    this.cosLatitudes = Arrays.copyOf(source.cosLatitudes, size);
+    this.ratings = Arrays.copyOf(source.ratings, size);
+    this.prices = Arrays.copyOf(source.prices, size);
+    this.availableMaleToiletCounts = Arrays.copyOf(source.availableMaleToiletCounts, size);
+    this.availableFemaleToiletCounts = Arrays.copyOf(source.availableFemaleToiletCounts, size);
+    this.attributes = Arrays.copyOf(source.attributes, size);
+    this.operatingHourBitmaps = Arrays.copyOf(source.operatingHourBitmaps, size);
+  }
+
+  public static RestroomSnapshot empty() {
+    return EMPTY;
+  }
+
+  public static RestroomSnapshot of(List<RestroomSnapshotRow> rows) {
+    RestroomSnapshot snapshot = new RestroomSnapshot(rows.size());
+    RestroomSnapshotRow[] sorted = rows.toArray(new RestroomSnapshotRow[0]);
+    Arrays.sort(sorted, Comparator.comparingLong(RestroomSnapshotRow::getRestroomId));
+    for (int i = 0; i < sorted.length; i++) {
+      snapshot.set(i, sorted[i]);
+    }
+    return snapshot;
+  }
+
+  /**
+   * 바뀐 화장실만 반영한 새 스냅샷. restroomIds 중 rows 에 없는 id 는 빼고,
+   * 이미 있는 id 는 덮어쓰고 새 id 는 추가한다.
+   */
+  public RestroomSnapshot withRows(Collection<Long> restroomIds,
+      List<RestroomSnapshotRow> rows) {
+    Set<Long> found = new HashSet<>();
+    rows.forEach(row -> found.add(row.getRestroomId()));
+
+    boolean[] removed = new boolean[size];
+    int removedCount = 0;
+    for (Long restroomId : restroomIds) {
+      int index = found.contains(restroomId) ? -1 : indexOf(restroomId);
+      if (index >= 0 && !removed[index]) {
+        removed[index] = true;
+        removedCount++;
+      }
+    }
+    return (removedCount == 0 ? this : without(removed, removedCount)).withRows(rows);
+  }
+
+  /**
+   * 바뀐 화장실만 반영한 새 스냅샷. 이미 있는 id 는 덮어쓰고 새 id 는 추가한다.
+   */
+  public RestroomSnapshot withRows(List<RestroomSnapshotRow> rows) {
+    RestroomSnapshotRow[] added = rows.stream()
+        .filter(row -> indexOf(row.getRestroomId()) < 0)
+        .sorted(Comparator.comparingLong(RestroomSnapshotRow::getRestroomId))
+        .toArray(RestroomSnapshotRow[]::new);
+    if (added.length > 0 && size > 0 && added[0].getRestroomId() < ids[size - 1]) {
+      // 새 id 가 중간에 끼는 경우는 드물어서 정렬부터 다시 한다.
+      return of(merge(rows));
+    }
+
+    RestroomSnapshot snapshot = new RestroomSnapshot(this, size + added.length);
+    for (RestroomSnapshotRow row : rows) {
+      int index = indexOf(row.getRestroomId());
+      if (index >= 0) {
+        snapshot.set(index, row);
+      }
+    }
+    for (int i = 0; i < added.length; i++) {
+      snapshot.set(size + i, added[i]);
+    }
+    return snapshot;
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public long id(int index) {
+    return ids[index];
+  }
+
+  public double latitude(int index) {
+    return latitudes[index];
+  }
+
+  public double longitude(int index) {
+    return longitudes[index];
+  }
+
+  public float rating(int index) {
+    return ratings[index];
+  }
+
+  public int price(int index) {
+    return prices[index];
+  }
+
+  public int availableMaleToiletCount(int index) {
+    return availableMaleToiletCounts[index];
+  }
+
+  public int availableFemaleToiletCount(int index) {
+    return availableFemaleToiletCounts[index];
+  }
+
+  // RestroomAttributes 비트
+  public int attributes(int index) {
+    return attributes[index];
+  }
+
+  public int indexOf(long restroomId) {
+    int index = Arrays.binarySearch(ids, 0, size, restroomId);
+    return index >= 0 ? index : -1;
+  }
+
+  /**
+   * 반경 안에 있고 조건에 맞는 화장실을 찾는다.
+   *
+   * @param openSlot 이 칸에 열려 있는 화장실만 (음수면 거르지 않음)
+   */
+  public NearByCandidates findNearBy(double latitude, double longitude, double radiusMeters,
+      int openSlot, NearByFilter filter) {
+    DistanceQuery query = new DistanceQuery(latitude, longitude, radiusMeters);
+    NearByCandidates candidates = new NearByCandidates();
+    for (int i = 0; i < size; i++) {
+      // 대부분은 반경 밖이라서 삼각함수 없는 거리 판정부터 한다.
+      double distance = query.distanceIfWithin(latitudesRad[i], longitudesRad[i],
+          cosLatitudes[i]);
+      if (distance < 0) {
+        continue;
+      }
+      if (!filter.matches(attributes[i], prices[i], ratings[i],
+          availableMaleToiletCounts[i], availableFemaleToiletCounts[i])) {
+        continue;
+      }
+      if (openSlot >= 0 && !OperatingHours.isOpen(operatingHourBitmaps[i], openSlot)) {
+        continue;
+      }
+      candidates.add(i, distance);
+    }
+    return candidates;
+  }
+
+  // removed 로 표시한 위치를 뺀 새 스냅샷 (id 순서는 그대로)
+  private RestroomSnapshot without(boolean[] removed, int removedCount) {
+    RestroomSnapshot snapshot = new RestroomSnapshot(size - removedCount);
+    int to = 0;
+    for (int from = 0; from < size; from++) {
+      if (removed[from]) {
+        continue;
+      }
+      snapshot.ids[to] = ids[from];
+      snapshot.latitudes[to] = latitudes[from];
+      snapshot.longitudes[to] = longitudes[from];
+      snapshot.latitudesRad[to] = latitudesRad[from];
+      snapshot.longitudesRad[to] = longitudesRad[from];
+      snapshot.cosLatitudes[to] = cosLatitudes[from];
+      snapshot.ratings[to] = ratings[from];
+      snapshot.prices[to] = prices[from];
+      snapshot.availableMaleToiletCounts[to] = availableMaleToiletCounts[from];
+      snapshot.availableFemaleToiletCounts[to] = availableFemaleToiletCounts[from];
+      snapshot.attributes[to] = attributes[from];
+      snapshot.operatingHourBitmaps[to] = operatingHourBitmaps[from];
+      to++;
+    }
+    return snapshot;
+  }
+
+  private void set(int index, RestroomSnapshotRow row) {
+    ids[index] = row.getRestroomId();
+    latitudes[index] = row.getLatitude();
+    longitudes[index] = row.getLongitude();
+    latitudesRad[index] = Math.toRadians(row.getLatitude());
+    longitudesRad[index] = Math.toRadians(row.getLongitude());
+    cosLatitudes[index] = Math.cos(latitudesRad[index]);
+    ratings[index] = row.getAverageRating();
+    prices[index] = row.getPrice();
+    availableMaleToiletCounts[index] = row.getAvailableMaleToiletCount();
+    availableFemaleToiletCounts[index] = row.getAvailableFemaleToiletCount();
+    attributes[index] = RestroomAttributes.of(row.getUnisex(), row.getAccessibleToiletExistence(),
+        row.getPublicOrPaid(), row.getPrice(), row.getMaleToiletCount(),
+        row.getFemaleToiletCount());
+    operatingHourBitmaps[index] = row.getOperatingHourBitmap();
+  }
+
+  // 기존 스냅샷의 값과 바뀐 행을 합친 전체 행
+  private List<RestroomSnapshotRow> merge(List<RestroomSnapshotRow> rows) {
+    Map<Long, RestroomSnapshotRow> merged = new HashMap<>();
+    for (int i = 0; i < size; i++) {
+      merged.put(ids[i], toRow(i));
+    }
+    rows.forEach(row -> merged.put(row.getRestroomId(), row));
+    return List.copyOf(merged.values());
+  }
+
+  private RestroomSnapshotRow toRow(int i) {
+    int attribute = attributes[i];
+    return new RestroomSnapshotRow(ids[i], latitudes[i], longitudes[i], ratings[i], prices[i],
+        availableMaleToiletCounts[i], availableFemaleToiletCounts[i],
+        (attribute & RestroomAttributes.UNISEX) != 0,
+        (attribute & RestroomAttributes.ACCESSIBLE) != 0,
+        (attribute & RestroomAttributes.PAID) != 0 ? Restroom.PAID : "public",
+        (attribute & RestroomAttributes.MALE_TOILET) != 0 ? 1 : 0,
+        (attribute & RestroomAttributes.FEMALE_TOILET) != 0 ? 1 : 0,
+        operatingHourBitmaps[i]);
+  }
+}
@@ -0,0 +1,196 @@
+package com.project.chamjimayo.service.nearby;
+
+import com.project.chamjimayo.controller.config.RestroomProperties;
+import com.project.chamjimayo.repository.RestroomChangeRepository;
+import com.project.chamjimayo.repository.RestroomJpaRepository;
+import com.project.chamjimayo.service.SyncCheckpointService;
+import com.project.chamjimayo.service.dto.RestroomChangeDto;
+import com.project.chamjimayo.service.event.RestroomChangedEvent;
+import com.project.chamjimayo.service.event.RestroomSnapshotChangedEvent;
+import com.project.chamjimayo.service.sync.RestroomChangeCompactor;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 주변 화장실 검색이 읽는 스냅샷을 들고 있다.
+ * 화장실이 바뀌면 커밋 이후에 바뀐 화장실만 다시 읽어서 새 스냅샷으로 교체한다.
+ * 교체는 별도 스레드 하나에서 하고, 그동안 들어온 변경은 모아서 한 번에 반영한다.
+ * 교체한 뒤에는 RestroomSnapshotChangedEvent 를 발행한다.
+ * 다른 서버에서 바뀐 화장실은 restroom_change 를 주기적으로 읽어서 반영하고,
+ * 빠진 변경이 있어도 일정 시간 안에 맞춰지도록 전체도 주기적으로 다시 읽는다.
+ * 스냅샷을 읽고 바꾸는 일은 모두 같은 스레드에서 한다.
+ */
+@Slf4j
+@Component
+public class RestroomSnapshotStore {
+
+  private final RestroomJpaRepository restroomJpaRepository;
+  private final RestroomChangeRepository restroomChangeRepository;
+  private final SyncCheckpointService syncCheckpointService;
+  private final RestroomProperties restroomProperties;
+  private final ApplicationEventPublisher eventPublisher;
+  private final ExecutorService refresher;
+
+  private final Set<Long> pendingIds = ConcurrentHashMap.newKeySet();
+  private final AtomicBoolean pendingAll = new AtomicBoolean();
+  private final AtomicBoolean pendingChangeLog = new AtomicBoolean();
+  private final AtomicBoolean scheduled = new AtomicBoolean();
+
+  private volatile RestroomSnapshot snapshot = RestroomSnapshot.empty();
+
+  // 스냅샷에 반영한 마지막 변경 번호 (refresher 스레드에서만 읽고 쓴다, -1 = 아직 전체를 읽지 않음)
+  private long lastChangeSeq = -1;
+
+  public RestroomSnapshotStore(RestroomJpaRepository restroomJpaRepository,
+      RestroomChangeRepository restroomChangeRepository,
+      SyncCheckpointService syncCheckpointService, RestroomProperties restroomProperties,
+      ApplicationEventPublisher eventPublisher) {
+    this.restroomJpaRepository = restroomJpaRepository;
+    this.restroomChangeRepository = restroomChangeRepository;
+    this.syncCheckpointService = syncCheckpointService;
+    this.restroomProperties = restroomProperties;
+    this.eventPublisher = eventPublisher;
+    this.refresher = Executors.newSingleThreadExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "restroom-snapshot");
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
+  // 전체 읽기도 refresher 스레드에서 해서, 먼저 시작한 부분 반영이 전체 스냅샷을 덮어쓰지 않게 한다.
+  @EventListener(ApplicationReadyEvent.class)
+  public void load() {
+    reload();
+  }
+
+  @Scheduled(fixedDelayString = "${restroom.snapshot-reload-interval-ms:3600000}",
+      initialDelayString = "${restroom.snapshot-reload-interval-ms:3600000}")
+  public void reload() {
+    pendingAll.set(true);
+    schedule();
+  }
+
+  // 다른 서버에서 기록한 변경을 읽어 온다.
+  @Scheduled(fixedDelayString = "${restroom.snapshot-resync-interval-ms:10000}",
+      initialDelayString = "${restroom.snapshot-resync-interval-ms:10000}")
+  public void resync() {
+    pendingChangeLog.set(true);
+    schedule();
+  }
+
+  public RestroomSnapshot getSnapshot() {
+    return snapshot;
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onRestroomChanged(RestroomChangedEvent event) {
+    if (event.isAll()) {
+      pendingAll.set(true);
+    } else {
+      pendingIds.addAll(event.getRestroomIds());
+    }
+    schedule();
+  }
+
+  private void schedule() {
+    if (scheduled.compareAndSet(false, true)) {
+      refresher.execute(this::refresh);
+    }
+  }
+
+  private void refresh() {
+    // 반영하는 도중에 들어온 변경은 다음 번에 반영하도록 먼저 풀어둔다.
+    scheduled.set(false);
+    try {
+      if (pendingChangeLog.getAndSet(false) && !pendingAll.get()) {
+        readChangeLog();
+      }
+      if (pendingAll.getAndSet(false)) {
+        pendingIds.clear();
+        loadAll();
+        return;
+      }
+
+      List<Long> restroomIds = new ArrayList<>(pendingIds);
+      pendingIds.removeAll(restroomIds);
+      if (!restroomIds.isEmpty()) {
+        RestroomSnapshot previous = snapshot;
+        // 삭제되었거나 사용할 수 없게 된 화장실은 조회되지 않으므로 스냅샷에서 뺀다.
+        snapshot = previous.withRows(restroomIds,
+            restroomJpaRepository.findSnapshotRowsByIdIn(restroomIds));
+        eventPublisher.publishEvent(
+            RestroomSnapshotChangedEvent.create(previous, snapshot, restroomIds));
+      }
+    } catch (RuntimeException e) {
+      // 어떤 변경이 빠졌는지 알 수 없으므로 다음 변경이나 resync 때 전체를 다시 읽는다.
+      pendingAll.set(true);
+      log.error("failed to refresh restroom snapshot", e);
+    }
+  }
+
+  private void loadAll() {
+    long prunedSeq = prunedChangeSeq();
+    // 읽기 전의 변경 번호를 기억해 두고, 읽는 동안 바뀐 화장실은 다음 resync 에서 한 번 더 반영한다.
+    Long changeSeq = restroomChangeRepository.findMaxChangeSeqBefore(stableHorizon());
+    RestroomSnapshot previous = snapshot;
+    snapshot = RestroomSnapshot.of(restroomJpaRepository.findAllSnapshotRows());
+    lastChangeSeq = Math.max(changeSeq == null ? 0 : changeSeq, prunedSeq);
+    log.info("화장실 {}개로 주변 검색 스냅샷을 만들었습니다.", snapshot.size());
+    eventPublisher.publishEvent(RestroomSnapshotChangedEvent.all(previous, snapshot));
+  }
+
+  private void readChangeLog() {
+    // 아직 전체를 읽지 않았거나, 읽어야 할 변경이 이미 지워졌으면 전체를 다시 읽는다.
+    if (lastChangeSeq < 0 || lastChangeSeq < prunedChangeSeq()) {
+      pendingAll.set(true);
+      return;
+    }
+    LocalDateTime horizon = stableHorizon();
+    int pageSize = restroomProperties.getSyncPageMaxSize();
+    List<RestroomChangeDto> changes;
+    do {
+      changes = restroomChangeRepository.findChangesAfter(
+          lastChangeSeq, horizon, PageRequest.of(0, pageSize));
+      if (changes.isEmpty()) {
+        return;
+      }
+      changes.forEach(change -> pendingIds.add(change.getRestroomId()));
+      lastChangeSeq = changes.get(changes.size() - 1).getChangeSeq();
+      if (pendingIds.size() > pageSize) {
+        // 한꺼번에 많이 바뀌었으면 (공공 데이터 일괄 갱신 등) 나눠 읽기보다 전체를 다시 읽는다.
+        pendingAll.set(true);
+        return;
+      }
+    } while (changes.size() == pageSize);
+  }
+
+  // 최근 변경은 번호가 더 작은 변경이 아직 커밋 전일 수 있어서, 동기화 API 와 같은 시간만큼 미룬다.
+  private LocalDateTime stableHorizon() {
+    return LocalDateTime.now().minus(restroomProperties.getSyncStableLag());
+  }
+
+  private long prunedChangeSeq() {
+    return syncCheckpointService.getCheckpoint(RestroomChangeCompactor.PRUNED_CHANGE_CHECKPOINT)
+        .orElse(0L);
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    refresher.shutdownNow();
+  }
+}
@@ -0,0 +1,31 @@
+package com.project.chamjimayo.service.nearby;
+
+/**
+ * 웹 메르카토르(지도 타일 좌표계) 변환. x, y 는 세계 전체를 0 ~ 1 로 본 값이고 y 는 북쪽이 작다.
+ */
+public final class WebMercator {
+
+  // 웹 메르카토르로 나타낼 수 있는 최대 위도
+  public static final double MAX_LATITUDE = 85.05112878;
+
+  private WebMercator() {
+  }
+
+  public static double x(double longitude) {
+    return (longitude + 180) / 360;
+  }
+
+  public static double y(double latitude) {
+    double clamped = Math.max(-MAX_LATITUDE, Math.min(MAX_LATITUDE, latitude));
+    double sin = Math.sin(Math.toRadians(clamped));
+    return 0.5 - Math.log((1 + sin) / (1 - sin)) / (4 * Math.PI);
+  }
+
+  public static double longitude(double x) {
+    return x * 360 - 180;
+  }
+
+  public static double latitude(double y) {
+    return Math.toDegrees(Math.atan(Math.sinh(Math.PI * (1 - 2 * y))));
+  }
+}
@@ -0,0 +1,54 @@
+package com.project.chamjimayo.service.operatinghour;
+
+import com.project.chamjimayo.repository.RestroomJdbcRepository;
+import com.project.chamjimayo.repository.RestroomJpaRepository;
+import com.project.chamjimayo.service.dto.RestroomOperatingHourDto;
+import com.project.chamjimayo.service.event.RestroomChangedEvent;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 비트맵 컬럼이 생기기 전에 저장된 화장실의 개방 시간을 서버 시작 시 비트맵으로 채운다.
+ * 해석할 수 없는 개방 시간은 null 로 남는다.
+ * 한 번도 열지 않는 비트맵도 다시 해석해서, 해석 규칙이 바뀌어 결과가 달라진 경우에만 고친다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "restroom", name = "operating-hour-backfill-enabled",
+    havingValue = "true", matchIfMissing = true)
+public class OperatingHourBackfillRunner {
+
+  private final RestroomJpaRepository restroomJpaRepository;
+  private final RestroomJdbcRepository restroomJdbcRepository;
+  private final ApplicationEventPublisher eventPublisher;
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void backfill() {
+    byte[] neverOpen = new byte[OperatingHours.BYTES];
+    List<RestroomOperatingHourDto> operatingHours =
+        restroomJpaRepository.findOperatingHoursToBackfill(neverOpen);
+
+    Map<Long, byte[]> bitmaps = new HashMap<>();
+    for (RestroomOperatingHourDto operatingHour : operatingHours) {
+      byte[] bitmap = OperatingHours.parse(operatingHour.getOperatingHour());
+      if (bitmap != null && !Arrays.equals(bitmap, neverOpen)) {
+        bitmaps.put(operatingHour.getRestroomId(), bitmap);
+      }
+    }
+    if (!bitmaps.isEmpty()) {
+      restroomJdbcRepository.updateOperatingHourBitmaps(bitmaps);
+      eventPublisher.publishEvent(RestroomChangedEvent.create(bitmaps.keySet()));
+    }
+    log.info("개방 시간 비트맵 backfill: 대상 {}개 중 {}개 변환", operatingHours.size(), bitmaps.size());
+  }
+}
@@ -0,0 +1,217 @@
+package com.project.chamjimayo.service.operatinghour;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 자유 형식의 개방 시간 문자열을 일주일짜리 비트맵으로 바꾼다.
+ * 월요일 00:00 부터 15분 단위 칸 하나가 비트 하나이고 (7 * 96 = 672 비트, 84 바이트)
+ * 열려 있는 칸의 비트가 1 이다. 해석할 수 없는 문자열은 null 을 반환한다.
+ *
+ * 지원하는 형식 예시
+ * - "24시간", "상시", "연중무휴", "연중 휴무없음", "24시간 (토요일 휴무)"
+ * - "09:00~18:00", "9시~18시 30분", "22:00-06:00" (자정을 넘기면 다음 날로 이어진다)
+ * - "평일 09:00~18:00, 주말 10:00~17:00", "월~금 09:00~18:00 / 토요일 휴무"
+ */
+public final class OperatingHours {
+
+  public static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+  public static final int SLOT_MINUTES = 15;
+  public static final int SLOTS_PER_DAY = 24 * 60 / SLOT_MINUTES;
+  public static final int SLOTS_PER_WEEK = SLOTS_PER_DAY * 7;
+  public static final int BYTES = SLOTS_PER_WEEK / 8;
+
+  private static final String DAY_CHARS = "월화수목금토일";
+
+  private static final Pattern SEGMENT_SEPARATOR = Pattern.compile("[,/;\\n]");
+
+  // 09:00~18:00, 9시~18시 30분, 9~18
+  private static final Pattern TIME_RANGE = Pattern.compile(
+      "(\\d{1,2})\\s*(?::\\s*(\\d{2})|시\\s*(?:(\\d{1,2})\\s*분)?)?"
+          + "\\s*[~\\-]\\s*"
+          + "(\\d{1,2})\\s*(?::\\s*(\\d{2})|시\\s*(?:(\\d{1,2})\\s*분)?)?");
+
+  private static final Pattern ALWAYS_OPEN = Pattern.compile(
+      "24\\s*시간|상시|항시|연중\\s*무휴|종일|휴무\\s*없");
+
+  private static final Pattern CLOSED = Pattern.compile("휴무|휴관|폐쇄|미개방|개방\\s*안\\s*함");
+
+  // "휴무 없음", "연중무휴" 처럼 닫는 날이 없다는 표현 (CLOSED 로 보지 않는다)
+  private static final Pattern NOT_CLOSED = Pattern.compile("휴무\\s*없|무휴");
+
+  // 월~금, 월요일-토요일
+  private static final Pattern DAY_RANGE = Pattern.compile(
+      "([월화수목금토일])(?:요일)?\\s*[~\\-]\\s*([월화수목금토일])(?:요일)?");
+
+  // 토요일, 토, 일 (매일, 수시 처럼 단어 안에 있는 글자는 제외)
+  private static final Pattern SINGLE_DAY = Pattern.compile(
+      "([월화수목금토일])요일|(?<![가-힣])([월화수목금토일])(?![가-힣])");
+
+  private OperatingHours() {
+  }
+
+  public static byte[] parse(String operatingHour) {
+    if (operatingHour == null || operatingHour.isBlank()) {
+      return null;
+    }
+    String normalized = operatingHour.replace('～', '~').replace('：', ':').replace('〜', '~');
+
+    byte[] bitmap = new byte[BYTES];
+    boolean parsed = false;
+    boolean[] carriedDays = null;
+    boolean[] closedDays = new boolean[7];
+    for (String segment : SEGMENT_SEPARATOR.split(normalized)) {
+      boolean[] days = union(parseDays(segment), carriedDays);
+
+      Matcher range = TIME_RANGE.matcher(segment);
+      boolean hasRange = false;
+      while (range.find()) {
+        int start = toSlot(range.group(1), range.group(2), range.group(3), false);
+        int end = toSlot(range.group(4), range.group(5), range.group(6), true);
+        if (start < 0 || end < 0) {
+          continue;
+        }
+        setRange(bitmap, days, start, end);
+        hasRange = true;
+      }
+
+      // 요일 없이 "휴무" 만 있는 조각은 언제 닫는지 알 수 없으므로 닫는 날로 보지 않는다.
+      boolean closed = days != null
+          && CLOSED.matcher(NOT_CLOSED.matcher(segment).replaceAll(" ")).find();
+      boolean alwaysOpen = ALWAYS_OPEN.matcher(segment).find();
+
+      if (hasRange) {
+        parsed = true;
+        carriedDays = null;
+      } else if (closed || alwaysOpen) {
+        // "토요일 휴무" 처럼 요일을 정해서 닫는 경우는 다른 조각에서 연 시간보다 우선한다.
+        if (closed) {
+          for (int day = 0; day < 7; day++) {
+            closedDays[day] |= days[day];
+          }
+        }
+        // "24시간 (토요일 휴무)" 의 요일은 닫는 날이라서 나머지 요일은 종일 연다.
+        if (alwaysOpen) {
+          setRange(bitmap, closed ? null : days, 0, SLOTS_PER_DAY);
+        }
+        parsed = true;
+        carriedDays = null;
+      } else if (days != null) {
+        // "토, 일 10:00~17:00" 처럼 요일만 있는 조각은 다음 조각의 요일로 이어 붙인다.
+        carriedDays = days;
+      }
+    }
+    for (int day = 0; day < 7; day++) {
+      if (closedDays[day]) {
+        clearSlots(bitmap, day * SLOTS_PER_DAY, (day + 1) * SLOTS_PER_DAY);
+      }
+    }
+    return parsed ? bitmap : null;
+  }
+
+  /**
+   * 서울 시간 기준으로 해당 시각이 속한 칸 번호
+   */
+  public static int slotOf(LocalDateTime seoulDateTime) {
+    int day = seoulDateTime.getDayOfWeek().getValue() - 1;
+    return day * SLOTS_PER_DAY + seoulDateTime.getHour() * (60 / SLOT_MINUTES)
+        + seoulDateTime.getMinute() / SLOT_MINUTES;
+  }
+
+  public static boolean isOpen(byte[] bitmap, int slot) {
+    return bitmap != null && (bitmap[slot >>> 3] & (1 << (slot & 7))) != 0;
+  }
+
+  private static boolean[] parseDays(String segment) {
+    boolean[] days = new boolean[7];
+    boolean found = false;
+    if (segment.contains("평일")) {
+      for (int day = 0; day < 5; day++) {
+        days[day] = true;
+      }
+      found = true;
+    }
+    if (segment.contains("주말")) {
+      days[5] = true;
+      days[6] = true;
+      found = true;
+    }
+
+    Matcher dayRange = DAY_RANGE.matcher(segment);
+    while (dayRange.find()) {
+      int from = DAY_CHARS.indexOf(dayRange.group(1));
+      int to = DAY_CHARS.indexOf(dayRange.group(2));
+      for (int day = from; ; day = (day + 1) % 7) {
+        days[day] = true;
+        if (day == to) {
+          break;
+        }
+      }
+      found = true;
+    }
+    String rest = DAY_RANGE.matcher(segment).replaceAll(" ");
+
+    Matcher singleDay = SINGLE_DAY.matcher(rest);
+    while (singleDay.find()) {
+      String day = singleDay.group(1) != null ? singleDay.group(1) : singleDay.group(2);
+      days[DAY_CHARS.indexOf(day)] = true;
+      found = true;
+    }
+    return found ? days : null;
+  }
+
+  private static boolean[] union(boolean[] days, boolean[] other) {
+    if (days == null || other == null) {
+      return days == null ? other : days;
+    }
+    for (int day = 0; day < 7; day++) {
+      days[day] |= other[day];
+    }
+    return days;
+  }
+
+  // 시, 분을 칸 번호로 바꾼다. 시작은 내림, 끝은 올림. 범위를 벗어나면 -1
+  private static int toSlot(String hourText, String colonMinuteText, String koreanMinuteText,
+      boolean roundUp) {
+    int hour = Integer.parseInt(hourText);
+    String minuteText = colonMinuteText != null ? colonMinuteText : koreanMinuteText;
+    int minute = minuteText == null ? 0 : Integer.parseInt(minuteText);
+    if (hour > 24 || minute >= 60 || (hour == 24 && minute > 0)) {
+      return -1;
+    }
+    int minutes = hour * 60 + minute;
+    return roundUp ? (minutes + SLOT_MINUTES - 1) / SLOT_MINUTES : minutes / SLOT_MINUTES;
+  }
+
+  // days 가 null 이면 매일. end 가 start 보다 작거나 같으면 자정을 넘겨 다음 날까지 연다.
+  private static void setRange(byte[] bitmap, boolean[] days, int start, int end) {
+    for (int day = 0; day < 7; day++) {
+      if (days != null && !days[day]) {
+        continue;
+      }
+      int base = day * SLOTS_PER_DAY;
+      if (start < end) {
+        setSlots(bitmap, base + start, base + end);
+      } else {
+        setSlots(bitmap, base + start, base + SLOTS_PER_DAY);
+        int nextBase = ((day + 1) % 7) * SLOTS_PER_DAY;
+        setSlots(bitmap, nextBase, nextBase + end);
+      }
+    }
+  }
+
+  private static void clearSlots(byte[] bitmap, int from, int to) {
+    for (int slot = from; slot < to; slot++) {
+      bitmap[slot >>> 3] &= (byte) ~(1 << (slot & 7));
+    }
+  }
+
+  private static void setSlots(byte[] bitmap, int from, int to) {
+    for (int slot = from; slot < to; slot++) {
+      bitmap[slot >>> 3] |= (byte) (1 << (slot & 7));
+    }
+  }
+}
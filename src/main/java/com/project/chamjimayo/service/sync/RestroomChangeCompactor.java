@@ -0,0 +1,76 @@
+package com.project.chamjimayo.service.sync;
+
+import com.project.chamjimayo.controller.config.RestroomProperties;
+import com.project.chamjimayo.repository.RestroomChangeJdbcRepository;
+import com.project.chamjimayo.repository.RestroomChangeRepository;
+import com.project.chamjimayo.service.SyncCheckpointService;
+import java.time.LocalDateTime;
+import java.util.function.IntSupplier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * restroom_change 가 끝없이 쌓이지 않도록 주기적으로 정리한다.
+ * 1. 보관 기간이 지난 변경을 지우고, 지운 마지막 변경 번호를 checkpoint 로 남긴다.
+ *    그보다 앞의 since 는 빠진 변경이 있을 수 있어서 RestroomSyncService 가 전체 목록부터 다시 내려준다.
+ * 2. 화장실마다 가장 최근 변경만 남긴다. (동기화 결과는 같다)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RestroomChangeCompactor {
+
+  public static final String PRUNED_CHANGE_CHECKPOINT = "restroom-change-pruned";
+
+  private final RestroomChangeRepository restroomChangeRepository;
+  private final RestroomChangeJdbcRepository restroomChangeJdbcRepository;
+  private final SyncCheckpointService syncCheckpointService;
+  private final RestroomProperties restroomProperties;
+
+  @Scheduled(fixedDelayString = "${restroom.sync-compact-interval-ms:3600000}",
+      initialDelayString = "${restroom.sync-compact-initial-delay-ms:300000}")
+  public void compact() {
+    try {
+      int expired = deleteExpired();
+      int superseded = deleteSuperseded();
+      if (expired > 0 || superseded > 0) {
+        log.info("compacted restroom changes (expired: {}, superseded: {})", expired, superseded);
+      }
+    } catch (RuntimeException e) {
+      log.error("failed to compact restroom changes", e);
+    }
+  }
+
+  private int deleteExpired() {
+    LocalDateTime retentionDate = LocalDateTime.now().minus(restroomProperties.getSyncRetention());
+    Long prunedSeq = restroomChangeRepository.findMaxChangeSeqBefore(retentionDate);
+    if (prunedSeq == null) {
+      return 0;
+    }
+    long previous = syncCheckpointService.getCheckpoint(PRUNED_CHANGE_CHECKPOINT).orElse(0L);
+    if (prunedSeq > previous) {
+      // 지우기 전에 먼저 남겨서, 지우는 도중에 들어온 오래된 since 도 거부되게 한다.
+      syncCheckpointService.saveCheckpoint(PRUNED_CHANGE_CHECKPOINT, prunedSeq);
+    }
+    return deleteInBatches(() -> restroomChangeJdbcRepository.deleteUpTo(
+        prunedSeq, restroomProperties.getSyncCompactBatchSize()));
+  }
+
+  private int deleteSuperseded() {
+    return deleteInBatches(() -> restroomChangeJdbcRepository.deleteSuperseded(
+        restroomProperties.getSyncCompactBatchSize()));
+  }
+
+  // 한 번에 지우면 잠금이 길어지므로 batch 크기만큼 나눠 지운다.
+  private int deleteInBatches(IntSupplier deleteBatch) {
+    int total = 0;
+    int deleted;
+    do {
+      deleted = deleteBatch.getAsInt();
+      total += deleted;
+    } while (deleted >= restroomProperties.getSyncCompactBatchSize());
+    return total;
+  }
+}
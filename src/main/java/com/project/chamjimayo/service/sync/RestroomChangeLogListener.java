@@ -0,0 +1,31 @@
+package com.project.chamjimayo.service.sync;
+
+import com.project.chamjimayo.repository.RestroomChangeJdbcRepository;
+import com.project.chamjimayo.service.event.RestroomChangedEvent;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 화장실이 바뀌면 같은 트랜잭션 안에서 커밋 직전에 변경 기록을 남긴다.
+ * 변경과 기록이 같이 커밋되거나 같이 롤백되고, 커밋 직전에 번호를 받아서
+ * 변경 번호 순서와 커밋 순서가 어긋나는 구간을 줄인다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RestroomChangeLogListener {
+
+  private final RestroomChangeJdbcRepository restroomChangeJdbcRepository;
+
+  @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+  public void append(RestroomChangedEvent event) {
+    LocalDateTime now = LocalDateTime.now();
+    if (event.isAll()) {
+      restroomChangeJdbcRepository.appendAll(now);
+    } else {
+      restroomChangeJdbcRepository.append(event.getRestroomIds(), now);
+    }
+  }
+}
@@ -0,0 +1,133 @@
+package com.project.chamjimayo.service.sync;
+
+import com.project.chamjimayo.controller.config.RestroomProperties;
+import com.project.chamjimayo.controller.dto.response.RestroomChangesResponse;
+import com.project.chamjimayo.controller.dto.response.RestroomSyncResponse;
+import com.project.chamjimayo.repository.RestroomChangeRepository;
+import com.project.chamjimayo.repository.RestroomJpaRepository;
+import com.project.chamjimayo.repository.domain.entity.Restroom;
+import com.project.chamjimayo.service.SyncCheckpointService;
+import com.project.chamjimayo.service.dto.RestroomChangeDto;
+import com.project.chamjimayo.service.exception.IndexException;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+/**
+ * 앱이 화장실 데이터를 로컬에 두고 바뀐 것만 받아가는 오프라인 동기화.
+ * 처음에는 since 없이 요청해서 전체 목록을 id 순으로 나눠 받고(snapshot),
+ * 다 받은 뒤에는 restroom_change 의 변경 번호 이후에 바뀐 화장실만 받는다(delta).
+ * 전체 목록을 받는 동안 바뀐 화장실은 그 뒤의 delta 에서 다시 내려간다.
+ * 보관 기간이 지나 지워진 변경보다 앞의 since 는 전체 목록부터 다시 내려준다(resnapshot).
+ */
+@Service
+public class RestroomSyncService {
+
+  private final RestroomJpaRepository restroomJpaRepository;
+  private final RestroomChangeRepository restroomChangeRepository;
+  private final SyncCheckpointService syncCheckpointService;
+  private final RestroomProperties restroomProperties;
+  private final Clock clock;
+
+  @Autowired
+  public RestroomSyncService(RestroomJpaRepository restroomJpaRepository,
+      RestroomChangeRepository restroomChangeRepository,
+      SyncCheckpointService syncCheckpointService, RestroomProperties restroomProperties) {
+    this(restroomJpaRepository, restroomChangeRepository, syncCheckpointService,
+        restroomProperties, Clock.systemDefaultZone());
+  }
+
+  RestroomSyncService(RestroomJpaRepository restroomJpaRepository,
+      RestroomChangeRepository restroomChangeRepository,
+      SyncCheckpointService syncCheckpointService, RestroomProperties restroomProperties,
+      Clock clock) {
+    this.restroomJpaRepository = restroomJpaRepository;
+    this.restroomChangeRepository = restroomChangeRepository;
+    this.syncCheckpointService = syncCheckpointService;
+    this.restroomProperties = restroomProperties;
+    this.clock = clock;
+  }
+
+  @Transactional(readOnly = true)
+  public RestroomChangesResponse changes(String since, int size) {
+    if (size < 1 || size > restroomProperties.getSyncPageMaxSize()) {
+      throw new IndexException(
+          "한 번에 1~" + restroomProperties.getSyncPageMaxSize() + "개의 변경만 조회할 수 있습니다.");
+    }
+    // 최근 변경은 번호가 더 작은 변경이 아직 커밋 전일 수 있어서, 일정 시간이 지난 변경까지만 내려준다.
+    LocalDateTime horizon = LocalDateTime.now(clock).minus(restroomProperties.getSyncStableLag());
+    // 이 번호까지의 변경은 지워졌으므로 이보다 앞의 since 로는 빠진 변경을 알 수 없다.
+    long prunedSeq = syncCheckpointService
+        .getCheckpoint(RestroomChangeCompactor.PRUNED_CHANGE_CHECKPOINT).orElse(0L);
+
+    if (!StringUtils.hasText(since)) {
+      return snapshot(startSnapshot(horizon, prunedSeq), size, false);
+    }
+    SyncToken token = SyncToken.parse(since);
+    if (token.getChangeSeq() < prunedSeq) {
+      return snapshot(startSnapshot(horizon, prunedSeq), size, true);
+    }
+    return token.isSnapshot() ? snapshot(token, size, false) : delta(token, horizon, size);
+  }
+
+  private SyncToken startSnapshot(LocalDateTime horizon, long prunedSeq) {
+    Long changeSeq = restroomChangeRepository.findMaxChangeSeqBefore(horizon);
+    return SyncToken.snapshot(Math.max(changeSeq == null ? 0 : changeSeq, prunedSeq), 0);
+  }
+
+  private RestroomChangesResponse snapshot(SyncToken token, int size, boolean resnapshot) {
+    List<Restroom> restrooms = restroomJpaRepository.findActiveRestroomsAfter(
+        token.getLastRestroomId(), PageRequest.of(0, size));
+    List<RestroomSyncResponse> responses = restrooms.stream()
+        .map(RestroomSyncResponse::new)
+        .collect(Collectors.toList());
+
+    if (restrooms.size() < size) {
+      // 전체 목록을 다 받았다. 이후로는 목록을 받기 시작한 시점 이후의 변경만 받는다.
+      return new RestroomChangesResponse(responses, List.of(),
+          SyncToken.delta(token.getChangeSeq()).encode(), true, resnapshot);
+    }
+    long lastRestroomId = restrooms.get(restrooms.size() - 1).getRestroomId();
+    return new RestroomChangesResponse(responses, List.of(),
+        SyncToken.snapshot(token.getChangeSeq(), lastRestroomId).encode(), true, resnapshot);
+  }
+
+  private RestroomChangesResponse delta(SyncToken token, LocalDateTime horizon, int size) {
+    List<RestroomChangeDto> changes = restroomChangeRepository.findChangesAfter(
+        token.getChangeSeq(), horizon, PageRequest.of(0, size));
+    if (changes.isEmpty()) {
+      return new RestroomChangesResponse(List.of(), List.of(), token.encode(), false, false);
+    }
+
+    // 같은 화장실의 여러 변경은 현재 상태 하나로 합친다.
+    Set<Long> restroomIds = new LinkedHashSet<>();
+    changes.forEach(change -> restroomIds.add(change.getRestroomId()));
+    Map<Long, Restroom> restrooms = restroomJpaRepository.findAllById(restroomIds).stream()
+        .collect(Collectors.toMap(Restroom::getRestroomId, Function.identity()));
+
+    List<RestroomSyncResponse> updated = new ArrayList<>();
+    List<Long> deleted = new ArrayList<>();
+    for (Long restroomId : restroomIds) {
+      Restroom restroom = restrooms.get(restroomId);
+      if (restroom == null || !restroom.isStatus()) {
+        deleted.add(restroomId);
+      } else {
+        updated.add(new RestroomSyncResponse(restroom));
+      }
+    }
+    long lastChangeSeq = changes.get(changes.size() - 1).getChangeSeq();
+    return new RestroomChangesResponse(updated, deleted,
+        SyncToken.delta(lastChangeSeq).encode(), changes.size() == size, false);
+  }
+}
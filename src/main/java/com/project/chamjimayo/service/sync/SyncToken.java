@@ -0,0 +1,69 @@
+package com.project.chamjimayo.service.sync;
+
+import com.project.chamjimayo.service.exception.IndexException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 오프라인 동기화 위치. 앱은 값을 해석하지 않고 받은 그대로 다음 요청의 since 로 보낸다.
+ * snapshot: 전체 목록을 화장실 id 순으로 받는 중 (changeSeq 는 전체 목록을 받기 시작한 시점의 변경 번호)
+ * delta: 전체 목록을 다 받았고, changeSeq 이후의 변경만 받으면 된다.
+ */
+final class SyncToken {
+
+  private static final String SNAPSHOT = "s";
+  private static final String DELTA = "d";
+
+  private final boolean snapshot;
+  private final long changeSeq;
+  private final long lastRestroomId;
+
+  private SyncToken(boolean snapshot, long changeSeq, long lastRestroomId) {
+    this.snapshot = snapshot;
+    this.changeSeq = changeSeq;
+    this.lastRestroomId = lastRestroomId;
+  }
+
+  static SyncToken snapshot(long changeSeq, long lastRestroomId) {
+    return new SyncToken(true, changeSeq, lastRestroomId);
+  }
+
+  static SyncToken delta(long changeSeq) {
+    return new SyncToken(false, changeSeq, 0);
+  }
+
+  static SyncToken parse(String token) {
+    try {
+      String[] parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8)
+          .split("\\.");
+      if (parts.length == 3 && SNAPSHOT.equals(parts[0])) {
+        return snapshot(Long.parseLong(parts[1]), Long.parseLong(parts[2]));
+      }
+      if (parts.length == 2 && DELTA.equals(parts[0])) {
+        return delta(Long.parseLong(parts[1]));
+      }
+    } catch (IllegalArgumentException e) {
+      // 아래에서 같은 예외로 처리
+    }
+    throw new IndexException("동기화 토큰이 올바르지 않습니다.");
+  }
+
+  boolean isSnapshot() {
+    return snapshot;
+  }
+
+  long getChangeSeq() {
+    return changeSeq;
+  }
+
+  long getLastRestroomId() {
+    return lastRestroomId;
+  }
+
+  String encode() {
+    String value = snapshot ? SNAPSHOT + "." + changeSeq + "." + lastRestroomId
+        : DELTA + "." + changeSeq;
+    return Base64.getUrlEncoder().withoutPadding()
+        .encodeToString(value.getBytes(StandardCharsets.UTF_8));
+  }
+}
@@ -0,0 +1,101 @@
+package com.project.chamjimayo.service.tile;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * 벡터 타일 인코딩에 필요한 만큼만 구현한 protobuf 쓰기 도구.
+ * (varint, fixed32, 길이가 붙는 bytes/string/packed, 하위 메시지)
+ */
+final class ProtobufWriter {
+
+  private static final int VARINT = 0;
+  private static final int LENGTH_DELIMITED = 2;
+  private static final int FIXED32 = 5;
+
+  private byte[] buffer;
+  private int size;
+
+  ProtobufWriter() {
+    this(64);
+  }
+
+  ProtobufWriter(int capacity) {
+    this.buffer = new byte[capacity];
+  }
+
+  void writeVarintField(int field, long value) {
+    writeTag(field, VARINT);
+    writeVarint(value);
+  }
+
+  void writeFloatField(int field, float value) {
+    writeTag(field, FIXED32);
+    int bits = Float.floatToIntBits(value);
+    ensure(4);
+    buffer[size++] = (byte) bits;
+    buffer[size++] = (byte) (bits >>> 8);
+    buffer[size++] = (byte) (bits >>> 16);
+    buffer[size++] = (byte) (bits >>> 24);
+  }
+
+  void writeStringField(int field, String value) {
+    writeBytesField(field, value.getBytes(StandardCharsets.UTF_8), -1);
+  }
+
+  void writeMessageField(int field, ProtobufWriter message) {
+    writeBytesField(field, message.buffer, message.size);
+  }
+
+  // packed repeated uint32
+  void writePackedField(int field, int[] values, int count) {
+    ProtobufWriter packed = new ProtobufWriter(count * 2 + 1);
+    for (int i = 0; i < count; i++) {
+      packed.writeVarint(values[i] & 0xFFFFFFFFL);
+    }
+    writeMessageField(field, packed);
+  }
+
+  // 다른 writer 에 쓴 필드를 그대로 이어 붙인다.
+  void writeRaw(ProtobufWriter fields) {
+    ensure(fields.size);
+    System.arraycopy(fields.buffer, 0, buffer, size, fields.size);
+    size += fields.size;
+  }
+
+  byte[] toByteArray() {
+    return Arrays.copyOf(buffer, size);
+  }
+
+  static int zigZag(int value) {
+    return (value << 1) ^ (value >> 31);
+  }
+
+  private void writeBytesField(int field, byte[] bytes, int length) {
+    int count = length < 0 ? bytes.length : length;
+    writeTag(field, LENGTH_DELIMITED);
+    writeVarint(count);
+    ensure(count);
+    System.arraycopy(bytes, 0, buffer, size, count);
+    size += count;
+  }
+
+  private void writeTag(int field, int wireType) {
+    writeVarint(((long) field << 3) | wireType);
+  }
+
+  private void writeVarint(long value) {
+    ensure(10);
+    while ((value & ~0x7FL) != 0) {
+      buffer[size++] = (byte) ((value & 0x7F) | 0x80);
+      value >>>= 7;
+    }
+    buffer[size++] = (byte) value;
+  }
+
+  private void ensure(int length) {
+    if (size + length > buffer.length) {
+      buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, size + length));
+    }
+  }
+}
@@ -0,0 +1,146 @@
+package com.project.chamjimayo.service.tile;
+
+import com.project.chamjimayo.controller.config.CacheConfig;
+import com.project.chamjimayo.controller.config.RestroomProperties;
+import com.project.chamjimayo.repository.domain.entity.Restroom;
+import com.project.chamjimayo.service.event.RestroomSnapshotChangedEvent;
+import com.project.chamjimayo.service.exception.IndexException;
+import com.project.chamjimayo.service.nearby.RestroomAttributes;
+import com.project.chamjimayo.service.nearby.RestroomSnapshot;
+import com.project.chamjimayo.service.nearby.RestroomSnapshotStore;
+import com.project.chamjimayo.service.nearby.WebMercator;
+import java.util.HashSet;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+/**
+ * 화장실 위치를 Mapbox Vector Tile 로 만들어 준다.
+ * 타일은 주변 검색 스냅샷에서 만들고 타일 좌표별로 캐시한다.
+ * 스냅샷이 바뀌면 바뀐 화장실의 이전/새 위치가 걸친 타일만 캐시에서 지운다.
+ */
+@Service
+@RequiredArgsConstructor
+public class RestroomTileService {
+
+  public static final String LAYER = "restrooms";
+
+  static final int EXTENT = 4096;
+
+  // 타일 경계에 걸친 아이콘이 잘리지 않도록 타일 밖으로 더 담는 범위 (타일 좌표 단위)
+  static final int BUFFER = 64;
+
+  private final RestroomSnapshotStore restroomSnapshotStore;
+  private final RestroomProperties restroomProperties;
+  private final CacheManager cacheManager;
+
+  public byte[] tile(int zoom, int x, int y) {
+    if (zoom < restroomProperties.getTileMinZoom() || zoom > restroomProperties.getTileMaxZoom()
+        || x < 0 || y < 0 || x >= 1 << zoom || y >= 1 << zoom) {
+      throw new IndexException("타일 좌표가 올바르지 않습니다. (줌 "
+          + restroomProperties.getTileMinZoom() + "~" + restroomProperties.getTileMaxZoom() + ")");
+    }
+    String key = key(zoom, x, y);
+    Cache cache = cache();
+    byte[] cached = cache.get(key, byte[].class);
+    if (cached != null) {
+      return cached;
+    }
+
+    RestroomSnapshot snapshot = restroomSnapshotStore.getSnapshot();
+    byte[] tile = encode(snapshot, zoom, x, y);
+    cache.put(key, tile);
+    // 타일을 만드는 동안 스냅샷이 바뀌었으면, 바뀐 타일을 지우는 쪽보다 늦게 넣었을 수 있다.
+    if (restroomSnapshotStore.getSnapshot() != snapshot) {
+      cache.evict(key);
+    }
+    return tile;
+  }
+
+  @EventListener
+  public void evictTiles(RestroomSnapshotChangedEvent event) {
+    Cache cache = cache();
+    if (event.isAll()) {
+      cache.clear();
+      return;
+    }
+    Set<String> keys = new HashSet<>();
+    for (Long restroomId : event.getRestroomIds()) {
+      addTouchedTiles(event.getPrevious(), restroomId, keys);
+      addTouchedTiles(event.getCurrent(), restroomId, keys);
+    }
+    keys.forEach(cache::evict);
+  }
+
+  static byte[] encode(RestroomSnapshot snapshot, int zoom, int x, int y) {
+    double scale = 1L << zoom;
+    double buffer = (double) BUFFER / EXTENT;
+    // 위경도 범위로 먼저 거르고, 걸린 화장실만 메르카토르 좌표로 바꾼다.
+    double minLongitude = WebMercator.longitude((x - buffer) / scale);
+    double maxLongitude = WebMercator.longitude((x + 1 + buffer) / scale);
+    double minLatitude = WebMercator.latitude((y + 1 + buffer) / scale);
+    double maxLatitude = WebMercator.latitude((y - buffer) / scale);
+
+    VectorTileLayer layer = new VectorTileLayer(LAYER, EXTENT);
+    for (int i = 0; i < snapshot.size(); i++) {
+      double latitude = snapshot.latitude(i);
+      double longitude = snapshot.longitude(i);
+      if (latitude < minLatitude || latitude > maxLatitude
+          || longitude < minLongitude || longitude > maxLongitude) {
+        continue;
+      }
+      int tileX = (int) Math.round((WebMercator.x(longitude) * scale - x) * EXTENT);
+      int tileY = (int) Math.round((WebMercator.y(latitude) * scale - y) * EXTENT);
+      int attributes = snapshot.attributes(i);
+      layer.tag("publicOrPaid",
+              (attributes & RestroomAttributes.PAID) != 0 ? Restroom.PAID : "public")
+          .tag("price", snapshot.price(i))
+          .tag("rating", snapshot.rating(i))
+          .tag("availableMaleToiletCount", snapshot.availableMaleToiletCount(i))
+          .tag("availableFemaleToiletCount", snapshot.availableFemaleToiletCount(i))
+          .tag("unisex", (attributes & RestroomAttributes.UNISEX) != 0)
+          .tag("accessible", (attributes & RestroomAttributes.ACCESSIBLE) != 0)
+          .addPoint(snapshot.id(i), tileX, tileY);
+    }
+    return layer.toTile();
+  }
+
+  // 화장실이 버퍼까지 포함해서 걸치는 모든 줌의 타일
+  private void addTouchedTiles(RestroomSnapshot snapshot, long restroomId, Set<String> keys) {
+    int index = snapshot.indexOf(restroomId);
+    if (index < 0) {
+      return;
+    }
+    double mercatorX = WebMercator.x(snapshot.longitude(index));
+    double mercatorY = WebMercator.y(snapshot.latitude(index));
+    double buffer = (double) BUFFER / EXTENT;
+    for (int zoom = restroomProperties.getTileMinZoom();
+        zoom <= restroomProperties.getTileMaxZoom(); zoom++) {
+      int tiles = 1 << zoom;
+      int minX = tileIndex(mercatorX * tiles - buffer, tiles);
+      int maxX = tileIndex(mercatorX * tiles + buffer, tiles);
+      int minY = tileIndex(mercatorY * tiles - buffer, tiles);
+      int maxY = tileIndex(mercatorY * tiles + buffer, tiles);
+      for (int tileX = minX; tileX <= maxX; tileX++) {
+        for (int tileY = minY; tileY <= maxY; tileY++) {
+          keys.add(key(zoom, tileX, tileY));
+        }
+      }
+    }
+  }
+
+  private static int tileIndex(double coordinate, int tiles) {
+    return Math.max(0, Math.min(tiles - 1, (int) Math.floor(coordinate)));
+  }
+
+  private static String key(int zoom, int x, int y) {
+    return zoom + "/" + x + "/" + y;
+  }
+
+  private Cache cache() {
+    return cacheManager.getCache(CacheConfig.RESTROOM_TILES);
+  }
+}
@@ -0,0 +1,115 @@
+package com.project.chamjimayo.service.tile;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Mapbox Vector Tile(2.1) 의 점(Point) 레이어 하나를 만든다.
+ * 속성 키와 값은 레이어 안에서 한 번만 쓰고, 피처는 그 위치(index)로 가리킨다.
+ */
+final class VectorTileLayer {
+
+  // Tile 메시지
+  private static final int TILE_LAYERS = 3;
+
+  // Layer 메시지
+  private static final int LAYER_NAME = 1;
+  private static final int LAYER_FEATURES = 2;
+  private static final int LAYER_KEYS = 3;
+  private static final int LAYER_VALUES = 4;
+  private static final int LAYER_EXTENT = 5;
+  private static final int LAYER_VERSION = 15;
+
+  // Feature 메시지
+  private static final int FEATURE_ID = 1;
+  private static final int FEATURE_TAGS = 2;
+  private static final int FEATURE_TYPE = 3;
+  private static final int FEATURE_GEOMETRY = 4;
+  private static final int POINT = 1;
+
+  // Value 메시지
+  private static final int VALUE_STRING = 1;
+  private static final int VALUE_FLOAT = 2;
+  private static final int VALUE_INT = 4;
+  private static final int VALUE_BOOL = 7;
+
+  // 점 하나를 찍는 MoveTo 명령 (id = 1, count = 1)
+  private static final int MOVE_TO_ONE = (1 & 0x7) | (1 << 3);
+
+  private final String name;
+  private final int extent;
+  private final Map<String, Integer> keys = new LinkedHashMap<>();
+  private final Map<Object, Integer> values = new HashMap<>();
+  private final List<Object> valueList = new ArrayList<>();
+  private final ProtobufWriter features = new ProtobufWriter(1024);
+
+  private final int[] tags = new int[32];
+  private int tagCount;
+
+  VectorTileLayer(String name, int extent) {
+    this.name = name;
+    this.extent = extent;
+  }
+
+  // 다음 addPoint 로 추가할 피처의 속성
+  VectorTileLayer tag(String key, Object value) {
+    tags[tagCount++] = keys.computeIfAbsent(key, k -> keys.size());
+    Integer index = values.get(value);
+    if (index == null) {
+      index = valueList.size();
+      values.put(value, index);
+      valueList.add(value);
+    }
+    tags[tagCount++] = index;
+    return this;
+  }
+
+  // 타일 안의 좌표 (0 ~ extent, 버퍼 영역은 음수이거나 extent 보다 클 수 있다)
+  void addPoint(long id, int x, int y) {
+    ProtobufWriter feature = new ProtobufWriter();
+    feature.writeVarintField(FEATURE_ID, id);
+    feature.writePackedField(FEATURE_TAGS, tags, tagCount);
+    feature.writeVarintField(FEATURE_TYPE, POINT);
+    feature.writePackedField(FEATURE_GEOMETRY,
+        new int[]{MOVE_TO_ONE, ProtobufWriter.zigZag(x), ProtobufWriter.zigZag(y)}, 3);
+    features.writeMessageField(LAYER_FEATURES, feature);
+    tagCount = 0;
+  }
+
+  // 이 레이어 하나만 담은 Tile 메시지
+  byte[] toTile() {
+    ProtobufWriter layer = new ProtobufWriter(1024);
+    layer.writeVarintField(LAYER_VERSION, 2);
+    layer.writeStringField(LAYER_NAME, name);
+    // features 에는 이미 Feature 필드들이 쓰여 있다.
+    layer.writeRaw(features);
+    for (String key : keys.keySet()) {
+      layer.writeStringField(LAYER_KEYS, key);
+    }
+    for (Object value : valueList) {
+      layer.writeMessageField(LAYER_VALUES, value(value));
+    }
+    layer.writeVarintField(LAYER_EXTENT, extent);
+
+    ProtobufWriter tile = new ProtobufWriter(1024);
+    tile.writeMessageField(TILE_LAYERS, layer);
+    return tile.toByteArray();
+  }
+
+  private ProtobufWriter value(Object value) {
+    ProtobufWriter writer = new ProtobufWriter(16);
+    if (value instanceof String) {
+      writer.writeStringField(VALUE_STRING, (String) value);
+    } else if (value instanceof Float) {
+      writer.writeFloatField(VALUE_FLOAT, (Float) value);
+    } else if (value instanceof Boolean) {
+      writer.writeVarintField(VALUE_BOOL, (Boolean) value ? 1 : 0);
+    } else {
+      writer.writeVarintField(VALUE_INT, ((Number) value).longValue());
+    }
+    return writer;
+  }
+}
@@ -0,0 +1,231 @@
+package com.project.chamjimayo.service.walking;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.zip.GZIPInputStream;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * OSM XML 추출 파일에서 걸어갈 수 있는 길만 골라 PedestrianGraph 를 만든다.
+ * 파일 전체를 DOM 으로 올리지 않고 StAX 로 한 번 훑으면서
+ * 노드는 (OSM id, 위도, 경도) primitive 배열에, 길은 인접한 노드 id 쌍으로만 모은다.
+ * 끝나면 길에 쓰인 노드만 남겨서 0부터 번호를 다시 매긴다.
+ */
+final class OsmPedestrianGraphReader {
+
+  // 사람이 걸을 수 없는 도로 (foot=yes 가 있으면 허용)
+  private static final Set<String> NOT_WALKABLE = Set.of("motorway", "motorway_link", "trunk",
+      "trunk_link", "construction", "proposed", "raceway", "bus_guideway", "abandoned");
+
+  private static final Set<String> NO_ACCESS = Set.of("no", "private");
+
+  private long[] nodeIds = new long[1 << 16];
+  private double[] nodeLatitudes = new double[1 << 16];
+  private double[] nodeLongitudes = new double[1 << 16];
+  private int nodeCount;
+  private boolean nodesSorted = true;
+
+  private long[] edgeFrom = new long[1 << 16];
+  private long[] edgeTo = new long[1 << 16];
+  private int edgeCount;
+
+  // 읽는 중인 길
+  private long[] wayNodes = new long[256];
+  private int wayNodeCount;
+  private String highway;
+  private String foot;
+  private String access;
+
+  PedestrianGraph read(Path file) throws IOException {
+    try (InputStream inputStream = open(file)) {
+      XMLInputFactory factory = XMLInputFactory.newFactory();
+      factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+      factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+      XMLStreamReader reader = factory.createXMLStreamReader(inputStream);
+      try {
+        readElements(reader);
+      } finally {
+        reader.close();
+      }
+    } catch (XMLStreamException e) {
+      throw new IOException("OSM 파일을 읽을 수 없습니다: " + file, e);
+    }
+    return build();
+  }
+
+  private InputStream open(Path file) throws IOException {
+    InputStream inputStream = new BufferedInputStream(Files.newInputStream(file), 1 << 16);
+    return file.toString().endsWith(".gz") ? new GZIPInputStream(inputStream, 1 << 16)
+        : inputStream;
+  }
+
+  private void readElements(XMLStreamReader reader) throws XMLStreamException {
+    boolean inWay = false;
+    while (reader.hasNext()) {
+      int event = reader.next();
+      if (event == XMLStreamConstants.START_ELEMENT) {
+        switch (reader.getLocalName()) {
+          case "node":
+            addNode(Long.parseLong(reader.getAttributeValue(null, "id")),
+                Double.parseDouble(reader.getAttributeValue(null, "lat")),
+                Double.parseDouble(reader.getAttributeValue(null, "lon")));
+            break;
+          case "way":
+            inWay = true;
+            wayNodeCount = 0;
+            highway = null;
+            foot = null;
+            access = null;
+            break;
+          case "nd":
+            if (inWay) {
+              addWayNode(Long.parseLong(reader.getAttributeValue(null, "ref")));
+            }
+            break;
+          case "tag":
+            if (inWay) {
+              readTag(reader.getAttributeValue(null, "k"), reader.getAttributeValue(null, "v"));
+            }
+            break;
+          default:
+            break;
+        }
+      } else if (event == XMLStreamConstants.END_ELEMENT && "way".equals(reader.getLocalName())) {
+        inWay = false;
+        if (isWalkable()) {
+          for (int i = 1; i < wayNodeCount; i++) {
+            addEdge(wayNodes[i - 1], wayNodes[i]);
+          }
+        }
+      }
+    }
+  }
+
+  private void readTag(String key, String value) {
+    if ("highway".equals(key)) {
+      highway = value;
+    } else if ("foot".equals(key)) {
+      foot = value;
+    } else if ("access".equals(key)) {
+      access = value;
+    }
+  }
+
+  private boolean isWalkable() {
+    if (highway == null) {
+      return false;
+    }
+    if ("yes".equals(foot) || "designated".equals(foot)) {
+      return true;
+    }
+    if (foot != null && NO_ACCESS.contains(foot)) {
+      return false;
+    }
+    return !NOT_WALKABLE.contains(highway) && (access == null || !NO_ACCESS.contains(access));
+  }
+
+  private void addNode(long id, double latitude, double longitude) {
+    if (nodeCount == nodeIds.length) {
+      nodeIds = Arrays.copyOf(nodeIds, nodeCount * 2);
+      nodeLatitudes = Arrays.copyOf(nodeLatitudes, nodeCount * 2);
+      nodeLongitudes = Arrays.copyOf(nodeLongitudes, nodeCount * 2);
+    }
+    if (nodeCount > 0 && nodeIds[nodeCount - 1] >= id) {
+      nodesSorted = false;
+    }
+    nodeIds[nodeCount] = id;
+    nodeLatitudes[nodeCount] = latitude;
+    nodeLongitudes[nodeCount] = longitude;
+    nodeCount++;
+  }
+
+  private void addWayNode(long ref) {
+    if (wayNodeCount == wayNodes.length) {
+      wayNodes = Arrays.copyOf(wayNodes, wayNodeCount * 2);
+    }
+    wayNodes[wayNodeCount++] = ref;
+  }
+
+  private void addEdge(long from, long to) {
+    if (from == to) {
+      return;
+    }
+    if (edgeCount == edgeFrom.length) {
+      edgeFrom = Arrays.copyOf(edgeFrom, edgeCount * 2);
+      edgeTo = Arrays.copyOf(edgeTo, edgeCount * 2);
+    }
+    edgeFrom[edgeCount] = from;
+    edgeTo[edgeCount] = to;
+    edgeCount++;
+  }
+
+  private PedestrianGraph build() {
+    if (!nodesSorted) {
+      sortNodes();
+    }
+
+    // 길에 쓰인 노드만 남기고 번호를 다시 매긴다. (파일 범위 밖의 노드를 가리키는 간선은 버린다)
+    int[] graphIndexes = new int[nodeCount];
+    Arrays.fill(graphIndexes, -1);
+    int[] from = new int[edgeCount];
+    int[] to = new int[edgeCount];
+    int graphEdgeCount = 0;
+    int graphNodeCount = 0;
+    for (int i = 0; i < edgeCount; i++) {
+      int a = Arrays.binarySearch(nodeIds, 0, nodeCount, edgeFrom[i]);
+      int b = Arrays.binarySearch(nodeIds, 0, nodeCount, edgeTo[i]);
+      if (a < 0 || b < 0) {
+        continue;
+      }
+      if (graphIndexes[a] < 0) {
+        graphIndexes[a] = graphNodeCount++;
+      }
+      if (graphIndexes[b] < 0) {
+        graphIndexes[b] = graphNodeCount++;
+      }
+      from[graphEdgeCount] = graphIndexes[a];
+      to[graphEdgeCount] = graphIndexes[b];
+      graphEdgeCount++;
+    }
+
+    double[] latitudes = new double[graphNodeCount];
+    double[] longitudes = new double[graphNodeCount];
+    for (int i = 0; i < nodeCount; i++) {
+      if (graphIndexes[i] >= 0) {
+        latitudes[graphIndexes[i]] = nodeLatitudes[i];
+        longitudes[graphIndexes[i]] = nodeLongitudes[i];
+      }
+    }
+    return PedestrianGraph.of(latitudes, longitudes, from, to, graphEdgeCount);
+  }
+
+  // 보통 OSM 파일의 노드는 id 순이지만, 아니면 id 순으로 정렬한다.
+  private void sortNodes() {
+    Integer[] order = new Integer[nodeCount];
+    for (int i = 0; i < nodeCount; i++) {
+      order[i] = i;
+    }
+    long[] ids = nodeIds;
+    Arrays.sort(order, (a, b) -> Long.compare(ids[a], ids[b]));
+
+    long[] sortedIds = new long[nodeCount];
+    double[] sortedLatitudes = new double[nodeCount];
+    double[] sortedLongitudes = new double[nodeCount];
+    for (int i = 0; i < nodeCount; i++) {
+      sortedIds[i] = nodeIds[order[i]];
+      sortedLatitudes[i] = nodeLatitudes[order[i]];
+      sortedLongitudes[i] = nodeLongitudes[order[i]];
+    }
+    nodeIds = sortedIds;
+    nodeLatitudes = sortedLatitudes;
+    nodeLongitudes = sortedLongitudes;
+  }
+}
@@ -0,0 +1,203 @@
+package com.project.chamjimayo.service.walking;
+
+import com.project.chamjimayo.service.nearby.GeoDistance;
+import java.util.Arrays;
+
+/**
+ * 보행 경로 그래프. 인접 리스트를 CSR(offset + 배열) 형태의 primitive 배열로 들고 있다.
+ * 노드 i 의 간선은 edgeTargets[edgeOffsets[i] .. edgeOffsets[i + 1]) 이고 가중치는 길이(m)다.
+ * 좌표에서 가까운 노드를 찾기 위해 노드를 격자 칸 순으로 정렬한 색인도 같이 만든다.
+ */
+public final class PedestrianGraph {
+
+  // 격자 한 칸의 크기 (위도 기준 약 220m)
+  private static final double CELL_DEGREES = 0.002;
+
+  private final int nodeCount;
+  private final double[] latitudes;
+  private final double[] longitudes;
+  private final int[] edgeOffsets;
+  private final int[] edgeTargets;
+  private final float[] edgeLengths;
+
+  // 격자 칸 번호 순으로 정렬한 노드와 그 칸 번호
+  private final long[] sortedCells;
+  private final int[] nodesByCell;
+
+  private PedestrianGraph(double[] latitudes, double[] longitudes, int[] edgeOffsets,
+      int[] edgeTargets, float[] edgeLengths) {
+    this.nodeCount = latitudes.length;
+    this.latitudes = latitudes;
+    this.longitudes = longitudes;
+    this.edgeOffsets = edgeOffsets;
+    this.edgeTargets = edgeTargets;
+    this.edgeLengths = edgeLengths;
+
+    long[] cells = new long[nodeCount];
+    Integer[] order = new Integer[nodeCount];
+    for (int i = 0; i < nodeCount; i++) {
+      cells[i] = cell(latitudes[i], longitudes[i]);
+      order[i] = i;
+    }
+    Arrays.sort(order, (a, b) -> Long.compare(cells[a], cells[b]));
+    this.sortedCells = new long[nodeCount];
+    this.nodesByCell = new int[nodeCount];
+    for (int i = 0; i < nodeCount; i++) {
+      nodesByCell[i] = order[i];
+      sortedCells[i] = cells[order[i]];
+    }
+  }
+
+  /**
+   * 양방향 간선 목록으로 그래프를 만든다. 보행자는 일방통행의 영향을 받지 않는다.
+   *
+   * @param from 간선의 한쪽 노드 (길이 edgeCount 이상)
+   * @param to 간선의 다른 쪽 노드
+   */
+  public static PedestrianGraph of(double[] latitudes, double[] longitudes, int[] from, int[] to,
+      int edgeCount) {
+    int nodeCount = latitudes.length;
+    int[] offsets = new int[nodeCount + 1];
+    for (int i = 0; i < edgeCount; i++) {
+      offsets[from[i] + 1]++;
+      offsets[to[i] + 1]++;
+    }
+    for (int i = 0; i < nodeCount; i++) {
+      offsets[i + 1] += offsets[i];
+    }
+
+    int[] targets = new int[edgeCount * 2];
+    float[] lengths = new float[edgeCount * 2];
+    int[] next = Arrays.copyOf(offsets, nodeCount);
+    for (int i = 0; i < edgeCount; i++) {
+      int a = from[i];
+      int b = to[i];
+      float length = (float) GeoDistance.haversine(latitudes[a], longitudes[a],
+          latitudes[b], longitudes[b]);
+      targets[next[a]] = b;
+      lengths[next[a]++] = length;
+      targets[next[b]] = a;
+      lengths[next[b]++] = length;
+    }
+    return new PedestrianGraph(latitudes, longitudes, offsets, targets, lengths);
+  }
+
+  public int nodeCount() {
+    return nodeCount;
+  }
+
+  public int edgeCount() {
+    return edgeTargets.length / 2;
+  }
+
+  public double latitude(int node) {
+    return latitudes[node];
+  }
+
+  public double longitude(int node) {
+    return longitudes[node];
+  }
+
+  /**
+   * 좌표에서 maxMeters 안에 있는 가장 가까운 노드. 없으면 -1
+   */
+  public int nearestNode(double latitude, double longitude, double maxMeters) {
+    int latitudeCells = (int) Math.ceil(maxMeters / 111_000 / CELL_DEGREES);
+    double cosLatitude = Math.max(0.01, Math.cos(Math.toRadians(latitude)));
+    int longitudeCells = (int) Math.ceil(maxMeters / (111_000 * cosLatitude) / CELL_DEGREES);
+
+    long row = row(latitude);
+    long column = column(longitude);
+    int nearest = -1;
+    double nearestDistance = maxMeters;
+    for (long r = row - latitudeCells; r <= row + latitudeCells; r++) {
+      for (long c = column - longitudeCells; c <= column + longitudeCells; c++) {
+        long cell = (r << 32) | (c & 0xFFFFFFFFL);
+        int position = firstPosition(cell);
+        for (int i = position; i < nodeCount && sortedCells[i] == cell; i++) {
+          int node = nodesByCell[i];
+          double distance = GeoDistance.haversine(latitude, longitude,
+              latitudes[node], longitudes[node]);
+          if (distance <= nearestDistance) {
+            nearest = node;
+            nearestDistance = distance;
+          }
+        }
+      }
+    }
+    return nearest;
+  }
+
+  /**
+   * source 에서 targets 까지의 최단 도보 거리(m)를 한 번의 Dijkstra 탐색으로 구한다.
+   * 모든 목표에 도달했거나 maxMeters 를 넘으면 멈추고, 도달하지 못한 목표는 -1 이다.
+   * 작업 공간을 새로 만들기 때문에 반복해서 부를 때는 SearchSpacePool 을 받는 쪽을 쓴다.
+   */
+  public double[] distances(int source, int[] targets, double maxMeters) {
+    return distances(source, targets, maxMeters, new SearchSpace(nodeCount));
+  }
+
+  double[] distances(int source, int[] targets, double maxMeters, SearchSpace space) {
+    double[] result = new double[targets.length];
+    Arrays.fill(result, -1);
+
+    space.reset();
+    for (int target : targets) {
+      if (target >= 0) {
+        space.markTarget(target);
+      }
+    }
+    int remaining = space.targetCount();
+
+    space.relax(source, 0);
+    while (remaining > 0 && !space.isEmpty()) {
+      double distance = space.peekDistance();
+      int node = space.poll();
+      if (distance > maxMeters) {
+        break;
+      }
+      if (!space.settle(node, distance)) {
+        continue;
+      }
+      if (space.isTarget(node)) {
+        remaining--;
+      }
+      for (int edge = edgeOffsets[node]; edge < edgeOffsets[node + 1]; edge++) {
+        space.relax(edgeTargets[edge], distance + edgeLengths[edge]);
+      }
+    }
+
+    for (int i = 0; i < targets.length; i++) {
+      if (targets[i] >= 0 && space.isSettled(targets[i])) {
+        result[i] = space.distance(targets[i]);
+      }
+    }
+    return result;
+  }
+
+  private int firstPosition(long cell) {
+    int low = 0;
+    int high = nodeCount;
+    while (low < high) {
+      int middle = (low + high) >>> 1;
+      if (sortedCells[middle] < cell) {
+        low = middle + 1;
+      } else {
+        high = middle;
+      }
+    }
+    return low;
+  }
+
+  private static long cell(double latitude, double longitude) {
+    return (row(latitude) << 32) | (column(longitude) & 0xFFFFFFFFL);
+  }
+
+  private static long row(double latitude) {
+    return (long) Math.floor(latitude / CELL_DEGREES);
+  }
+
+  private static long column(double longitude) {
+    return (long) Math.floor(longitude / CELL_DEGREES);
+  }
+}
@@ -0,0 +1,148 @@
+package com.project.chamjimayo.service.walking;
+
+import java.util.Arrays;
+
+/**
+ * Dijkstra 탐색에 쓰는 작업 공간. SearchSpacePool 에서 빌려 쓰고 돌려준다.
+ * 노드 수만큼의 배열을 요청마다 새로 만들거나 비우지 않도록, 탐색 번호(stamp)가 다른 값은 없는 것으로 본다.
+ * 우선순위 큐는 거리를 갱신하지 않고 새로 넣는 binary heap 이다. (이미 확정된 노드는 꺼낼 때 버린다)
+ */
+final class SearchSpace {
+
+  private static final byte SEEN = 1;
+  private static final byte SETTLED = 2;
+  private static final byte TARGET = 4;
+
+  private final int[] stamps;
+  private final byte[] states;
+  private final double[] distances;
+  private int stamp;
+  private int targetCount;
+
+  private int heapSize;
+  private int[] heapNodes = new int[1024];
+  private double[] heapDistances = new double[1024];
+
+  SearchSpace(int nodeCount) {
+    this.stamps = new int[nodeCount];
+    this.states = new byte[nodeCount];
+    this.distances = new double[nodeCount];
+  }
+
+  void reset() {
+    stamp++;
+    if (stamp == Integer.MAX_VALUE) {
+      Arrays.fill(stamps, 0);
+      stamp = 1;
+    }
+    targetCount = 0;
+    heapSize = 0;
+  }
+
+  void markTarget(int node) {
+    touch(node);
+    if ((states[node] & TARGET) == 0) {
+      states[node] |= TARGET;
+      targetCount++;
+    }
+  }
+
+  int targetCount() {
+    return targetCount;
+  }
+
+  boolean isTarget(int node) {
+    return stamps[node] == stamp && (states[node] & TARGET) != 0;
+  }
+
+  boolean isSettled(int node) {
+    return stamps[node] == stamp && (states[node] & SETTLED) != 0;
+  }
+
+  double distance(int node) {
+    return distances[node];
+  }
+
+  // 더 짧은 거리를 찾았으면 큐에 넣는다.
+  void relax(int node, double distance) {
+    touch(node);
+    if ((states[node] & SETTLED) != 0
+        || ((states[node] & SEEN) != 0 && distances[node] <= distance)) {
+      return;
+    }
+    states[node] |= SEEN;
+    distances[node] = distance;
+    push(node, distance);
+  }
+
+  // 처음 꺼낸 노드면 거리를 확정한다. 이미 확정된 노드(큐에 남은 예전 거리)면 false
+  boolean settle(int node, double distance) {
+    if ((states[node] & SETTLED) != 0 || distances[node] < distance) {
+      return false;
+    }
+    states[node] |= SETTLED;
+    return true;
+  }
+
+  boolean isEmpty() {
+    return heapSize == 0;
+  }
+
+  double peekDistance() {
+    return heapDistances[0];
+  }
+
+  int poll() {
+    int node = heapNodes[0];
+    heapSize--;
+    if (heapSize > 0) {
+      siftDown(heapNodes[heapSize], heapDistances[heapSize]);
+    }
+    return node;
+  }
+
+  private void touch(int node) {
+    if (stamps[node] != stamp) {
+      stamps[node] = stamp;
+      states[node] = 0;
+    }
+  }
+
+  private void push(int node, double distance) {
+    if (heapSize == heapNodes.length) {
+      heapNodes = Arrays.copyOf(heapNodes, heapSize * 2);
+      heapDistances = Arrays.copyOf(heapDistances, heapSize * 2);
+    }
+    int i = heapSize++;
+    while (i > 0) {
+      int parent = (i - 1) >>> 1;
+      if (heapDistances[parent] <= distance) {
+        break;
+      }
+      heapNodes[i] = heapNodes[parent];
+      heapDistances[i] = heapDistances[parent];
+      i = parent;
+    }
+    heapNodes[i] = node;
+    heapDistances[i] = distance;
+  }
+
+  private void siftDown(int node, double distance) {
+    int i = 0;
+    int half = heapSize >>> 1;
+    while (i < half) {
+      int child = 2 * i + 1;
+      if (child + 1 < heapSize && heapDistances[child + 1] < heapDistances[child]) {
+        child++;
+      }
+      if (distance <= heapDistances[child]) {
+        break;
+      }
+      heapNodes[i] = heapNodes[child];
+      heapDistances[i] = heapDistances[child];
+      i = child;
+    }
+    heapNodes[i] = node;
+    heapDistances[i] = distance;
+  }
+}
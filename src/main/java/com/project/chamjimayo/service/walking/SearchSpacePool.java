@@ -0,0 +1,45 @@
+package com.project.chamjimayo.service.walking;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Dijkstra 작업 공간(SearchSpace)을 최대 maxSize 개까지만 만들어서 돌려 쓴다.
+ * 작업 공간 하나가 노드 수에 비례하는 배열(노드당 약 13바이트)을 들고 있어서,
+ * 요청 스레드마다 두지 않고 동시에 탐색할 수 있는 수를 제한한다.
+ * 작업 공간은 처음 필요할 때 만든다.
+ */
+final class SearchSpacePool {
+
+  private final int nodeCount;
+  private final Semaphore permits;
+  private final ConcurrentLinkedQueue<SearchSpace> idle = new ConcurrentLinkedQueue<>();
+
+  SearchSpacePool(int nodeCount, int maxSize) {
+    this.nodeCount = nodeCount;
+    this.permits = new Semaphore(Math.max(1, maxSize));
+  }
+
+  /**
+   * timeout 안에 빌리지 못하면 null
+   */
+  SearchSpace acquire(Duration timeout) {
+    try {
+      if (!permits.tryAcquire(timeout.toMillis(), TimeUnit.MILLISECONDS)) {
+        return null;
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return null;
+    }
+    SearchSpace space = idle.poll();
+    return space != null ? space : new SearchSpace(nodeCount);
+  }
+
+  void release(SearchSpace space) {
+    idle.offer(space);
+    permits.release();
+  }
+}
@@ -0,0 +1,137 @@
+package com.project.chamjimayo.service.walking;
+
+import com.project.chamjimayo.controller.config.PedestrianGraphProperties;
+import com.project.chamjimayo.service.nearby.GeoDistance;
+import com.project.chamjimayo.service.nearby.NearByCandidates;
+import com.project.chamjimayo.service.nearby.RestroomSnapshot;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+/**
+ * 보행 경로 그래프로 주변 화장실의 도보 거리를 계산한다.
+ * 직선 거리로 가까운 후보 몇 개만 골라서, 조회 지점에서 한 번의 Dijkstra 탐색으로
+ * 모든 후보까지의 거리를 같이 구한다. (후보마다 따로 경로를 찾지 않는다)
+ * 그래프 파일이 설정되지 않았거나 읽지 못하면 도보 거리 정렬은 직선 거리 정렬과 같다.
+ * 동시에 실행하는 탐색은 maxConcurrentSearches 개로 제한하고, 자리가 없으면 직선 거리 순으로 둔다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class WalkingDistanceService {
+
+  public static final double UNKNOWN = -1;
+
+  private final PedestrianGraphProperties pedestrianGraphProperties;
+
+  private volatile PedestrianGraph graph;
+
+  // graph 보다 먼저 채워서, graph 를 읽은 스레드는 항상 이것도 읽을 수 있다.
+  private volatile SearchSpacePool searchSpaces;
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void load() {
+    String file = pedestrianGraphProperties.getFile();
+    if (!StringUtils.hasText(file)) {
+      return;
+    }
+    long start = System.nanoTime();
+    try {
+      PedestrianGraph loaded = new OsmPedestrianGraphReader().read(Path.of(file));
+      searchSpaces = new SearchSpacePool(loaded.nodeCount(),
+          pedestrianGraphProperties.getMaxConcurrentSearches());
+      graph = loaded;
+      log.info("보행 경로 그래프를 읽었습니다. 노드 {}개, 간선 {}개 ({}ms)", graph.nodeCount(),
+          graph.edgeCount(), (System.nanoTime() - start) / 1_000_000);
+    } catch (IOException e) {
+      log.warn("보행 경로 그래프를 읽지 못해 도보 거리 정렬을 직선 거리로 대신합니다. file={}", file, e);
+    }
+  }
+
+  public boolean isAvailable() {
+    return graph != null;
+  }
+
+  /**
+   * 정렬된 후보 순서(order)의 앞쪽 candidateLimit 개를 도보 거리 순으로 다시 정렬한다.
+   * 도달할 수 없는 후보는 그 뒤에 직선 거리 순으로 둔다.
+   *
+   * @return 후보별 도보 거리(m). 계산하지 않았거나 도달할 수 없으면 UNKNOWN. 그래프가 없으면 null
+   */
+  public double[] rankByWalkingDistance(double latitude, double longitude,
+      RestroomSnapshot snapshot, NearByCandidates candidates, int[] order) {
+    PedestrianGraph current = graph;
+    if (current == null) {
+      return null;
+    }
+    double[] walkingDistances = new double[candidates.size()];
+    Arrays.fill(walkingDistances, UNKNOWN);
+
+    double snapDistance = pedestrianGraphProperties.getSnapDistanceMeters();
+    int source = current.nearestNode(latitude, longitude, snapDistance);
+    if (source < 0) {
+      return walkingDistances;
+    }
+    double sourceSnap = GeoDistance.haversine(latitude, longitude,
+        current.latitude(source), current.longitude(source));
+
+    int limit = Math.min(order.length, pedestrianGraphProperties.getCandidateLimit());
+    int[] targets = new int[limit];
+    double[] targetSnaps = new double[limit];
+    double farthest = 0;
+    for (int i = 0; i < limit; i++) {
+      int index = candidates.index(order[i]);
+      double restroomLatitude = snapshot.latitude(index);
+      double restroomLongitude = snapshot.longitude(index);
+      targets[i] = current.nearestNode(restroomLatitude, restroomLongitude, snapDistance);
+      if (targets[i] >= 0) {
+        targetSnaps[i] = GeoDistance.haversine(restroomLatitude, restroomLongitude,
+            current.latitude(targets[i]), current.longitude(targets[i]));
+      }
+      farthest = Math.max(farthest, candidates.distance(order[i]));
+    }
+
+    double maxMeters = farthest * pedestrianGraphProperties.getMaxDetourFactor()
+        + 2 * snapDistance;
+    SearchSpacePool pool = searchSpaces;
+    SearchSpace space = pool.acquire(pedestrianGraphProperties.getSearchWaitTimeout());
+    if (space == null) {
+      log.debug("도보 거리 탐색 자리가 없어 직선 거리 순으로 응답합니다.");
+      return walkingDistances;
+    }
+    double[] graphDistances;
+    try {
+      graphDistances = current.distances(source, targets, maxMeters, space);
+    } finally {
+      pool.release(space);
+    }
+    for (int i = 0; i < limit; i++) {
+      if (graphDistances[i] >= 0) {
+        walkingDistances[order[i]] = sourceSnap + graphDistances[i] + targetSnaps[i];
+      }
+    }
+
+    // 도달할 수 있는 후보 먼저, 그 안에서는 도보 거리 순. 도달할 수 없는 후보는 맨 뒤 키를 준다.
+    // NearByCandidates.order 처럼 정렬 키(상위 32비트)와 지금 순서의 위치(하위 32비트)를 long 하나에 담아서,
+    // 키가 같으면 원래 순서(직선 거리 순)를 유지한다.
+    long[] keys = new long[limit];
+    for (int i = 0; i < limit; i++) {
+      double walkingDistance = walkingDistances[order[i]];
+      int key = walkingDistance < 0 ? Integer.MAX_VALUE
+          : Float.floatToIntBits((float) walkingDistance);
+      keys[i] = ((long) key << 32) | i;
+    }
+    Arrays.sort(keys);
+    int[] ranked = Arrays.copyOf(order, limit);
+    for (int i = 0; i < limit; i++) {
+      order[i] = ranked[(int) keys[i]];
+    }
+    return walkingDistances;
+  }
+}
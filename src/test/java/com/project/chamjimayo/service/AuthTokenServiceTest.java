@@ -27,6 +27,9 @@ class AuthTokenServiceTest {
   @Mock
   private JwtTokenProvider jwtTokenProvider;
 
+  @Mock
+  private UnknownRefreshTokenCache unknownRefreshTokenCache;
+
   @Mock
   private JwtProperties jwtProperties;
 
@@ -39,7 +42,7 @@ class AuthTokenServiceTest {
 
   @BeforeEach
   void setup() {
-    userId = "tester";
+    userId = "1";
     accessToken = "accessToken";
     refreshToken = "refreshToken";
   }
@@ -47,10 +50,10 @@ class AuthTokenServiceTest {
   @DisplayName("리프레시 토큰이 존재하는 유저의 인증 토큰을 생성한다.")
   @Test
   void createAuthToken() {
-    Token token = Token.create(userId, refreshToken);
+    Token token = Token.create(Long.valueOf(userId), refreshToken);
 
     when(jwtTokenProvider.createAccessToken(userId)).thenReturn(accessToken);
-    when(tokenRepository.findTokenByUserId(userId)).thenReturn(Optional.of(token));
+    when(tokenRepository.findTokenByUserId(Long.valueOf(userId))).thenReturn(Optional.of(token));
 
     AuthTokenDto authToken = sut.createAuthToken(userId);
 
@@ -61,11 +64,11 @@ class AuthTokenServiceTest {
   @Test
   void createAuthTokenWhenRefreshTokenNotExist() {
     String newRefreshToken = "newRefreshToken";
-    Token token = Token.create(userId, newRefreshToken);
+    Token token = Token.create(Long.valueOf(userId), newRefreshToken);
 
     when(jwtTokenProvider.createAccessToken(userId)).thenReturn(accessToken);
     when(jwtTokenProvider.createRefreshToken(userId)).thenReturn(newRefreshToken);
-    when(tokenRepository.findTokenByUserId(userId)).thenReturn(Optional.empty());
+    when(tokenRepository.findTokenByUserId(Long.valueOf(userId))).thenReturn(Optional.empty());
     when(tokenRepository.save(any(Token.class))).thenReturn(token);
 
     AuthTokenDto authToken = sut.createAuthToken(userId);
@@ -76,13 +79,13 @@ class AuthTokenServiceTest {
   @DisplayName("리프레시 토큰이 만료된 유저의 인증 토큰을 생성한다.")
   @Test
   void createAuthTokenWhenRefreshTokenNotValid() {
-    Token token = Token.create(userId, refreshToken);
+    Token token = Token.create(Long.valueOf(userId), refreshToken);
     String newRefreshToken = "newRefreshToken";
 
     when(jwtTokenProvider.createAccessToken(userId)).thenReturn(accessToken);
     when(jwtTokenProvider.createRefreshToken(userId)).thenReturn(newRefreshToken);
     when(jwtTokenProvider.isExpired(token.getRefreshToken())).thenReturn(true);
-    when(tokenRepository.findTokenByUserId(userId)).thenReturn(Optional.of(token));
+    when(tokenRepository.findTokenByUserId(Long.valueOf(userId))).thenReturn(Optional.of(token));
 
     AuthTokenDto authToken = sut.createAuthToken(userId);
 
@@ -0,0 +1,39 @@
+package com.project.chamjimayo.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class BloomFilterTest {
+
+  @DisplayName("넣은 값은 항상 있을 수도 있다고 판단한다.")
+  @Test
+  void noFalseNegative() {
+    BloomFilter sut = new BloomFilter(10_000, 0.01);
+    for (int i = 0; i < 10_000; i++) {
+      sut.put("유료화장실-" + i);
+    }
+
+    for (int i = 0; i < 10_000; i++) {
+      assertTrue(sut.mightContain("유료화장실-" + i));
+    }
+  }
+
+  @DisplayName("넣지 않은 값의 false positive 비율은 설정값 근처에 머문다.")
+  @Test
+  void falsePositiveRate() {
+    BloomFilter sut = new BloomFilter(10_000, 0.01);
+    for (int i = 0; i < 10_000; i++) {
+      sut.put("유료화장실-" + i);
+    }
+
+    int falsePositives = 0;
+    for (int i = 0; i < 100_000; i++) {
+      if (sut.mightContain("새 화장실-" + i)) {
+        falsePositives++;
+      }
+    }
+    assertTrue(falsePositives < 2_000, "false positive: " + falsePositives);
+  }
+}
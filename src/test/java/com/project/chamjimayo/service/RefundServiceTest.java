@@ -0,0 +1,107 @@
+package com.project.chamjimayo.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.api.services.androidpublisher.model.VoidedPurchase;
+import com.project.chamjimayo.controller.config.RefundProperties;
+import com.project.chamjimayo.controller.dto.response.RefundResponse;
+import com.project.chamjimayo.controller.dto.response.RefundResultResponse;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class RefundServiceTest {
+
+  private static final Instant NOW = Instant.parse("2023-09-01T00:00:00Z");
+
+  @Mock
+  private RefundChunkProcessor refundChunkProcessor;
+
+  @Mock
+  private SyncCheckpointService syncCheckpointService;
+
+  private StubVoidedPurchaseClient voidedPurchaseClient;
+  private RefundService sut;
+
+  @BeforeEach
+  void setup() {
+    voidedPurchaseClient = new StubVoidedPurchaseClient();
+    RefundProperties refundProperties = new RefundProperties();
+    refundProperties.setChunkSize(2);
+    refundProperties.setCheckpointOverlap(Duration.ofHours(6));
+    sut = new RefundService(voidedPurchaseClient, refundChunkProcessor, refundProperties,
+        syncCheckpointService, Clock.fixed(NOW, ZoneOffset.UTC));
+  }
+
+  @DisplayName("모든 페이지를 조회하면서 chunk 단위로 환불을 처리하고 마지막 무효화 시각을 저장한다.")
+  @Test
+  void processRefundThroughAllPages() {
+    voidedPurchaseClient.addPage("a", "b", "c").addPage("d");
+    when(syncCheckpointService.getCheckpoint(RefundService.REFUND_CHECKPOINT))
+        .thenReturn(Optional.empty());
+    List<List<String>> processedChunks = new ArrayList<>();
+    when(refundChunkProcessor.process(anyList())).thenAnswer(invocation -> {
+      List<VoidedPurchase> chunk = invocation.getArgument(0);
+      processedChunks.add(chunk.stream()
+          .map(VoidedPurchase::getPurchaseToken)
+          .collect(Collectors.toList()));
+      return List.of(new RefundResponse(1L, 1000));
+    });
+
+    RefundResultResponse result = sut.processRefund();
+
+    assertEquals(Arrays.asList(null, "1"), voidedPurchaseClient.getRequestedPageTokens());
+    assertEquals(List.of(List.of("a", "b"), List.of("c"), List.of("d")), processedChunks);
+    assertEquals(3, result.getRefundCount());
+    assertEquals(3000L, result.getRefundPoint());
+    verify(syncCheckpointService).saveCheckpoint(RefundService.REFUND_CHECKPOINT, 4L);
+  }
+
+  @DisplayName("저장된 시각보다 checkpointOverlap 만큼 앞에서부터 조회하고, 30일보다 오래된 시각은 조회 가능한 범위로 당긴다.")
+  @Test
+  void processRefundFromCheckpoint() {
+    long recent = NOW.minus(Duration.ofDays(1)).toEpochMilli();
+    when(syncCheckpointService.getCheckpoint(RefundService.REFUND_CHECKPOINT))
+        .thenReturn(Optional.of(recent), Optional.of(0L));
+
+    sut.processRefund();
+    sut.processRefund();
+
+    List<Long> startTimes = voidedPurchaseClient.getRequestedStartTimes();
+    assertEquals(recent - Duration.ofHours(6).toMillis(), startTimes.get(0));
+    assertTrue(startTimes.get(1) > NOW.minus(Duration.ofDays(30)).toEpochMilli());
+  }
+
+  @DisplayName("새로 무효화된 내역이 없으면 빈 결과를 돌려주고 저장된 시각을 바꾸지 않는다.")
+  @Test
+  void processRefundWhenVoidedPurchaseNotExist() {
+    when(syncCheckpointService.getCheckpoint(RefundService.REFUND_CHECKPOINT))
+        .thenReturn(Optional.of(NOW.toEpochMilli()));
+
+    RefundResultResponse result = sut.processRefund();
+
+    assertEquals(0, result.getRefundCount());
+    verify(refundChunkProcessor, times(0)).process(anyList());
+    verify(syncCheckpointService, never()).saveCheckpoint(anyString(), anyLong());
+  }
+}
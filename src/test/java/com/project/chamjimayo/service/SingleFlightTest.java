@@ -0,0 +1,82 @@
+package com.project.chamjimayo.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SingleFlightTest {
+
+  private final SingleFlight<String, Integer> sut = new SingleFlight<>();
+
+  @DisplayName("같은 key 로 동시에 들어온 요청은 한 번만 호출하고 결과를 공유한다.")
+  @Test
+  void executeOnceForConcurrentCalls() throws Exception {
+    int threads = 8;
+    AtomicInteger calls = new AtomicInteger();
+    CountDownLatch started = new CountDownLatch(1);
+    // 먼저 들어온 호출은 나머지 요청이 모두 합류할 때까지 끝나지 않는다.
+    CountDownLatch joined = new CountDownLatch(threads - 1);
+    SingleFlight<String, Integer> singleFlight = new SingleFlight<>(joined::countDown);
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+    try {
+      List<Future<Integer>> results = new ArrayList<>();
+      results.add(executor.submit(() -> singleFlight.execute("token", () -> {
+        calls.incrementAndGet();
+        started.countDown();
+        assertTrue(await(joined));
+        return 0;
+      })));
+      assertTrue(started.await(5, TimeUnit.SECONDS));
+
+      for (int i = 1; i < threads; i++) {
+        results.add(executor.submit(() -> singleFlight.execute("token", calls::incrementAndGet)));
+      }
+
+      for (Future<Integer> result : results) {
+        assertEquals(0, result.get(5, TimeUnit.SECONDS));
+      }
+      assertEquals(1, calls.get());
+      assertEquals(0, joined.getCount());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @DisplayName("호출이 끝난 뒤에는 결과를 보관하지 않고 다시 호출한다.")
+  @Test
+  void executeAgainAfterCompletion() {
+    AtomicInteger calls = new AtomicInteger();
+
+    sut.execute("token", calls::incrementAndGet);
+    sut.execute("token", calls::incrementAndGet);
+
+    assertEquals(2, calls.get());
+  }
+
+  @DisplayName("호출이 실패하면 같은 예외를 던진다.")
+  @Test
+  void propagateException() {
+    assertThrows(IllegalStateException.class, () -> sut.execute("token", () -> {
+      throw new IllegalStateException();
+    }));
+  }
+
+  private static boolean await(CountDownLatch latch) {
+    try {
+      return latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+}
@@ -0,0 +1,58 @@
+package com.project.chamjimayo.service;
+
+import com.google.api.services.androidpublisher.model.TokenPagination;
+import com.google.api.services.androidpublisher.model.VoidedPurchase;
+import com.google.api.services.androidpublisher.model.VoidedPurchasesListResponse;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 구글 api 대신 미리 정해둔 페이지를 순서대로 돌려주는 테스트용 클라이언트
+ */
+class StubVoidedPurchaseClient implements VoidedPurchaseClient {
+
+  private final List<List<String>> pages = new ArrayList<>();
+  private final List<String> requestedPageTokens = new ArrayList<>();
+  private final List<Long> requestedStartTimes = new ArrayList<>();
+  private long voidedTimeMillis = 0L;
+
+  StubVoidedPurchaseClient addPage(String... purchaseTokens) {
+    pages.add(List.of(purchaseTokens));
+    return this;
+  }
+
+  List<String> getRequestedPageTokens() {
+    return requestedPageTokens;
+  }
+
+  List<Long> getRequestedStartTimes() {
+    return requestedStartTimes;
+  }
+
+  @Override
+  public VoidedPurchasesListResponse list(String pageToken, Long startTimeMillis) {
+    requestedPageTokens.add(pageToken);
+    requestedStartTimes.add(startTimeMillis);
+
+    int page = pageToken == null ? 0 : Integer.parseInt(pageToken);
+    VoidedPurchasesListResponse response = new VoidedPurchasesListResponse();
+    if (page >= pages.size()) {
+      return response;
+    }
+
+    List<VoidedPurchase> voidedPurchases = new ArrayList<>();
+    for (String purchaseToken : pages.get(page)) {
+      // 추가한 순서대로 1ms 씩 늦게 무효화된 것으로 본다.
+      voidedPurchases.add(new VoidedPurchase()
+          .setPurchaseToken(purchaseToken)
+          .setVoidedTimeMillis(++voidedTimeMillis));
+    }
+    response.setVoidedPurchases(voidedPurchases);
+
+    if (page + 1 < pages.size()) {
+      response.setTokenPagination(
+          new TokenPagination().setNextPageToken(String.valueOf(page + 1)));
+    }
+    return response;
+  }
+}
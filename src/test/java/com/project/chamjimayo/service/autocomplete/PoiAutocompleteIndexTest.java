@@ -0,0 +1,75 @@
+package com.project.chamjimayo.service.autocomplete;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.project.chamjimayo.service.dto.PoiClickCountDto;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PoiAutocompleteIndexTest {
+
+  private final PoiAutocompleteIndex sut = new PoiAutocompleteIndex(List.of(
+      poi("스타벅스 강남역점", "서울특별시 강남구 강남대로 390", 3L),
+      poi("스타벅스 역삼역점", "서울특별시 강남구 테헤란로 211", 10L),
+      poi("과천 서울대공원", "경기도 과천시 대공원광장로 102", 5L)), 10, 100);
+
+  @DisplayName("입력 중인 글자도 자모 단위로 비교한다.")
+  @Test
+  void searchWithIncompleteSyllable() {
+    assertEquals(List.of("스타벅스 역삼역점", "스타벅스 강남역점"), names(sut.search("스타버", 10)));
+    assertEquals(List.of("과천 서울대공원"), names(sut.search("고", 10)));
+  }
+
+  @DisplayName("초성만 입력해도 가게 이름을 찾는다.")
+  @Test
+  void searchWithChosung() {
+    assertEquals(List.of("스타벅스 역삼역점", "스타벅스 강남역점"), names(sut.search("ㅅㅌㅂㅅ", 10)));
+  }
+
+  @DisplayName("이름이나 주소의 중간 단어로도 찾고 클릭 횟수 순으로 정렬한다.")
+  @Test
+  void searchFromWordStart() {
+    assertEquals(List.of("스타벅스 강남역점"), names(sut.search("강남역", 10)));
+    assertEquals(List.of("스타벅스 역삼역점", "스타벅스 강남역점"), names(sut.search("강남구", 10)));
+    assertEquals(List.of("스타벅스 역삼역점"), names(sut.search("강남구", 1)));
+  }
+
+  @DisplayName("접두어가 같은 key 가 많아도 알파벳 순이 아니라 클릭 횟수 순으로 고른다.")
+  @Test
+  void searchWidePrefixByClickCount() {
+    PoiAutocompleteIndex index = new PoiAutocompleteIndex(List.of(
+        poi("가나 식당", null, 1L),
+        poi("가다 식당", null, 2L),
+        poi("가라 식당", null, 100L),
+        poi("가마 식당", null, 50L)), 2, 1);
+
+    assertEquals(List.of("가라 식당", "가마 식당"), names(index.search("가", 10)));
+    assertEquals(List.of("가라 식당"), names(index.search("ㄱ", 1)));
+    assertEquals(List.of("가다 식당"), names(index.search("가다", 10)));
+  }
+
+  @DisplayName("일치하는 key 가 없으면 빈 리스트를 반환한다.")
+  @Test
+  void searchWithoutMatch() {
+    assertTrue(sut.search("부산", 10).isEmpty());
+    assertTrue(sut.search(" ", 10).isEmpty());
+  }
+
+  @DisplayName("겹모음과 겹받침은 입력 순서대로 푼다.")
+  @Test
+  void decompose() {
+    assertEquals("ㄱㅗㅏㄴ", HangulJamo.decompose("관"));
+    assertEquals("ㄷㅏㄹㄱ", HangulJamo.decompose("닭"));
+    assertEquals("ㅅㅌㅂㅅ", HangulJamo.chosung("스타 벅스"));
+  }
+
+  private static PoiClickCountDto poi(String name, String roadAddress, long clickCount) {
+    return new PoiClickCountDto(name, roadAddress, null, 37.5, 127.0, clickCount);
+  }
+
+  private static List<String> names(List<PoiClickCountDto> pois) {
+    return pois.stream().map(PoiClickCountDto::getName).collect(Collectors.toList());
+  }
+}
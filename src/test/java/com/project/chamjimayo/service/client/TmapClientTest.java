@@ -0,0 +1,114 @@
+package com.project.chamjimayo.service.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.chamjimayo.controller.config.HttpClientProperties;
+import com.project.chamjimayo.service.exception.ApiNotFoundException;
+import com.project.chamjimayo.service.exception.UpstreamTimeoutException;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TmapClientTest {
+
+  private HttpServer server;
+  private SimpleMeterRegistry meterRegistry;
+  private TmapClient sut;
+
+  @BeforeEach
+  void setup() throws IOException {
+    server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+    server.start();
+
+    HttpClientProperties properties = new HttpClientProperties();
+    properties.setTmap(new HttpClientProperties.Upstream(
+        "http://127.0.0.1:" + server.getAddress().getPort(), Duration.ofMillis(300)));
+
+    meterRegistry = new SimpleMeterRegistry();
+    sut = new TmapClient(HttpClient.newHttpClient(), properties, meterRegistry,
+        new ObjectMapper(), "test-key");
+  }
+
+  @AfterEach
+  void tearDown() {
+    server.stop(0);
+  }
+
+  @DisplayName("appKey 와 검색어를 담아 요청하고 POI 목록과 호출 지표를 남긴다.")
+  @Test
+  void searchPois() {
+    AtomicReference<String> appKey = new AtomicReference<>();
+    AtomicReference<String> query = new AtomicReference<>();
+    server.createContext("/tmap/pois", exchange -> {
+      appKey.set(exchange.getRequestHeaders().getFirst("appKey"));
+      query.set(exchange.getRequestURI().getQuery());
+      respond(exchange, 200,
+          "{\"searchPoiInfo\":{\"pois\":{\"poi\":[{\"name\":\"강남역\"}]}}}");
+    });
+
+    List<TmapPoi> pois = sut.searchPois("강남역", 10).join();
+
+    assertEquals(1, pois.size());
+    assertEquals("강남역", pois.get(0).getName());
+    assertEquals("test-key", appKey.get());
+    assertTrue(query.get().contains("searchKeyword=강남역"));
+    assertEquals(1, meterRegistry.get("http.client.requests")
+        .tag("clientName", "tmap").tag("outcome", "SUCCESS").timer().count());
+  }
+
+  @DisplayName("응답이 비어 있으면 예외로 완료된다.")
+  @Test
+  void searchPoisWhenBodyIsEmpty() {
+    server.createContext("/tmap/pois", exchange -> respond(exchange, 204, null));
+
+    CompletionException e = assertThrows(CompletionException.class,
+        () -> sut.searchPois("강남역", 10).join());
+    assertInstanceOf(ApiNotFoundException.class, e.getCause());
+  }
+
+  @DisplayName("응답이 제한 시간보다 늦으면 기다리지 않고 예외로 완료된다.")
+  @Test
+  void searchPoisWhenTimeout() {
+    server.createContext("/tmap/pois", exchange -> {
+      try {
+        Thread.sleep(1_000);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      respond(exchange, 200, "{}");
+    });
+
+    CompletionException e = assertThrows(CompletionException.class,
+        () -> sut.searchPois("강남역", 10).join());
+    assertInstanceOf(UpstreamTimeoutException.class, e.getCause());
+    assertEquals(1, meterRegistry.get("http.client.requests")
+        .tag("clientName", "tmap").tag("outcome", "TIMEOUT").timer().count());
+  }
+
+  private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+    if (body == null) {
+      exchange.sendResponseHeaders(status, -1);
+      exchange.close();
+      return;
+    }
+    byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+    exchange.sendResponseHeaders(status, bytes.length);
+    try (OutputStream outputStream = exchange.getResponseBody()) {
+      outputStream.write(bytes);
+    }
+  }
+}
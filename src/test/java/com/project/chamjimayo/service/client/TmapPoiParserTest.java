@@ -0,0 +1,55 @@
+package com.project.chamjimayo.service.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jayway.jsonpath.JsonPath;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TmapPoiParserTest {
+
+  private final TmapPoiParser sut = new TmapPoiParser(new ObjectMapper());
+
+  @DisplayName("poi 배열의 항목을 순서대로 읽고 JsonPath 로 읽은 값과 같은 값을 돌려준다.")
+  @Test
+  void parse() throws IOException {
+    byte[] responseBody = readFixture();
+    String json = new String(responseBody, StandardCharsets.UTF_8);
+
+    List<TmapPoi> pois = sut.parse(responseBody);
+
+    List<String> names = JsonPath.read(json, "$.searchPoiInfo.pois.poi[*].name");
+    List<String> fullAddressRoads = JsonPath.read(json,
+        "$.searchPoiInfo.pois.poi[*].newAddressList.newAddress[*].fullAddressRoad");
+    assertEquals(names.size(), pois.size());
+    for (int i = 0; i < pois.size(); i++) {
+      assertEquals(names.get(i), pois.get(i).getName());
+      assertEquals(fullAddressRoads.get(i), pois.get(i).getFullAddressRoad());
+    }
+
+    TmapPoi first = pois.get(0);
+    assertEquals("서울 강남구 역삼동 " + first.getFirstNo(), first.getLotNumberAddress());
+    assertEquals(37.4965267, first.getLatitude());
+    assertEquals(127.023067, first.getLongitude());
+  }
+
+  @DisplayName("검색 결과가 없으면 빈 리스트를 돌려준다.")
+  @Test
+  void parseWithoutPois() throws IOException {
+    byte[] responseBody = "{\"searchPoiInfo\":{\"totalCount\":\"0\"}}"
+        .getBytes(StandardCharsets.UTF_8);
+
+    assertTrue(sut.parse(responseBody).isEmpty());
+  }
+
+  private byte[] readFixture() throws IOException {
+    try (InputStream inputStream = getClass().getResourceAsStream("/tmap/pois.json")) {
+      return inputStream.readAllBytes();
+    }
+  }
+}
@@ -0,0 +1,76 @@
+package com.project.chamjimayo.service.cluster;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.project.chamjimayo.controller.dto.response.RestroomClusterResponse;
+import com.project.chamjimayo.service.dto.RestroomSnapshotRow;
+import com.project.chamjimayo.service.nearby.RestroomSnapshot;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ClusterGridTest {
+
+  // 서울시청, 부산시청
+  private static final double SEOUL_LATITUDE = 37.5663;
+  private static final double SEOUL_LONGITUDE = 126.9779;
+  private static final double BUSAN_LATITUDE = 35.1798;
+  private static final double BUSAN_LONGITUDE = 129.0750;
+
+  private static final long MAX_CELLS = 4_096;
+
+  private final ClusterGrid sut = ClusterGrid.of(RestroomSnapshot.of(List.of(
+      row(1L, SEOUL_LATITUDE, SEOUL_LONGITUDE, 0, 3.0f),
+      row(2L, SEOUL_LATITUDE + 0.01, SEOUL_LONGITUDE, 500, 4.5f),
+      row(3L, BUSAN_LATITUDE, BUSAN_LONGITUDE, 1000, 2.0f))));
+
+  @DisplayName("줌 아웃하면 가까운 화장실을 한 칸으로 묶고 개수, 평균 좌표, 최저 요금, 최고 별점을 구한다.")
+  @Test
+  void clustersAtLowZoom() {
+    List<RestroomClusterResponse> clusters = sorted(sut.clusters(34, 126, 38, 130, 7, MAX_CELLS));
+
+    assertEquals(2, clusters.size());
+    RestroomClusterResponse busan = clusters.get(0);
+    assertEquals(1, busan.getCount());
+    assertEquals(3L, busan.getRestroomId());
+
+    RestroomClusterResponse seoul = clusters.get(1);
+    assertEquals(2, seoul.getCount());
+    assertNull(seoul.getRestroomId());
+    assertEquals(SEOUL_LATITUDE + 0.005, seoul.getLatitude(), 1e-9);
+    assertEquals(0, seoul.getMinPrice());
+    assertEquals(4.5f, seoul.getMaxRating());
+  }
+
+  @DisplayName("줌 인하면 칸이 나뉘고, 화면 범위 밖의 칸은 제외한다.")
+  @Test
+  void clustersAtHighZoom() {
+    List<RestroomClusterResponse> clusters = sorted(sut.clusters(37.5, 126.9, 37.6, 127.0, 16, MAX_CELLS));
+
+    assertEquals(2, clusters.size());
+    assertEquals(1L, clusters.get(0).getRestroomId());
+    assertEquals(2L, clusters.get(1).getRestroomId());
+  }
+
+  @DisplayName("화면 범위에 걸친 칸이 너무 많으면 줌을 낮춰서 묶는다.")
+  @Test
+  void lowerZoomForWideViewport() {
+    List<RestroomClusterResponse> clusters = sorted(sut.clusters(34, 126, 38, 130, 16, 64));
+
+    assertEquals(sorted(sut.clusters(34, 126, 38, 130, 7, MAX_CELLS)).size(), clusters.size());
+    assertEquals(2, clusters.get(1).getCount());
+  }
+
+  private List<RestroomClusterResponse> sorted(List<RestroomClusterResponse> clusters) {
+    return clusters.stream().sorted(Comparator.comparingDouble(RestroomClusterResponse::getLatitude))
+        .collect(Collectors.toList());
+  }
+
+  private RestroomSnapshotRow row(Long id, double latitude, double longitude, int price,
+      float rating) {
+    return new RestroomSnapshotRow(id, latitude, longitude, rating, price, 1, 1, true, true,
+        "public", 1, 1, null);
+  }
+}
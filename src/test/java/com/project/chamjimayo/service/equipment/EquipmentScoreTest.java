@@ -0,0 +1,66 @@
+package com.project.chamjimayo.service.equipment;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.project.chamjimayo.service.dto.EquipmentScoreDelta;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class EquipmentScoreTest {
+
+  private static final long HALF_LIFE = 1_000;
+
+  @DisplayName("신고가 없으면 사전 점수의 비율을 확률로 쓴다.")
+  @Test
+  void priorWithoutReports() {
+    EquipmentScore sut = new EquipmentScore(1, 10, 0, 0, 0, HALF_LIFE);
+
+    assertEquals(0.5, sut.probability(0, 1, 1), 1e-9);
+  }
+
+  @DisplayName("오래된 신고는 반감기마다 절반씩 덜 반영된다.")
+  @Test
+  void olderReportsDecay() {
+    EquipmentScore sut = new EquipmentScore(1, 10, 0, 0, 0, HALF_LIFE);
+    sut.report(false, 0);
+    sut.report(true, HALF_LIFE);
+
+    // 없음 0.5, 있음 1 + 사전 점수 1, 1
+    assertEquals(2.0 / 3.5, sut.probability(HALF_LIFE, 1, 1), 1e-9);
+  }
+
+  @DisplayName("꺼낸 점수는 비워지고, 반영에 실패해 되돌리면 다음에 다시 꺼낼 수 있다.")
+  @Test
+  void drainAndRestore() {
+    EquipmentScore sut = new EquipmentScore(1, 10, 0, 0, 0, HALF_LIFE);
+    sut.report(true, 0);
+
+    EquipmentScoreDelta delta = sut.drainPending(HALF_LIFE);
+    assertEquals(0.5, delta.getPresent(), 1e-9);
+    assertNull(sut.drainPending(HALF_LIFE));
+
+    sut.restore(delta, HALF_LIFE);
+    sut.report(false, 2 * HALF_LIFE);
+
+    EquipmentScoreDelta retried = sut.drainPending(2 * HALF_LIFE);
+    assertEquals(0.25, retried.getPresent(), 1e-9);
+    assertEquals(1.0, retried.getAbsent(), 1e-9);
+  }
+
+  @DisplayName("DB 점수로 다시 맞추면 다른 서버의 신고는 더해지고, 아직 반영하지 않은 신고는 유지된다.")
+  @Test
+  void refreshKeepsPendingReports() {
+    EquipmentScore sut = new EquipmentScore(1, 10, 0, 0, 0, HALF_LIFE);
+    sut.report(true, HALF_LIFE);
+
+    // DB: 다른 서버가 반영한 '없음' 2
+    sut.refresh(0, 2, HALF_LIFE);
+
+    // 있음 1 + 없음 2 + 사전 점수 1, 1
+    assertEquals(2.0 / 5.0, sut.probability(HALF_LIFE, 1, 1), 1e-9);
+
+    EquipmentScoreDelta pending = sut.drainPending(HALF_LIFE);
+    assertEquals(1.0, pending.getPresent(), 1e-9);
+    assertEquals(0.0, pending.getAbsent(), 1e-9);
+  }
+}
@@ -0,0 +1,70 @@
+package com.project.chamjimayo.service.nearby;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class DistanceQueryTest {
+
+  @DisplayName("반경 안/밖 판정이 Haversine 과 같고, 거리의 상대 오차가 0.01% 이하다.")
+  @Test
+  void distanceIfWithin() {
+    Random random = new Random(7);
+    for (int q = 0; q < 500; q++) {
+      double latitude = -80 + random.nextDouble() * 160;
+      double longitude = -180 + random.nextDouble() * 360;
+      double radiusMeters = 50 + random.nextDouble() * 100_000;
+      DistanceQuery sut = new DistanceQuery(latitude, longitude, radiusMeters);
+
+      double spread = radiusMeters * 1.5 / 111_000;
+      for (int i = 0; i < 500; i++) {
+        double candidateLatitude = Math.max(-89.9,
+            Math.min(89.9, latitude + (random.nextDouble() * 2 - 1) * spread));
+        double candidateLongitude = longitude + (random.nextDouble() * 2 - 1) * spread
+            / Math.max(0.05, Math.cos(Math.toRadians(latitude)));
+        if (candidateLongitude > 180) {
+          candidateLongitude -= 360;
+        } else if (candidateLongitude < -180) {
+          candidateLongitude += 360;
+        }
+
+        double expected = GeoDistance.haversine(latitude, longitude,
+            candidateLatitude, candidateLongitude);
+        double latitudeRad = Math.toRadians(candidateLatitude);
+        double actual = sut.distanceIfWithin(latitudeRad, Math.toRadians(candidateLongitude),
+            Math.cos(latitudeRad));
+
+        assertEquals(expected <= radiusMeters, actual >= 0);
+        if (actual >= 0) {
+          assertTrue(Math.abs(actual - expected) <= expected * DistanceQuery.BOUNDARY_RATIO);
+        }
+      }
+    }
+  }
+
+  @DisplayName("배열 전체에서 반경 안의 위치와 거리를 채운다.")
+  @Test
+  void scan() {
+    double[] latitudes = {37.5663, 37.5763, 37.6663};
+    double[] latitudesRad = new double[3];
+    double[] longitudesRad = new double[3];
+    double[] cosLatitudes = new double[3];
+    for (int i = 0; i < 3; i++) {
+      latitudesRad[i] = Math.toRadians(latitudes[i]);
+      longitudesRad[i] = Math.toRadians(126.9779);
+      cosLatitudes[i] = Math.cos(latitudesRad[i]);
+    }
+    int[] indexes = new int[3];
+    double[] distances = new double[3];
+
+    int found = new DistanceQuery(37.5663, 126.9779, 2000)
+        .scan(latitudesRad, longitudesRad, cosLatitudes, 3, indexes, distances);
+
+    assertEquals(2, found);
+    assertEquals(0, indexes[0]);
+    assertEquals(1, indexes[1]);
+    assertEquals(1112, distances[1], 1);
+  }
+}
@@ -0,0 +1,85 @@
+package com.project.chamjimayo.service.nearby;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.project.chamjimayo.service.exception.IndexException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class NearByFilterTest {
+
+  private static final int FREE_UNISEX_PUBLIC = RestroomAttributes.of(true, false, "public", 0,
+      1, 1);
+
+  private static final int PAID_ACCESSIBLE = RestroomAttributes.of(false, true, "paid", 500,
+      1, 0);
+
+  @DisplayName("true 인 조건은 있어야 하는 비트, false 인 조건은 없어야 하는 비트가 된다.")
+  @Test
+  void requiredAndForbiddenMasks() {
+    NearByFilter sut = NearByFilter.create(true, false, true, null, null, null);
+
+    assertEquals(RestroomAttributes.UNISEX | RestroomAttributes.FREE,
+        sut.getRequiredAttributes());
+    assertEquals(RestroomAttributes.ACCESSIBLE, sut.getForbiddenAttributes());
+    assertTrue(sut.matches(FREE_UNISEX_PUBLIC, 0, 0, 0, 0));
+    assertFalse(sut.matches(PAID_ACCESSIBLE, 500, 0, 0, 0));
+  }
+
+  @DisplayName("null 인 조건은 거르지 않는다.")
+  @Test
+  void nullConditionsMatchEverything() {
+    NearByFilter sut = NearByFilter.create(null, null, null, null, null, null);
+
+    assertEquals(0, sut.getRequiredAttributes());
+    assertEquals(0, sut.getForbiddenAttributes());
+    assertTrue(sut.matches(FREE_UNISEX_PUBLIC, 0, 0, 0, 0));
+    assertTrue(sut.matches(PAID_ACCESSIBLE, 500, 0, 0, 0));
+  }
+
+  @DisplayName("최대 요금보다 비싸거나 최소 별점보다 낮은 화장실은 제외한다.")
+  @Test
+  void maxPriceAndMinRating() {
+    NearByFilter sut = NearByFilter.create(null, null, null, 500, 3.5f, null);
+
+    assertTrue(sut.matches(PAID_ACCESSIBLE, 500, 3.5f, 0, 0));
+    assertFalse(sut.matches(PAID_ACCESSIBLE, 501, 4.0f, 0, 0));
+    assertFalse(sut.matches(PAID_ACCESSIBLE, 100, 3.4f, 0, 0));
+  }
+
+  @DisplayName("availableFor 는 해당 성별의 대변기가 있고 지금 이용 가능한 화장실만 남긴다.")
+  @Test
+  void availableFor() {
+    NearByFilter male = NearByFilter.create(null, null, null, null, null, "Male");
+    NearByFilter female = NearByFilter.create(null, null, null, null, null, "female");
+
+    assertEquals(RestroomAttributes.MALE_TOILET, male.getRequiredAttributes());
+    assertEquals("male", male.getAvailableFor());
+    assertTrue(male.matches(PAID_ACCESSIBLE, 500, 0, 1, 0));
+    assertFalse(male.matches(PAID_ACCESSIBLE, 500, 0, 0, 0));
+
+    // 여자 대변기가 없는 화장실
+    assertFalse(female.matches(PAID_ACCESSIBLE, 500, 0, 1, 1));
+    assertTrue(female.matches(FREE_UNISEX_PUBLIC, 0, 0, 0, 1));
+  }
+
+  @DisplayName("availableFor 가 male, female 이 아니면 예외가 발생한다.")
+  @ParameterizedTest
+  @ValueSource(strings = {"M", "F", "남자", ""})
+  void invalidAvailableFor(String availableFor) {
+    assertThrows(IndexException.class,
+        () -> NearByFilter.create(null, null, null, null, null, availableFor));
+  }
+
+  @DisplayName("public / paid 경로 조건을 유료 비트로 더한다.")
+  @Test
+  void withPublicOrPaid() {
+    NearByFilter none = NearByFilter.none();
+
+    assertEquals(RestroomAttributes.PAID, none.withPublicOrPaid("paid").getRequiredAttributes());
+    assertEquals(RestroomAttributes.PAID, none.withPublicOrPaid("public").getForbiddenAttributes());
+    assertSame(none, none.withPublicOrPaid("entire"));
+  }
+}
@@ -0,0 +1,125 @@
+package com.project.chamjimayo.service.nearby;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.project.chamjimayo.service.dto.RestroomSnapshotRow;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class RestroomSnapshotTest {
+
+  // 서울시청
+  private static final double LATITUDE = 37.5663;
+  private static final double LONGITUDE = 126.9779;
+
+  @DisplayName("반경 안의 화장실만 찾고, 속성 필터에 맞지 않는 화장실은 제외한다.")
+  @Test
+  void findNearBy() {
+    RestroomSnapshot sut = RestroomSnapshot.of(List.of(
+        row(3L, LATITUDE + 0.001, LONGITUDE, "paid", 500),
+        row(1L, LATITUDE, LONGITUDE, "public", 0),
+        row(2L, LATITUDE + 0.1, LONGITUDE, "public", 0)));
+
+    NearByCandidates all = sut.findNearBy(LATITUDE, LONGITUDE, 1000, -1, NearByFilter.none());
+    int[] order = all.order("distance", sut);
+    assertEquals(2, all.size());
+    assertEquals(1L, sut.id(all.index(order[0])));
+    assertEquals(3L, sut.id(all.index(order[1])));
+
+    NearByCandidates paid = sut.findNearBy(LATITUDE, LONGITUDE, 1000, -1,
+        NearByFilter.none().withPublicOrPaid("paid"));
+    assertEquals(1, paid.size());
+    assertEquals(3L, sut.id(paid.index(0)));
+  }
+
+  @DisplayName("바뀐 화장실만 반영한 새 스냅샷을 만들고, 기존 스냅샷은 그대로 둔다.")
+  @Test
+  void withRows() {
+    RestroomSnapshot original = RestroomSnapshot.of(List.of(
+        row(1L, LATITUDE, LONGITUDE, "public", 0),
+        row(2L, LATITUDE, LONGITUDE, "public", 0)));
+
+    RestroomSnapshot updated = original.withRows(List.of(
+        row(2L, LATITUDE + 1, LONGITUDE, "public", 0),
+        row(5L, LATITUDE, LONGITUDE, "public", 0)));
+
+    assertEquals(2, original.size());
+    assertEquals(LATITUDE, original.latitude(original.indexOf(2L)));
+    assertEquals(3, updated.size());
+    assertEquals(LATITUDE + 1, updated.latitude(updated.indexOf(2L)));
+    assertTrue(updated.indexOf(5L) >= 0);
+  }
+
+  @DisplayName("새 id 가 중간에 끼어도 id 순서를 유지한다.")
+  @Test
+  void withRowsKeepsIdOrder() {
+    RestroomSnapshot original = RestroomSnapshot.of(List.of(
+        row(1L, LATITUDE, LONGITUDE, "public", 0),
+        row(3L, LATITUDE, LONGITUDE, "public", 0)));
+
+    RestroomSnapshot updated = original.withRows(List.of(
+        row(2L, LATITUDE, LONGITUDE, "paid", 1000)));
+
+    assertEquals(1L, updated.id(0));
+    assertEquals(2L, updated.id(1));
+    assertEquals(3L, updated.id(2));
+  }
+
+  @DisplayName("바뀐 id 중 다시 조회되지 않은(삭제되었거나 사용할 수 없는) 화장실은 스냅샷에서 뺀다.")
+  @Test
+  void withRowsRemovesMissingIds() {
+    RestroomSnapshot original = RestroomSnapshot.of(List.of(
+        row(1L, LATITUDE, LONGITUDE, "public", 0),
+        row(2L, LATITUDE, LONGITUDE, "public", 0),
+        row(3L, LATITUDE, LONGITUDE, "public", 0)));
+
+    RestroomSnapshot updated = original.withRows(List.of(2L, 3L, 4L), List.of(
+        row(3L, LATITUDE + 1, LONGITUDE, "public", 0),
+        row(4L, LATITUDE, LONGITUDE, "public", 0)));
+
+    assertEquals(3, updated.size());
+    assertEquals(-1, updated.indexOf(2L));
+    assertEquals(1L, updated.id(0));
+    assertEquals(3L, updated.id(1));
+    assertEquals(LATITUDE + 1, updated.latitude(updated.indexOf(3L)));
+    assertEquals(4L, updated.id(2));
+    assertEquals(3, original.size());
+  }
+
+  @DisplayName("별점 순 정렬은 별점이 같으면 가까운 순으로 정렬한다.")
+  @Test
+  void orderByRating() {
+    RestroomSnapshot sut = RestroomSnapshot.of(List.of(
+        row(1L, LATITUDE + 0.002, LONGITUDE, 4.0f),
+        row(2L, LATITUDE + 0.001, LONGITUDE, 4.0f),
+        row(3L, LATITUDE + 0.003, LONGITUDE, 4.5f),
+        row(4L, LATITUDE, LONGITUDE, 3.0f)));
+    NearByCandidates candidates = sut.findNearBy(LATITUDE, LONGITUDE, 1000, -1,
+        NearByFilter.none());
+
+    assertArrayEquals(new long[]{3L, 2L, 1L, 4L}, ids(sut, candidates, "rating_des"));
+    assertArrayEquals(new long[]{4L, 2L, 1L, 3L}, ids(sut, candidates, "rating_asc"));
+    assertArrayEquals(new long[]{4L, 2L, 1L, 3L}, ids(sut, candidates, "distance"));
+  }
+
+  private long[] ids(RestroomSnapshot snapshot, NearByCandidates candidates, String sortBy) {
+    int[] order = candidates.order(sortBy, snapshot);
+    long[] ids = new long[order.length];
+    for (int i = 0; i < order.length; i++) {
+      ids[i] = snapshot.id(candidates.index(order[i]));
+    }
+    return ids;
+  }
+
+  private RestroomSnapshotRow row(Long id, double latitude, double longitude, float rating) {
+    return new RestroomSnapshotRow(id, latitude, longitude, rating, 0, 1, 1, true, true,
+        "public", 1, 1, null);
+  }
+
+  private RestroomSnapshotRow row(Long id, double latitude, double longitude,
+      String publicOrPaid, int price) {
+    return new RestroomSnapshotRow(id, latitude, longitude, 4.0f, price, 1, 1, true, true,
+        publicOrPaid, 1, 1, null);
+  }
+}
@@ -0,0 +1,63 @@
+package com.project.chamjimayo.service.operatinghour;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class OperatingHoursTest {
+
+  // 2024-01-01 은 월요일
+  @DisplayName("개방 시간 문자열을 해석해서 해당 시각에 열려 있는지 판단한다.")
+  @ParameterizedTest(name = "{0} @ {1} -> {2}")
+  @CsvSource(delimiter = '|', value = {
+      "24시간|2024-01-03T03:00|true",
+      "연중무휴|2024-01-02T02:00|true",
+      "09:00~18:00|2024-01-03T09:00|true",
+      "09:00~18:00|2024-01-03T17:59|true",
+      "09:00~18:00|2024-01-03T18:00|false",
+      "09:00~18:00|2024-01-03T08:59|false",
+      "정시(09:00~18:00)|2024-01-02T10:00|true",
+      "9시~18시 30분|2024-01-02T18:15|true",
+      "9시~18시 30분|2024-01-02T18:30|false",
+      "00:00~24:00|2024-01-02T23:50|true",
+      "22:00-06:00|2024-01-07T23:30|true",
+      "22:00-06:00|2024-01-01T05:00|true",
+      "22:00-06:00|2024-01-01T07:00|false",
+      "'평일 09:00~18:00, 주말 10:00~17:00'|2024-01-06T10:00|true",
+      "'평일 09:00~18:00, 주말 10:00~17:00'|2024-01-06T09:30|false",
+      "월~금 09:00~18:00 / 토요일 휴무|2024-01-05T12:00|true",
+      "월~금 09:00~18:00 / 토요일 휴무|2024-01-06T12:00|false",
+      "'09:00~18:00, 일요일 휴무'|2024-01-07T12:00|false",
+      "'09:00~18:00, 일요일 휴무'|2024-01-06T12:00|true",
+      "'토, 일 10:00~17:00'|2024-01-06T11:00|true",
+      "'토, 일 10:00~17:00'|2024-01-05T11:00|false",
+      "24시간 (휴무 없음)|2024-01-07T03:00|true",
+      "연중 휴무없음|2024-01-06T23:50|true",
+      "24시간 (토요일 휴무)|2024-01-05T12:00|true",
+      "24시간 (토요일 휴무)|2024-01-06T12:00|false",
+  })
+  void isOpen(String operatingHour, LocalDateTime at, boolean expected) {
+    byte[] bitmap = OperatingHours.parse(operatingHour);
+
+    assertEquals(expected, OperatingHours.isOpen(bitmap, OperatingHours.slotOf(at)));
+  }
+
+  @DisplayName("해석할 수 없는 개방 시간은 null 이고, 어느 시각에도 열려 있지 않다고 본다.")
+  @Test
+  void unknown() {
+    assertNull(OperatingHours.parse("개방시간 문의"));
+    assertNull(OperatingHours.parse(" "));
+    assertNull(OperatingHours.parse("휴무"));
+    assertFalse(OperatingHours.isOpen(null, 0));
+  }
+
+  @DisplayName("비트맵은 일주일 15분 칸 672개를 84바이트에 담는다.")
+  @Test
+  void bitmapSize() {
+    assertEquals(84, OperatingHours.parse("24시간").length);
+  }
+}
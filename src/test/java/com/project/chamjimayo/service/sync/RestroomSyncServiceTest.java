@@ -0,0 +1,182 @@
+package com.project.chamjimayo.service.sync;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.project.chamjimayo.controller.config.RestroomProperties;
+import com.project.chamjimayo.controller.dto.response.RestroomChangesResponse;
+import com.project.chamjimayo.controller.dto.response.RestroomSyncResponse;
+import com.project.chamjimayo.repository.RestroomChangeRepository;
+import com.project.chamjimayo.repository.RestroomJpaRepository;
+import com.project.chamjimayo.repository.domain.entity.Restroom;
+import com.project.chamjimayo.service.SyncCheckpointService;
+import com.project.chamjimayo.service.dto.RestroomChangeDto;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class RestroomSyncServiceTest {
+
+  private static final Instant NOW = Instant.parse("2023-09-01T00:00:00Z");
+
+  // NOW 에서 기본 syncStableLag(5초)를 뺀 시각
+  private static final LocalDateTime HORIZON = LocalDateTime.of(2023, 8, 31, 23, 59, 55);
+
+  @Mock
+  private RestroomJpaRepository restroomJpaRepository;
+
+  @Mock
+  private RestroomChangeRepository restroomChangeRepository;
+
+  @Mock
+  private SyncCheckpointService syncCheckpointService;
+
+  private RestroomSyncService sut;
+
+  @BeforeEach
+  void setup() {
+    sut = new RestroomSyncService(restroomJpaRepository, restroomChangeRepository,
+        syncCheckpointService, new RestroomProperties(), Clock.fixed(NOW, ZoneOffset.UTC));
+    when(syncCheckpointService.getCheckpoint(RestroomChangeCompactor.PRUNED_CHANGE_CHECKPOINT))
+        .thenReturn(Optional.empty());
+  }
+
+  @DisplayName("같은 화장실의 여러 변경은 현재 상태 한 건으로 합쳐서 내려준다.")
+  @Test
+  void collapseChangesPerRestroom() {
+    when(restroomChangeRepository.findChangesAfter(10L, HORIZON, PageRequest.of(0, 10)))
+        .thenReturn(List.of(change(11, 1), change(12, 2), change(13, 1)));
+    when(restroomJpaRepository.findAllById(Set.of(1L, 2L)))
+        .thenReturn(List.of(restroom(2L, true), restroom(1L, true)));
+
+    RestroomChangesResponse response = sut.changes(SyncToken.delta(10L).encode(), 10);
+
+    assertEquals(List.of(1L, 2L), restroomIds(response));
+    assertTrue(response.getDeletedRestroomIds().isEmpty());
+    assertEquals(SyncToken.delta(13L).encode(), response.getNextToken());
+    assertFalse(response.isHasMore());
+    assertFalse(response.isResnapshot());
+  }
+
+  @DisplayName("사용할 수 없게 되었거나 지워진 화장실은 삭제된 화장실 id 로 내려준다.")
+  @Test
+  void tombstonesForInactiveOrMissingRestrooms() {
+    when(restroomChangeRepository.findChangesAfter(10L, HORIZON, PageRequest.of(0, 10)))
+        .thenReturn(List.of(change(11, 1), change(12, 2), change(13, 3)));
+    when(restroomJpaRepository.findAllById(Set.of(1L, 2L, 3L)))
+        .thenReturn(List.of(restroom(1L, true), restroom(2L, false)));
+
+    RestroomChangesResponse response = sut.changes(SyncToken.delta(10L).encode(), 10);
+
+    assertEquals(List.of(1L), restroomIds(response));
+    assertEquals(List.of(2L, 3L), response.getDeletedRestroomIds());
+  }
+
+  @DisplayName("syncStableLag 보다 최근의 변경은 조회하지 않고, 받을 변경이 없으면 같은 토큰을 돌려준다.")
+  @Test
+  void readOnlyChangesBeforeHorizon() {
+    when(restroomChangeRepository.findChangesAfter(anyLong(), any(), any()))
+        .thenReturn(List.of());
+
+    String since = SyncToken.delta(10L).encode();
+    RestroomChangesResponse response = sut.changes(since, 10);
+
+    verify(restroomChangeRepository).findChangesAfter(10L, HORIZON, PageRequest.of(0, 10));
+    assertEquals(since, response.getNextToken());
+    assertFalse(response.isHasMore());
+    verify(restroomJpaRepository, never()).findAllById(any());
+  }
+
+  @DisplayName("한 페이지가 가득 차면 hasMore 로 바로 다음 변경을 받게 한다.")
+  @Test
+  void hasMoreWhenPageIsFull() {
+    when(restroomChangeRepository.findChangesAfter(10L, HORIZON, PageRequest.of(0, 2)))
+        .thenReturn(List.of(change(11, 1), change(12, 1)));
+    when(restroomJpaRepository.findAllById(Set.of(1L)))
+        .thenReturn(List.of(restroom(1L, true)));
+
+    RestroomChangesResponse response = sut.changes(SyncToken.delta(10L).encode(), 2);
+
+    assertTrue(response.isHasMore());
+    assertEquals(SyncToken.delta(12L).encode(), response.getNextToken());
+  }
+
+  @DisplayName("전체 목록을 다 받으면 목록을 받기 시작한 시점의 변경 번호부터 delta 로 넘어간다.")
+  @Test
+  void handOffFromSnapshotToDelta() {
+    when(restroomChangeRepository.findMaxChangeSeqBefore(HORIZON)).thenReturn(40L);
+    when(restroomJpaRepository.findActiveRestroomsAfter(0L, PageRequest.of(0, 2)))
+        .thenReturn(List.of(restroom(1L, true), restroom(2L, true)));
+    when(restroomJpaRepository.findActiveRestroomsAfter(2L, PageRequest.of(0, 2)))
+        .thenReturn(List.of(restroom(5L, true)));
+    when(restroomChangeRepository.findChangesAfter(40L, HORIZON, PageRequest.of(0, 2)))
+        .thenReturn(List.of());
+
+    RestroomChangesResponse first = sut.changes(null, 2);
+    assertEquals(List.of(1L, 2L), restroomIds(first));
+    assertEquals(SyncToken.snapshot(40L, 2L).encode(), first.getNextToken());
+    assertTrue(first.isHasMore());
+
+    RestroomChangesResponse last = sut.changes(first.getNextToken(), 2);
+    assertEquals(List.of(5L), restroomIds(last));
+    assertEquals(SyncToken.delta(40L).encode(), last.getNextToken());
+    assertTrue(last.isHasMore());
+
+    RestroomChangesResponse delta = sut.changes(last.getNextToken(), 2);
+    assertTrue(delta.getRestrooms().isEmpty());
+    assertFalse(delta.isHasMore());
+  }
+
+  @DisplayName("지워진 변경보다 앞의 토큰은 전체 목록부터 다시 내려준다.")
+  @Test
+  void resnapshotWhenTokenIsPruned() {
+    when(syncCheckpointService.getCheckpoint(RestroomChangeCompactor.PRUNED_CHANGE_CHECKPOINT))
+        .thenReturn(Optional.of(100L));
+    when(restroomChangeRepository.findMaxChangeSeqBefore(HORIZON)).thenReturn(null);
+    when(restroomJpaRepository.findActiveRestroomsAfter(0L, PageRequest.of(0, 10)))
+        .thenReturn(List.of(restroom(1L, true)));
+
+    RestroomChangesResponse response = sut.changes(SyncToken.delta(50L).encode(), 10);
+
+    assertTrue(response.isResnapshot());
+    assertEquals(List.of(1L), restroomIds(response));
+    assertEquals(SyncToken.delta(100L).encode(), response.getNextToken());
+    verify(restroomChangeRepository, never()).findChangesAfter(eq(50L), any(), any());
+  }
+
+  private static RestroomChangeDto change(long changeSeq, long restroomId) {
+    return new RestroomChangeDto(changeSeq, restroomId);
+  }
+
+  private static Restroom restroom(Long restroomId, boolean status) {
+    Restroom restroom = Restroom.builder().restroomName("화장실" + restroomId).build();
+    ReflectionTestUtils.setField(restroom, "restroomId", restroomId);
+    ReflectionTestUtils.setField(restroom, "status", status);
+    return restroom;
+  }
+
+  private static List<Long> restroomIds(RestroomChangesResponse response) {
+    return response.getRestrooms().stream()
+        .map(RestroomSyncResponse::getRestroomId)
+        .collect(Collectors.toList());
+  }
+}
@@ -0,0 +1,30 @@
+package com.project.chamjimayo.service.sync;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.project.chamjimayo.service.exception.IndexException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SyncTokenTest {
+
+  @DisplayName("토큰을 문자열로 바꿨다가 다시 읽으면 같은 위치가 된다.")
+  @Test
+  void encodeAndParse() {
+    SyncToken snapshot = SyncToken.parse(SyncToken.snapshot(120L, 3_000L).encode());
+    assertTrue(snapshot.isSnapshot());
+    assertEquals(120L, snapshot.getChangeSeq());
+    assertEquals(3_000L, snapshot.getLastRestroomId());
+
+    SyncToken delta = SyncToken.parse(SyncToken.delta(150L).encode());
+    assertFalse(delta.isSnapshot());
+    assertEquals(150L, delta.getChangeSeq());
+  }
+
+  @DisplayName("형식이 맞지 않는 토큰은 거부한다.")
+  @Test
+  void parseInvalidToken() {
+    assertThrows(IndexException.class, () -> SyncToken.parse("not a token"));
+    assertThrows(IndexException.class, () -> SyncToken.parse("eC4x"));
+  }
+}
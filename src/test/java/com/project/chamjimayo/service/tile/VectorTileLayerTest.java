@@ -0,0 +1,43 @@
+package com.project.chamjimayo.service.tile;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class VectorTileLayerTest {
+
+  @DisplayName("점 하나를 담은 레이어를 Mapbox Vector Tile 형식으로 인코딩한다.")
+  @Test
+  void toTile() {
+    VectorTileLayer sut = new VectorTileLayer("r", 4096);
+    sut.tag("price", 500).addPoint(7, 1, -1);
+
+    byte[] expected = {
+        26, 35,                                   // Tile.layers (35 bytes)
+        120, 2,                                   // Layer.version = 2
+        10, 1, 'r',                               // Layer.name = "r"
+        18, 13,                                   // Layer.features (13 bytes)
+        8, 7,                                     //   Feature.id = 7
+        18, 2, 0, 0,                              //   Feature.tags = [0, 0]
+        24, 1,                                    //   Feature.type = POINT
+        34, 3, 9, 2, 1,                           //   Feature.geometry = MoveTo(1, -1)
+        26, 5, 'p', 'r', 'i', 'c', 'e',           // Layer.keys = "price"
+        34, 3, 32, (byte) 0xF4, 3,                // Layer.values = int 500
+        40, (byte) 0x80, 32                       // Layer.extent = 4096
+    };
+    assertArrayEquals(expected, sut.toTile());
+  }
+
+  @DisplayName("같은 속성 키와 값은 레이어에 한 번만 쓴다.")
+  @Test
+  void deduplicateKeysAndValues() {
+    VectorTileLayer sut = new VectorTileLayer("r", 4096);
+    sut.tag("price", 500).addPoint(1, 0, 0);
+    byte[] single = sut.toTile();
+    sut.tag("price", 500).addPoint(2, 0, 0);
+
+    // 두 번째 피처(13 bytes + 필드 헤더 2 bytes)만큼만 늘어난다.
+    assertEquals(single.length + 15, sut.toTile().length);
+  }
+}
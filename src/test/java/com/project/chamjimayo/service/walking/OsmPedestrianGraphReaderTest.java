@@ -0,0 +1,38 @@
+package com.project.chamjimayo.service.walking;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.project.chamjimayo.service.nearby.GeoDistance;
+import java.nio.file.Path;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class OsmPedestrianGraphReaderTest {
+
+  @DisplayName("걸을 수 없는 길(자동차 전용, 사유지)은 빼고, 다리를 건너 돌아가는 도보 거리를 구한다.")
+  @Test
+  void read() throws Exception {
+    Path file = Path.of(getClass().getResource("/osm/river.osm").toURI());
+
+    PedestrianGraph sut = new OsmPedestrianGraphReader().read(file);
+
+    assertEquals(4, sut.nodeCount());
+    assertEquals(3, sut.edgeCount());
+
+    int source = sut.nearestNode(37.5001, 127.0001, 100);
+    int target = sut.nearestNode(37.5099, 127.0001, 100);
+    int unknown = sut.nearestNode(37.505, 127.005, 100);
+    assertEquals(-1, unknown);
+
+    double expected = GeoDistance.haversine(37.500, 127.000, 37.500, 127.010)
+        + GeoDistance.haversine(37.500, 127.010, 37.510, 127.010)
+        + GeoDistance.haversine(37.510, 127.010, 37.510, 127.000);
+    double[] distances = sut.distances(source, new int[]{target, source, -1}, 5000);
+    assertEquals(expected, distances[0], 1);
+    assertEquals(0, distances[1]);
+    assertEquals(-1, distances[2]);
+
+    // 탐색 한도를 넘으면 도달할 수 없다고 본다.
+    assertEquals(-1, sut.distances(source, new int[]{target}, 2000)[0]);
+  }
+}